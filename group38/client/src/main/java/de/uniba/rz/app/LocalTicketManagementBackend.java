@@ -5,8 +5,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -46,6 +50,19 @@ public class LocalTicketManagementBackend implements TicketManagementBackend {
 					.collect(Collectors.toList());
 	}
 
+	@Override
+	public TicketPage getTicketPage(int afterId, int pageSize) throws TicketException {
+		// ids are handed out densely, so the page is looked up id by id
+		List<Ticket> tickets = new ArrayList<>();
+		for (int id = Math.max(afterId, 0) + 1; id < nextId.get() && tickets.size() <= pageSize; id++) {
+			Ticket ticket = localTicketStore.get(id);
+			if (ticket != null) {
+				tickets.add((Ticket) ticket.clone());
+			}
+		}
+		return TicketPage.of(tickets, afterId, pageSize);
+	}
+
 	@Override
 	public Ticket getTicketById(int id) throws TicketException {
 		logger.info("Getting Tickets By ID: "+id);
@@ -106,4 +123,55 @@ public class LocalTicketManagementBackend implements TicketManagementBackend {
 		return (Ticket) ticketToModify.clone();
 	}
 
+	@Override
+	public List<Ticket> getTicketsByNamePrefix(String prefix) throws TicketException {
+		String key = prefix.toLowerCase(Locale.ROOT);
+		return localTicketStore.values().stream()
+				.filter(ticket -> ticket.getTopic() != null && ticket.getTopic().toLowerCase(Locale.ROOT).startsWith(key))
+				.map(ticket -> (Ticket) ticket.clone())
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<Ticket> getTicketsBySimilarName(String name) throws TicketException {
+		String key = name.toLowerCase(Locale.ROOT);
+		int maxEdits = key.length() < 5 ? 1 : 2;
+		return localTicketStore.values().stream()
+				.filter(ticket -> ticket.getTopic() != null)
+				.filter(ticket -> editDistance(key, ticket.getTopic().toLowerCase(Locale.ROOT)) <= maxEdits)
+				.sorted(Comparator.comparingInt(ticket -> editDistance(key, ticket.getTopic().toLowerCase(Locale.ROOT))))
+				.map(ticket -> (Ticket) ticket.clone())
+				.collect(Collectors.toList());
+	}
+
+	private static int editDistance(String a, String b) {
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			for (int j = 1; j <= b.length(); j++) {
+				int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+				current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[b.length()];
+	}
+
+	@Override
+	public List<String> completeTopic(String prefix, int limit) throws TicketException {
+		Map<String, Long> counts = getTicketsByNamePrefix(prefix).stream()
+				.collect(Collectors.groupingBy(Ticket::getTopic, LinkedHashMap::new, Collectors.counting()));
+		return counts.entrySet().stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+				.limit(limit)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+	}
+
 }
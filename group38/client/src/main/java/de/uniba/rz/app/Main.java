@@ -83,7 +83,9 @@ public class Main {
 				case "local":
 					return new LocalTicketManagementBackend();
 				case "udp":
-					return new UdpTicketManagementBackend(host, port);
+					// optional datagram size, which must not exceed the udp.byteSize of the server
+					int mtu = args.length > 3 ? Integer.parseInt(args[3]) : UdpTicketManagementBackend.DEFAULT_MTU;
+					return new UdpTicketManagementBackend(host, port, mtu, UdpTicketManagementBackend.DEFAULT_TIMEOUT_MILLIS);
 				case "amqp":
 					return new AMPQTicketManagementBackend(host, queueName);
 				case "http":
@@ -1,11 +1,17 @@
 package de.uniba.rz.app;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import de.uniba.rz.entities.ticket.Priority;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
 import de.uniba.rz.entities.ticket.TicketException;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
 
 /**
@@ -35,6 +41,30 @@ public interface TicketManagementBackend extends Shutdown, TicketSearchBackend {
 	Ticket createNewTicket(String reporter, String topic, String description, Type type, Priority priority)
 			throws TicketException;
 
+	/**
+	 * Method to create a batch of new Tickets, e.g., when importing tickets
+	 * from another system. Only reporter, topic, description, type and
+	 * priority of the given tickets are used, the ids are assigned by the
+	 * server.
+	 * 
+	 * The default implementation creates the tickets one by one, backends
+	 * override it to send the whole batch in one request.
+	 * 
+	 * @param tickets
+	 *            the tickets to be created
+	 * @return the newly created {@link Ticket}s in the order of the batch
+	 * @throws TicketException
+	 *             if the creation failed
+	 */
+	default List<Ticket> createNewTickets(List<Ticket> tickets) throws TicketException {
+		List<Ticket> created = new ArrayList<>(tickets.size());
+		for (Ticket ticket : tickets) {
+			created.add(createNewTicket(ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+					ticket.getType(), ticket.getPriority()));
+		}
+		return created;
+	}
+
 	/**
 	 * Returns a list of {@link Ticket}s currently available in the system.
 	 * 
@@ -44,6 +74,75 @@ public interface TicketManagementBackend extends Shutdown, TicketSearchBackend {
 	 */
 	List<Ticket> getAllTickets() throws TicketException;
 
+	/**
+	 * Returns at most {@code pageSize} {@link Ticket}s with an id greater than
+	 * {@code afterId}, ordered by id. The first page is requested with
+	 * {@code afterId} -1, every following one with the
+	 * {@link TicketPage#getNextAfterId() cursor} of the previous page.
+	 * 
+	 * The default implementation fetches all tickets and cuts the page out of
+	 * them, backends override it to only transfer the page.
+	 * 
+	 * @param afterId
+	 *            the cursor, i.e., the id of the last ticket already read
+	 * @param pageSize
+	 *            the maximum number of tickets in the page
+	 * @return the {@link TicketPage}
+	 * @throws TicketException
+	 *             if technical problems occur
+	 */
+	default TicketPage getTicketPage(int afterId, int pageSize) throws TicketException {
+		List<Ticket> tickets = getAllTickets().stream()
+				.filter(ticket -> ticket.getId() > afterId)
+				.sorted(Comparator.comparingInt(Ticket::getId))
+				.limit(pageSize + 1L)
+				.collect(Collectors.toList());
+		return TicketPage.of(tickets, afterId, pageSize);
+	}
+
+	/**
+	 * Returns at most {@code limit} {@link Ticket}s with {@code Status.NEW} in
+	 * the order they should be triaged, {@code Priority.CRITICAL} first and
+	 * the oldest first within a priority.
+	 * 
+	 * The default implementation fetches all tickets and sorts them, backends
+	 * override it to let the server answer from its triage queue.
+	 * 
+	 * @param limit
+	 *            the maximum number of tickets
+	 * @return the list of {@link Ticket}s
+	 * @throws TicketException
+	 *             if technical problems occur
+	 */
+	default List<Ticket> getTicketsToTriage(int limit) throws TicketException {
+		return getAllTickets().stream()
+				.filter(ticket -> ticket.getStatus() == Status.NEW && ticket.getPriority() != null)
+				.sorted(Comparator.comparing(Ticket::getPriority).thenComparingInt(Ticket::getId))
+				.limit(Math.max(0, limit))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the number of {@link Ticket}s per {@link Status}, {@link Type}
+	 * and {@link Priority}, e.g., for a dashboard polling them.
+	 * 
+	 * The default implementation fetches and counts all tickets, backends
+	 * override it to let the server answer from its counters.
+	 * 
+	 * @return the {@link TicketStatistics}
+	 * @throws TicketException
+	 *             if technical problems occur
+	 */
+	default TicketStatistics getStatistics() throws TicketException {
+		long[] counts = new long[TicketStatistics.SIZE];
+		for (Ticket ticket : getAllTickets()) {
+			if (ticket.getStatus() != null && ticket.getType() != null && ticket.getPriority() != null) {
+				counts[TicketStatistics.index(ticket.getStatus(), ticket.getType(), ticket.getPriority())]++;
+			}
+		}
+		return new TicketStatistics(counts);
+	}
+
 	/**
 	 * Returns a single {@link Ticket} with the given {@code id}
 	 * 
@@ -106,4 +205,47 @@ public interface TicketManagementBackend extends Shutdown, TicketSearchBackend {
 	 */
 	Ticket closeTicket(int id) throws TicketException;
 
+	/**
+	 * Method to change the {@link Status} of several Tickets at once, e.g.,
+	 * to close all tickets of an incident. Each ticket succeeds or fails on
+	 * its own, just like with {@link #acceptTicket(int)},
+	 * {@link #rejectTicket(int)} and {@link #closeTicket(int)}.
+	 * 
+	 * The default implementation changes the tickets one by one, backends
+	 * override it to send the whole batch in one request.
+	 * 
+	 * @param ids
+	 *            the Ids of the tickets to be changed
+	 * @param newStatus
+	 *            {@code Status.ACCEPTED}, {@code Status.REJECTED} or
+	 *            {@code Status.CLOSED}
+	 * @return the {@link TransitionResult} telling for every id whether
+	 *         the status changed
+	 * @throws TicketException
+	 *             if technical problems occur
+	 */
+	default TransitionResult updateTicketStatuses(int[] ids, Status newStatus) throws TicketException {
+		TransitionResult result = new TransitionResult(ids);
+		for (int i = 0; i < ids.length; i++) {
+			try {
+				switch (newStatus) {
+				case ACCEPTED:
+					result.succeed(i, acceptTicket(ids[i]));
+					break;
+				case REJECTED:
+					result.succeed(i, rejectTicket(ids[i]));
+					break;
+				case CLOSED:
+					result.succeed(i, closeTicket(ids[i]));
+					break;
+				default:
+					result.fail(i, "Can not move a Ticket to status " + newStatus);
+				}
+			} catch (TicketException e) {
+				result.fail(i, e.getMessage());
+			}
+		}
+		return result;
+	}
+
 }
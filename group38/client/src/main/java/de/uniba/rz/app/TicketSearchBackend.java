@@ -32,4 +32,41 @@ public interface TicketSearchBackend {
 	default List<Ticket> getTicketsByNameAndType(String name, Type type) throws TicketException {
 		throw new UnsupportedOperationException("Not implemented yet");
 	}
+
+	/**
+	 * Method to search for Tickets whose topic starts with the given prefix,
+	 * ignoring case
+	 * 
+	 * @param prefix The beginning of the topic of the tickets to be searched
+	 * @return a list of {@link Ticket} whose topic starts with {@code prefix}
+	 * @throws TicketException if something failed
+	 */
+	default List<Ticket> getTicketsByNamePrefix(String prefix) throws TicketException {
+		throw new UnsupportedOperationException("Not implemented yet");
+	}
+
+	/**
+	 * Method to search for Tickets whose topic is similar to the given name,
+	 * i.e., differs from it by a few typos
+	 * 
+	 * @param name The possibly misspelled topic of the tickets to be searched
+	 * @return a list of {@link Ticket} with similar topics, closest first
+	 * @throws TicketException if something failed
+	 */
+	default List<Ticket> getTicketsBySimilarName(String name) throws TicketException {
+		throw new UnsupportedOperationException("Not implemented yet");
+	}
+
+	/**
+	 * Method to complete a partially typed topic
+	 * 
+	 * @param prefix The beginning of the topic typed so far
+	 * @param limit The maximum number of completions
+	 * @return the known topics starting with {@code prefix}, the topic of most
+	 *         tickets first
+	 * @throws TicketException if something failed
+	 */
+	default List<String> completeTopic(String prefix, int limit) throws TicketException {
+		throw new UnsupportedOperationException("Not implemented yet");
+	}
 }
\ No newline at end of file
@@ -34,13 +34,33 @@ public class AMPQTicketManagementBackend implements TicketManagementBackend {
         Ticket ticket = new Ticket(ticketId.getAndIncrement(),reporter,topic,description,type,priority);
         logger.info("createNewTicket :: "+ticket);
         Request request = new Request(ticket,MessageType.CREATE);
-        Response response = client.sendCreateNewTicketQueue(request);
+        Response response = checked(client.sendCreateNewTicketQueue(request));
         if(response != null && response.getTickets().size() == 1)
             return response.getTickets().get(0);
         else
             throw new TicketException("Ticket could not be created");
     }
 
+    @Override
+    public List<Ticket> createNewTickets(List<Ticket> tickets) throws TicketException {
+        logger.info("createNewTickets :: "+tickets.size());
+        Response response = checked(client.sendCreateNewTicketsQueue(new Request(new ArrayList<>(tickets))));
+        if (response != null && response.getTickets() != null && response.getTickets().size() == tickets.size())
+            return response.getTickets();
+        else
+            throw new TicketException("Tickets could not be created");
+    }
+
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ids, Status newStatus) throws TicketException {
+        logger.info("updateTicketStatuses :: "+ids.length+" :: "+newStatus);
+        Response response = checked(client.sendStatusesUpdateQueue(new Request(ids, newStatus)));
+        if (response != null && response.getTransitionResult() != null)
+            return response.getTransitionResult();
+        else
+            throw new TicketException("Ticket statuses could not be updated");
+    }
+
     @Override
     public List<Ticket> getAllTickets() throws TicketException {
         logger.info("getAllTickets :: getting all tickets");
@@ -49,6 +69,23 @@ public class AMPQTicketManagementBackend implements TicketManagementBackend {
         return response == null ? new ArrayList<>() : response.getTickets();
     }
 
+    @Override
+    public TicketPage getTicketPage(int afterId, int pageSize) throws TicketException {
+        logger.info("getTicketPage :: after " + afterId + " size " + pageSize);
+        Response response = checked(client.sendGetTicketPageQueue(new Request(afterId, pageSize)));
+        if (response == null || response.getPage() == null)
+            throw new TicketException("Could not fetch ticket page");
+        return response.getPage();
+    }
+
+    @Override
+    public TicketStatistics getStatistics() throws TicketException {
+        Response response = client.sendGetStatisticsQueue(new Request(MessageType.GET_STATISTICS));
+        if (response == null || response.getStatistics() == null)
+            throw new TicketException("Could not fetch ticket statistics");
+        return response.getStatistics();
+    }
+
     @Override
     public Ticket getTicketById(int id) {
         logger.info("getTicketsById :: "+ id);
@@ -61,12 +98,20 @@ public class AMPQTicketManagementBackend implements TicketManagementBackend {
 
     private Ticket updateStatus(int id, Status status) throws TicketException {
         Request request = new Request(UPDATE,id,status);
-        Response response = client.sendStatusUpdateQueue(request);
+        Response response = checked(client.sendStatusUpdateQueue(request));
         if (response != null && response.getTickets().size() == 1)
             return response.getTickets().get(0);
         else
             throw new TicketException("Could not update ticket status");
     }
+
+    // Rethrows the reason the server gave for rejecting the request
+    private static Response checked(Response response) throws TicketException {
+        if (response != null && response.getError() != null)
+            throw new TicketException(response.getError());
+        return response;
+    }
+
     @Override
     public Ticket acceptTicket(int id) throws TicketException {
         logger.info("acceptTicket :: Status updated to --> ACCEPTED :: Ticket ID : "+ id);
@@ -75,56 +120,26 @@ public class AMPQTicketManagementBackend implements TicketManagementBackend {
 
     @Override
     public List<Ticket> getTicketsByName(String name) throws TicketException {
-        List<Ticket> searchByNameList = new ArrayList<>();
-        logger.info("getAllTickets :: getting all tickets with Topic: "+name);
-        Request request = new Request(MessageType.GET_ALL);
-        Response response = client.sendGetAllTicketsQueue(request);
-        if (response == null){
-            return new ArrayList<>();
-        }
-        else
-        {
-            List<Ticket> tickets = response.getTickets();
-            for (Ticket t:tickets) {
-                if(t.getTopic().equals(name))
-                {
-                    searchByNameList.add(t);
-                }
-            }
-        }
-        if(searchByNameList.isEmpty()) {
-            logger.warn("Invalid Topic name or Type");
-            throw new TicketException("Ticket is not found");
-        }
-        else
-            return searchByNameList;
+        logger.info("getTicketsByName :: searching tickets for: "+name);
+        return searchTickets(name, null);
     }
 
     @Override
     public List<Ticket> getTicketsByNameAndType(String name, Type type) throws TicketException {
-        List<Ticket> searchByTypeList = new ArrayList<>();
-        logger.info("getAllTickets :: getting all tickets with Topic "+name+" and Type: "+type);
-        Request request = new Request(MessageType.GET_ALL);
-        Response response = client.sendGetAllTicketsQueue(request);
-        if (response == null){
-            return new ArrayList<>();
-        }
-        else
-        {
-            List<Ticket> tickets = response.getTickets();
-            for (Ticket t:tickets) {
-                if(t.getTopic().equals(name) && t.getType().equals(type))
-                {
-                    searchByTypeList.add(t);
-                }
-            }
-        }
-        if(searchByTypeList.isEmpty()) {
-            logger.warn("Invalid name or Type");
-            throw new TicketException("Ticket not found");
+        logger.info("getTicketsByNameAndType :: searching tickets for "+name+" of Type: "+type);
+        return searchTickets(name, type);
+    }
+
+    // The server looks the words up in its text index instead of sending every ticket
+    private List<Ticket> searchTickets(String name, Type type) throws TicketException {
+        Response response = client.sendSearchTicketsQueue(new Request(name, type));
+        if (response == null || response.getTickets() == null)
+            throw new TicketException("Could not search tickets");
+        if (response.getTickets().isEmpty()) {
+            logger.warn("Invalid Topic name or Type");
+            throw new TicketException("Ticket is not found");
         }
-        else
-            return searchByTypeList;
+        return response.getTickets();
     }
 
     @Override
@@ -59,6 +59,23 @@ public class HttpTicketManagementBackend implements TicketManagementBackend {
 
     }
 
+    @Override
+    public List<Ticket> createNewTickets(List<Ticket> tickets) throws TicketException {
+        logger.info("Creating " + tickets.size() + " tickets");
+        ArrayList<Ticket> created;
+        try {
+            Response response = ClientBuilder.newClient().target(url + "api/tickets/batch")
+                    .request(MediaType.APPLICATION_JSON)
+                    .post(Entity.entity(tickets, MediaType.APPLICATION_JSON));
+            created = new ObjectMapper().readValue(response.readEntity(String.class), new TypeReference<ArrayList<Ticket>>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new TicketException("Error in parsing JSON", e);
+        }
+        created.forEach(ticket -> localTicketHashMap.put(ticket.getId(), ticket));
+        return created;
+    }
+
     @Override
     public List<Ticket> getAllTickets() throws TicketException {
         ArrayList<Ticket> tickets;
@@ -84,6 +101,49 @@ public class HttpTicketManagementBackend implements TicketManagementBackend {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public TicketPage getTicketPage(int afterId, int pageSize) throws TicketException {
+        TicketPage page;
+        try {
+            Response response = ClientBuilder.newClient().target(url + "api/tickets/page")
+                    .queryParam("after", afterId)
+                    .queryParam("size", pageSize)
+                    .request(MediaType.APPLICATION_JSON).get();
+            page = new ObjectMapper().readValue(response.readEntity(String.class), TicketPage.class);
+        } catch (JsonProcessingException e) {
+            throw new TicketException("Error in parsing JSON", e);
+        }
+        page.getTickets().forEach(ticket -> localTicketHashMap.put(ticket.getId(), ticket));
+        return page;
+    }
+
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) throws TicketException {
+        ArrayList<Ticket> tickets;
+        try {
+            Response response = ClientBuilder.newClient().target(url + "api/tickets/triage")
+                    .queryParam("limit", limit)
+                    .request(MediaType.APPLICATION_JSON).get();
+            tickets = new ObjectMapper().readValue(response.readEntity(String.class), new TypeReference<ArrayList<Ticket>>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new TicketException("Error in parsing JSON", e);
+        }
+        tickets.forEach(ticket -> localTicketHashMap.put(ticket.getId(), ticket));
+        return tickets;
+    }
+
+    @Override
+    public TicketStatistics getStatistics() throws TicketException {
+        try {
+            Response response = ClientBuilder.newClient().target(url + "api/tickets/statistics")
+                    .request(MediaType.APPLICATION_JSON).get();
+            return new ObjectMapper().readValue(response.readEntity(String.class), TicketStatistics.class);
+        } catch (JsonProcessingException e) {
+            throw new TicketException("Error in parsing JSON", e);
+        }
+    }
+
     @Override
     public Ticket getTicketById(int id) throws TicketException {
         if(localTicketHashMap.containsKey(id))
@@ -94,6 +154,21 @@ public class HttpTicketManagementBackend implements TicketManagementBackend {
     }
 
 
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ids, Status newStatus) throws TicketException {
+        TransitionResult result;
+        try {
+            Response response = ClientBuilder.newClient().target(url + "api/tickets/status/" + newStatus)
+                    .request(MediaType.APPLICATION_JSON)
+                    .put(Entity.entity(ids, MediaType.APPLICATION_JSON));
+            result = new ObjectMapper().readValue(response.readEntity(String.class), TransitionResult.class);
+        } catch (JsonProcessingException e) {
+            throw new TicketException("Error in parsing JSON", e);
+        }
+        result.changedTickets().forEach(ticket -> localTicketHashMap.put(ticket.getId(), ticket));
+        return result;
+    }
+
     private Ticket updateTicketStatus(int id, Status status) throws TicketException {
         Ticket responseTicket = ClientBuilder.newClient().target(url+"api/ticket/update")
                 .request(MediaType.APPLICATION_JSON)
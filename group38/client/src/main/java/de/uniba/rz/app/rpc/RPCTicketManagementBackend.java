@@ -5,6 +5,9 @@ import de.uniba.rz.app.TicketManagementBackend;
 import de.uniba.rz.entities.ticket.Priority;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
 import de.uniba.rz.io.rpc.*;
 import io.grpc.ManagedChannel;
@@ -14,6 +17,7 @@ import org.apache.commons.lang3.SerializationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -56,6 +60,21 @@ public class RPCTicketManagementBackend extends TicketServiceGrpc.TicketServiceI
         return createdTicket;
     }
 
+    @Override
+    public List<Ticket> createNewTickets(List<Ticket> tickets) {
+        TicketBatchRequest.Builder request = TicketBatchRequest.newBuilder();
+        for (Ticket ticket : tickets) {
+            request.addTickets(TicketRequest.newBuilder().setDescription(ticket.getDescription())
+                    .setPriority(ticket.getPriority().toString()).setType(ticket.getType().toString())
+                    .setReporter(ticket.getReporter()).setTopic(ticket.getTopic()));
+        }
+        TicketBatchResponse response = this.syncStub.createTickets(request.build());
+        List<Ticket> createdTickets = new ArrayList<>(response.getTicketsCount());
+        response.getTicketsList().forEach(ticket -> createdTickets.add(storeBackTicket(ticket)));
+        broadcastReceiver();
+        return createdTickets;
+    }
+
     @Override
     public Ticket acceptTicket(int id) {
         TicketId ticketIdRequest = TicketId.newBuilder().setTicketId(id).build();
@@ -90,6 +109,53 @@ public class RPCTicketManagementBackend extends TicketServiceGrpc.TicketServiceI
         return (List<Ticket>) SerializationUtils.deserialize(ticketResponse.getAllTickets().toByteArray());
     }
 
+    @Override
+    public TicketPage getTicketPage(int afterId, int pageSize) {
+        TicketPageRequest request = TicketPageRequest.newBuilder().setAfterId(afterId).setPageSize(pageSize).build();
+        TicketPageResponse response = this.syncStub.getTicketPage(request);
+        List<Ticket> tickets = new ArrayList<>(response.getTicketsCount());
+        response.getTicketsList().forEach(ticket -> tickets.add(storeBackTicket(ticket)));
+        return new TicketPage(tickets, response.getNextAfterId(), response.getLast());
+    }
+
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) {
+        TriageResponse response = this.syncStub.getTicketsToTriage(TriageRequest.newBuilder().setLimit(limit).build());
+        List<Ticket> tickets = new ArrayList<>(response.getTicketsCount());
+        response.getTicketsList().forEach(ticket -> tickets.add(storeBackTicket(ticket)));
+        return tickets;
+    }
+
+    @Override
+    public TicketStatistics getStatistics() {
+        StatisticsResponse response = this.syncStub.getStatistics(Empty.newBuilder().build());
+        return new TicketStatistics(response.getCountsList().stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ids, Status newStatus) {
+        StatusBatchRequest.Builder request = StatusBatchRequest.newBuilder().setStatus(newStatus.toString());
+        for (int id : ids) {
+            request.addTicketIds(id);
+        }
+        StatusBatchResponse response = this.syncStub.updateTicketStatuses(request.build());
+        TransitionResult result = new TransitionResult(ids);
+        for (int i = 0; i < response.getErrorsCount(); i++) {
+            if (!response.getErrors(i).isEmpty()) {
+                result.fail(i, response.getErrors(i));
+            }
+        }
+        // the response lists the changed tickets only, in request order
+        int changed = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (result.succeeded(i)) {
+                result.succeed(i, storeBackTicket(response.getTickets(changed++)));
+            }
+        }
+        broadcastReceiver();
+        return result;
+    }
+
     private Ticket storeBackTicket(TicketResponse response) {
         Ticket tempTicket = new Ticket();
         tempTicket.setId(response.getId());
@@ -2,44 +2,96 @@ package de.uniba.rz.app.udp;
 
 import de.uniba.rz.app.TicketManagementBackend;
 import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
 import de.uniba.rz.entities.ticket.TicketException;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
+import de.uniba.rz.entities.udp.FragmentAssembler;
 import de.uniba.rz.entities.udp.Packet;
-import org.apache.commons.lang3.SerializationUtils;
+import de.uniba.rz.entities.udp.PacketCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
-import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Talks to the UDP server over one socket, with any number of requests in
+ * flight at once.
+ * <p>
+ * Every request carries an id which the server echoes in its reply. A
+ * receiver thread puts the reply fragments back together with a
+ * {@link FragmentAssembler} and completes the pending request of that id.
+ * A request that is not answered within {@code timeoutMillis} fails, a reply
+ * arriving after that is dropped. Requests are kept within {@code mtu}
+ * bytes, which must not exceed the {@code udp.byteSize} of the server. A
+ * request that can not be made to fit, like a ticket with a very long
+ * description, fails with a {@link TicketException} before anything is sent.
+ * <p>
+ * The {@code ...Async} methods return as soon as the request is sent, the
+ * methods of {@link TicketManagementBackend} wait for them. All methods are
+ * thread-safe.
+ */
 public class UdpTicketManagementBackend implements TicketManagementBackend {
 
     private static final Logger logger = LoggerFactory.getLogger(UdpTicketManagementBackend.class);
+    public static final int DEFAULT_MTU = 1024;
+    public static final int DEFAULT_TIMEOUT_MILLIS = 2000;
+    // largest UDP payload, so fragments of any server MTU fit
+    private static final int MAX_DATAGRAM_SIZE = 65507;
+    // an id takes at most five bytes in a request
+    private static final int MAX_ID_SIZE = 5;
+    // the fragments of a large reply arrive in bursts, the OS caps this at its own limit
+    private static final int RECEIVE_BUFFER_SIZE = 4 * 1024 * 1024;
 
-    private final String host;
-    private final int port;
+    private final InetSocketAddress server;
+    private final int mtu;
+    private final int timeoutMillis;
     private final DatagramSocket connection;
     private final AtomicInteger id;
-
-    private byte[] requestBuffer;
-    private byte[] responseBuffer;
+    private final AtomicInteger requestId = new AtomicInteger();
+    // request id -> caller waiting for the reply
+    private final Map<Integer, CompletableFuture<Object>> pendingRequests = new ConcurrentHashMap<>();
 
     public UdpTicketManagementBackend(String host, int port) {
-        this.host = host;
-        this.port = port;
+        this(host, port, DEFAULT_MTU, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public UdpTicketManagementBackend(String host, int port, int mtu, int timeoutMillis) {
+        this.server = new InetSocketAddress(host, port);
+        this.mtu = mtu;
+        this.timeoutMillis = timeoutMillis;
         this.id = new AtomicInteger(1);
         this.connection = setupConnection();
+        if (connection != null) {
+            Thread receiver = new Thread(this::receiveResponses, "udp-client-receiver");
+            receiver.setDaemon(true);
+            receiver.start();
+        }
     }
 
     private DatagramSocket setupConnection() {
         try {
-            return new DatagramSocket();
+            DatagramSocket socket = new DatagramSocket();
+            socket.setReceiveBufferSize(RECEIVE_BUFFER_SIZE);
+            return socket;
         } catch (SocketException e) {
             logError("Failed to set up connection: {}", e.getMessage(), e);
             return null;
@@ -51,137 +103,352 @@ public class UdpTicketManagementBackend implements TicketManagementBackend {
         if (connection != null) {
             connection.close();
         }
+        TicketException closed = new TicketException("Connection to the server is closed");
+        pendingRequests.values().forEach(pending -> pending.completeExceptionally(closed));
     }
 
     @Override
     public Ticket createNewTicket(String reporter, String topic, String description, Type type, Priority priority)
             throws TicketException {
+        return await(createNewTicketAsync(reporter, topic, description, type, priority));
+    }
+
+    public CompletableFuture<Ticket> createNewTicketAsync(String reporter, String topic, String description, Type type,
+                                                          Priority priority) {
         Ticket ticket = new Ticket(id.getAndIncrement(), reporter, topic, description, type, priority);
-        Packet packet = new Packet("createNewTicket", ticket);
         logInfo("createNewTicket --> {}", ticket);
-        sendRequest(packet);
-        String ack = (String) receiveResponse();
-        logInfo("createNewTicket --> Response From Server : {}", ack);
-        return (Ticket) ticket.clone();
+        return request("createNewTicket", ticket).thenApply(ack -> {
+            logInfo("createNewTicket --> Response From Server : {}", ack);
+            return (Ticket) ticket.clone();
+        });
+    }
+
+    /**
+     * Sends the batch in as few datagrams as fit, all at once, each answered
+     * with the ids of its tickets. The batch is cut into datagrams before any
+     * is sent, so a ticket too large for one datagram fails the whole batch
+     * instead of leaving it half created.
+     */
+    @Override
+    public List<Ticket> createNewTickets(List<Ticket> tickets) throws TicketException {
+        List<List<Ticket>> chunks = new ArrayList<>();
+        int from = 0;
+        while (from < tickets.size()) {
+            ArrayList<Ticket> chunk = new ArrayList<>();
+            // the request id takes at most five bytes on top
+            Packet request = new Packet("createNewTickets", Integer.MAX_VALUE, chunk);
+            for (int i = from; i < tickets.size(); i++) {
+                chunk.add(tickets.get(i));
+                if (PacketCodec.encodedSize(request) > mtu) {
+                    if (chunk.size() == 1) {
+                        throw tooLarge(PacketCodec.encodedSize(request));
+                    }
+                    chunk.remove(chunk.size() - 1);
+                    break;
+                }
+            }
+            chunks.add(chunk);
+            from += chunk.size();
+        }
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (List<Ticket> chunk : chunks) {
+            logInfo("createNewTickets --> {} of {} tickets", chunk.size(), tickets.size());
+            replies.add(request("createNewTickets", chunk));
+        }
+        List<Ticket> created = new ArrayList<>(tickets.size());
+        for (int c = 0; c < chunks.size(); c++) {
+            int[] ids = (int[]) await(replies.get(c));
+            List<Ticket> chunk = chunks.get(c);
+            for (int i = 0; i < chunk.size(); i++) {
+                Ticket ticket = chunk.get(i);
+                created.add(new Ticket(ids[i], ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                        ticket.getType(), ticket.getPriority()));
+            }
+        }
+        return created;
     }
 
     @Override
     public List<Ticket> getAllTickets() throws TicketException {
-        Packet wrapper = new Packet("getAllTickets", null);
-        return getTickets(wrapper);
+        return getTickets("getAllTickets", null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<List<Ticket>> getAllTicketsAsync() {
+        return request("getAllTickets", null).thenApply(received -> (List<Ticket>) received);
+    }
+
+    @Override
+    public TicketPage getTicketPage(int afterId, int pageSize) throws TicketException {
+        TicketPage page = await(getTicketPageAsync(afterId, pageSize));
+        logInfo("getTicketPage --> {}", page);
+        return page;
+    }
+
+    public CompletableFuture<TicketPage> getTicketPageAsync(int afterId, int pageSize) {
+        logInfo("getTicketPage --> after {} size {}", afterId, pageSize);
+        return request("getTicketPage", new int[]{afterId, pageSize}).thenApply(TicketPage.class::cast);
+    }
+
+    @Override
+    public TicketStatistics getStatistics() throws TicketException {
+        TicketStatistics statistics = await(getStatisticsAsync());
+        logInfo("getStatistics --> {}", statistics);
+        return statistics;
+    }
+
+    public CompletableFuture<TicketStatistics> getStatisticsAsync() {
+        return request("getStatistics", null).thenApply(TicketStatistics.class::cast);
     }
 
     @Override
     public Ticket getTicketById(int id) throws TicketException {
-        Packet wrapper = new Packet("getTicketById", id);
-        Ticket ticket = null;
         try {
             logInfo("getTicketById --> Sending request to fetch tickets");
-            sendRequest(wrapper);
-            ticket = (Ticket) receiveResponse();
+            Ticket ticket = await(getTicketByIdAsync(id));
             logInfo("getTicketById --> Tickets : {}", ticket);
             return ticket;
-        } catch (Exception e) {
-            logError("getTicketById --> Failed to fetch tickets by ID: {}", e.getMessage(), e);
+        } catch (TicketException e) {
+            logError("getTicketById --> Failed to fetch tickets by ID: {}", e.getMessage());
         }
         return null;
     }
 
+    public CompletableFuture<Ticket> getTicketByIdAsync(int id) {
+        return request("getTicketById", id).thenApply(Ticket.class::cast);
+    }
+
     @Override
     public Ticket acceptTicket(int id) throws TicketException {
-        Packet wrapper = new Packet("acceptTicket", id);
-        Ticket ticket = null;
         try {
             logInfo("acceptTicket --> Updating ticket status 'ACCEPTED' for TicketID : {}", id);
-            sendRequest(wrapper);
-            ticket = (Ticket) receiveResponse();
+            Ticket ticket = await(acceptTicketAsync(id));
             logInfo("acceptTicket --> Server Response : {}", ticket);
             return ticket;
-        } catch (Exception e) {
-            logError("acceptTicket --> Failed for TicketID : {}. Exception: {}", id, e.getMessage(), e);
+        } catch (TicketException e) {
+            logError("acceptTicket --> Rejected for TicketID : {}. Reason: {}", id, e.getMessage());
+            throw e;
         }
-        return null;
     }
 
+    public CompletableFuture<Ticket> acceptTicketAsync(int id) {
+        return request("acceptTicket", id).thenApply(Ticket.class::cast);
+    }
 
     @Override
     public Ticket closeTicket(int id) throws TicketException {
-        Packet wrapper = new Packet("closeTicket", id);
-        Ticket ticket = null;
         try {
             logInfo("closeTicket --> Updating ticket status 'CLOSED' for TicketID : {}", id);
-            sendRequest(wrapper);
-            ticket = (Ticket) receiveResponse();
+            Ticket ticket = await(closeTicketAsync(id));
             logInfo("closeTicket --> Server Response : {}", ticket);
             return ticket;
-        } catch (Exception e) {
-            logError("closeTicket --> Failed for TicketID : {}. Exception: {}", id, e.getMessage(), e);
+        } catch (TicketException e) {
+            logError("closeTicket --> Rejected for TicketID : {}. Reason: {}", id, e.getMessage());
+            throw e;
         }
-        return null;
+    }
+
+    public CompletableFuture<Ticket> closeTicketAsync(int id) {
+        return request("closeTicket", id).thenApply(Ticket.class::cast);
     }
 
     @Override
     public Ticket rejectTicket(int id) throws TicketException {
-        Packet wrapper = new Packet("rejectTicket", id);
-        Ticket ticket;
         try {
             logInfo("rejectTicket --> Updating ticket status 'REJECTED' for TicketID : {}", id);
-            sendRequest(wrapper);
-            ticket = (Ticket) receiveResponse();
+            Ticket ticket = await(rejectTicketAsync(id));
             logInfo("rejectTicket --> Server Response : {}", ticket);
             return ticket;
-        } catch (Exception e) {
-            logError("rejectTicket --> Failed for TicketID : {}. Exception: {}", id, e.getMessage(), e);
+        } catch (TicketException e) {
+            logError("rejectTicket --> Rejected for TicketID : {}. Reason: {}", id, e.getMessage());
+            throw e;
         }
-        return null;
+    }
+
+    public CompletableFuture<Ticket> rejectTicketAsync(int id) {
+        return request("rejectTicket", id).thenApply(Ticket.class::cast);
+    }
+
+    /**
+     * Sends the ids in as many requests as needed to stay within the MTU, all
+     * at once.
+     */
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ids, Status newStatus) throws TicketException {
+        String type;
+        switch (newStatus) {
+            case ACCEPTED:
+                type = "acceptTickets";
+                break;
+            case REJECTED:
+                type = "rejectTickets";
+                break;
+            case CLOSED:
+                type = "closeTickets";
+                break;
+            default:
+                throw new TicketException("Can not move a Ticket to status " + newStatus);
+        }
+        // leaves room for the type and the length of the id array
+        int chunkSize = Math.max(1, (mtu - PacketCodec.encodedSize(new Packet(type, new int[0])) - MAX_ID_SIZE) / MAX_ID_SIZE);
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (int from = 0; from < ids.length; from += chunkSize) {
+            replies.add(request(type, Arrays.copyOfRange(ids, from, Math.min(ids.length, from + chunkSize))));
+        }
+        TransitionResult result = new TransitionResult(ids);
+        for (int c = 0; c < replies.size(); c++) {
+            TransitionResult received = (TransitionResult) await(replies.get(c));
+            for (int i = 0; i < received.getTicketIds().length; i++) {
+                if (received.succeeded(i)) {
+                    result.succeed(c * chunkSize + i, received.getTickets().get(i));
+                } else {
+                    result.fail(c * chunkSize + i, received.getErrors()[i]);
+                }
+            }
+        }
+        logInfo("{} --> {}", type, result);
+        return result;
     }
 
     @Override
     public List<Ticket> getTicketsByName(String name) throws TicketException {
-        Packet wrapper = new Packet("getTicketsByName", name);
-        return getTickets(wrapper);
+        return getTickets("getTicketsByName", name);
     }
 
     @Override
     public List<Ticket> getTicketsByNameAndType(String name, Type type) throws TicketException {
-        Packet wrapper = new Packet("getTicketsByNameAndType", type);
-        return getTickets(wrapper);
+        return getTickets("getTicketsByNameAndType", type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Ticket> getTicketsByNamePrefix(String prefix) throws TicketException {
+        logInfo("getTicketsByNamePrefix --> {}", prefix);
+        List<Ticket> received = (List<Ticket>) await(request("getTicketsByNamePrefix", prefix));
+        logInfo("getTicketsByNamePrefix --> No of tickets received : {}", received.size());
+        return received;
     }
 
-    private List<Ticket> getTickets(Packet wrapper) {
-        List<Ticket> searchedTicketName = new ArrayList<>();
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Ticket> getTicketsBySimilarName(String name) throws TicketException {
+        logInfo("getTicketsBySimilarName --> {}", name);
+        List<Ticket> received = (List<Ticket>) await(request("getTicketsBySimilarName", name));
+        logInfo("getTicketsBySimilarName --> No of tickets received : {}", received.size());
+        return received;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> completeTopic(String prefix, int limit) throws TicketException {
+        List<String> completions = (List<String>) await(request("completeTopic", prefix));
+        return completions.size() > limit ? completions.subList(0, limit) : completions;
+    }
+
+    // The server answers all listings and searches with one list of tickets
+    @SuppressWarnings("unchecked")
+    private List<Ticket> getTickets(String type, Object data) {
         try {
-            logInfo("getTickets --> Sending request to fetch tickets : {}", wrapper);
-            sendRequest(wrapper);
-            if (wrapper.getType().equals("getAllTickets")) {
-                List<Ticket> received = (List<Ticket>) receiveResponse();
-                logInfo("getTickets --> No of tickets received : {}", received != null ? received.size() : 0);
-                return received;
-            } else {
-                Ticket received = (Ticket) receiveResponse();
-                searchedTicketName.add(received);
-                logInfo("getTickets -->  Search Response : {}", received);
-                return searchedTicketName;
-            }
-        } catch (Exception e) {
-            logError("getTickets --> Exception while fetching tickets: {}", e.getMessage(), e);
+            logInfo("getTickets --> Sending request to fetch tickets : {} {}", type, data);
+            List<Ticket> received = (List<Ticket>) await(request(type, data));
+            logInfo("getTickets --> No of tickets received : {}", received != null ? received.size() : 0);
+            return received;
+        } catch (TicketException e) {
+            logError("getTickets --> Exception while fetching tickets: {}", e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
+    // Sends the request under a new id, the future completes with the reply or fails after the timeout
+    private CompletableFuture<Object> request(String type, Object data) {
+        int requestId = this.requestId.incrementAndGet();
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        pendingRequests.put(requestId, reply);
+        reply.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((received, e) -> pendingRequests.remove(requestId));
+        try {
+            sendRequest(new Packet(type, requestId, data));
+        } catch (TicketException e) {
+            reply.completeExceptionally(e);
         }
-        return searchedTicketName;
+        return reply;
     }
 
     private void sendRequest(Packet packet) throws TicketException {
         try {
             logInfo("sendRequest --> Packet Request : {}", packet);
-            requestBuffer = SerializationUtils.serialize(packet);
-            DatagramPacket request = new DatagramPacket(requestBuffer, requestBuffer.length,
-                    InetAddress.getByName(host), port);
-            connection.send(request);
+            ByteBuffer encoded = PacketCodec.encode(packet);
+            if (encoded.limit() > mtu) {
+                // the server would cut it off and drop it as malformed
+                throw tooLarge(encoded.limit());
+            }
+            connection.send(new DatagramPacket(encoded.array(), encoded.limit(), server));
+        } catch (TicketException e) {
+            logError("sendRequest --> {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             logError("sendRequest --> Failed to send packet: {}", e.getMessage(), e);
             throw new TicketException("Failed to send request to server", e);
         }
     }
 
+    private TicketException tooLarge(int size) {
+        return new TicketException("Request of " + size + " bytes exceeds the datagram size of " + mtu + " bytes");
+    }
+
+    // Waits for the reply, the timeout of the request bounds the wait
+    private <T> T await(CompletableFuture<T> reply) throws TicketException {
+        try {
+            return reply.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TicketException("Interrupted while waiting for the server", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // the server answers requests it refuses, e.g. invalid status changes, with a TicketException
+            if (cause instanceof TicketException) {
+                throw (TicketException) cause;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new TicketException("No reply from the server within " + timeoutMillis + " ms", cause);
+            }
+            throw new TicketException("Error while receiving response from the server", cause);
+        }
+    }
+
+    // Runs on the receiver thread until the connection is closed
+    private void receiveResponses() {
+        FragmentAssembler assembler = new FragmentAssembler(timeoutMillis);
+        byte[] responseBuffer = new byte[MAX_DATAGRAM_SIZE];
+        DatagramPacket response = new DatagramPacket(responseBuffer, responseBuffer.length);
+        while (!connection.isClosed()) {
+            try {
+                response.setLength(responseBuffer.length);
+                connection.receive(response);
+                ByteBuffer message = assembler.add(
+                        ByteBuffer.wrap(response.getData(), response.getOffset(), response.getLength()),
+                        System.currentTimeMillis());
+                if (message == null) {
+                    continue;
+                }
+                Packet packet = PacketCodec.decode(message);
+                CompletableFuture<Object> reply = pendingRequests.get(packet.getRequestId());
+                if (reply == null) {
+                    logInfo("receiveResponses --> Dropped reply to request {}, which timed out", packet.getRequestId());
+                } else if (packet.getData() instanceof TicketException) {
+                    reply.completeExceptionally((TicketException) packet.getData());
+                } else {
+                    reply.complete(packet.getData());
+                }
+            } catch (IllegalArgumentException e) {
+                logError("receiveResponses --> Dropped malformed reply: {}", e.getMessage());
+            } catch (IOException e) {
+                if (!connection.isClosed()) {
+                    logError("receiveResponses --> Failed to receive response: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
 
     private void logInfo(String message, Object... args) {
         if (logger.isInfoEnabled()) {
@@ -194,18 +461,4 @@ public class UdpTicketManagementBackend implements TicketManagementBackend {
             logger.error(message, args);
         }
     }
-
-    private Object receiveResponse() throws TicketException {
-        try {
-            logInfo("receiveResponse --> Waiting for server reply");
-            responseBuffer = new byte[1024];
-            DatagramPacket response = new DatagramPacket(responseBuffer, responseBuffer.length);
-            connection.receive(response);
-            return SerializationUtils.deserialize(response.getData());
-        } catch (Exception e) {
-            logError("receiveResponse --> Failed to receive response: {}", e.getMessage(), e);
-            throw new TicketException("Error while receiving response from the server", e);
-        }
-    }
 }
-
@@ -6,6 +6,8 @@ import de.uniba.rz.entities.ticket.Ticket;
 import de.uniba.rz.entities.ticket.TicketException;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
@@ -388,7 +390,27 @@ public class MainFrame extends JFrame implements Observer {
 		searchPanel.add(new JLabel("Search:"));
 		JTextField searchField = new JTextField();
 		searchField.setColumns(15);
+		JPopupMenu completionMenu = new JPopupMenu();
+		completionMenu.setFocusable(false);
+		searchField.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				SwingUtilities.invokeLater(() -> showTopicCompletions(searchField, completionMenu));
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				SwingUtilities.invokeLater(() -> showTopicCompletions(searchField, completionMenu));
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+				// attribute changes do not change the text
+			}
+		});
 		searchPanel.add(searchField);
+		JCheckBox prefixBox = new JCheckBox("Prefix");
+		searchPanel.add(prefixBox);
 		searchPanel.add(new JLabel("Type:"));
 		ArrayList<de.uniba.rz.entities.ticket.Type> types = new ArrayList<>();
 		types.add(null);
@@ -400,7 +422,12 @@ public class MainFrame extends JFrame implements Observer {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				de.uniba.rz.entities.ticket.Type type = (de.uniba.rz.entities.ticket.Type) typeBox.getSelectedItem();
-				controller.searchTicket(searchField.getText(), (de.uniba.rz.entities.ticket.Type) typeBox.getSelectedItem());
+				completionMenu.setVisible(false);
+				if (prefixBox.isSelected() && type == null) {
+					controller.searchTicketByPrefix(searchField.getText());
+				} else {
+					controller.searchTicket(searchField.getText(), (de.uniba.rz.entities.ticket.Type) typeBox.getSelectedItem());
+				}
 			}
 		});
 		searchPanel.add(searchButton);
@@ -408,6 +435,30 @@ public class MainFrame extends JFrame implements Observer {
 		return searchPanel;
 	}
 
+	private void showTopicCompletions(JTextField searchField, JPopupMenu completionMenu) {
+		String prefix = searchField.getText();
+		completionMenu.setVisible(false);
+		completionMenu.removeAll();
+		if (prefix.isEmpty() || !searchField.isShowing()) {
+			return;
+		}
+		for (String topic : controller.completeTopic(prefix)) {
+			if (topic.equalsIgnoreCase(prefix)) {
+				continue;
+			}
+			JMenuItem item = new JMenuItem(topic);
+			item.addActionListener(e -> {
+				searchField.setText(topic);
+				controller.searchTicketByPrefix(topic);
+			});
+			completionMenu.add(item);
+		}
+		if (completionMenu.getComponentCount() > 0) {
+			completionMenu.show(searchField, 0, searchField.getHeight());
+			searchField.requestFocusInWindow();
+		}
+	}
+
 	private void showButtonsDependendOnStatus(Status status) {
 		if (Status.NEW == status) {
 			rejectButton.setVisible(true);
@@ -1,5 +1,6 @@
 package de.uniba.rz.ui.swing;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import de.uniba.rz.app.Shutdown;
@@ -10,6 +11,8 @@ import de.uniba.rz.entities.ticket.Type;
 
 public class SwingMainController {
 
+	private static final int TOPIC_COMPLETIONS = 8;
+
 	private SwingMainModel model;
 	private MainFrame mainFrame;
 	private Shutdown connector;
@@ -92,6 +95,24 @@ public class SwingMainController {
 		}
 	}
 
+	public void searchTicketByPrefix(String prefix) {
+		try {
+			List<Ticket> tickets = model.searchTicketByPrefix(prefix);
+			mainFrame.updateTable(tickets);
+		} catch (TicketException e) {
+			mainFrame.showErrorDialog("Could not perform ticket search", e);
+		}
+	}
+
+	public List<String> completeTopic(String prefix) {
+		try {
+			return model.completeTopic(prefix, TOPIC_COMPLETIONS);
+		} catch (TicketException e) {
+			// no error dialog while typing, the search itself reports problems
+			return new ArrayList<>();
+		}
+	}
+
 	public void refreshTicketList() {
 		try {
 			mainFrame.updateTable(model.getAllTickets());
@@ -1,5 +1,6 @@
 package de.uniba.rz.ui.swing;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Observable;
 
@@ -60,7 +61,8 @@ public class SwingMainModel extends Observable {
     public List<Ticket> searchTicket(String name, Type type) throws TicketException {
 		try {
 			if (type == null) {
-				return backend.getTicketsByName(name);
+				List<Ticket> tickets = backend.getTicketsByName(name);
+				return tickets.isEmpty() ? searchTicketBySimilarName(name) : tickets;
 			} else {
 				return backend.getTicketsByNameAndType(name, type);
 			}
@@ -68,4 +70,30 @@ public class SwingMainModel extends Observable {
 			throw new TicketException("No search service registered");
 		}
     }
+
+    public List<Ticket> searchTicketByPrefix(String prefix) throws TicketException {
+		try {
+			return backend.getTicketsByNamePrefix(prefix);
+		} catch (UnsupportedOperationException e) {
+			throw new TicketException("No search service registered");
+		}
+    }
+
+    // fall back to topics with typos if nothing matches exactly
+    private List<Ticket> searchTicketBySimilarName(String name) throws TicketException {
+		try {
+			return backend.getTicketsBySimilarName(name);
+		} catch (UnsupportedOperationException e) {
+			return new ArrayList<>();
+		}
+    }
+
+    public List<String> completeTopic(String prefix, int limit) throws TicketException {
+		try {
+			return backend.completeTopic(prefix, limit);
+		} catch (UnsupportedOperationException e) {
+			// backends without completion simply offer no suggestions
+			return new ArrayList<>();
+		}
+    }
 }
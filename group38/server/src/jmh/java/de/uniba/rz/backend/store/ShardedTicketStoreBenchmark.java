@@ -0,0 +1,57 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the write throughput of {@link ShardedTicketStore} with a growing
+ * number of shards, with {@link ConcurrentTicketStore} as the unsharded
+ * baseline. All benchmarks run with 8 threads, like several transports
+ * writing at once.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ShardedTicketStoreBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    private ShardedTicketStore shardedStore;
+    private ConcurrentTicketStore concurrentStore;
+
+    @Setup(Level.Iteration)
+    public void createStores() {
+        shardedStore = new ShardedTicketStore(shards);
+        concurrentStore = new ConcurrentTicketStore();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStores() {
+        shardedStore.close();
+    }
+
+    @Benchmark
+    public Ticket createAndAcceptSharded() throws UnknownTicketException {
+        Ticket ticket = shardedStore.storeNewTicket("reporter", "topic", "description", Type.BUG, Priority.MAJOR);
+        return shardedStore.updateTicketStatus(ticket.getId(), Status.ACCEPTED);
+    }
+
+    @Benchmark
+    public Ticket createAndAcceptConcurrent() throws UnknownTicketException {
+        Ticket ticket = concurrentStore.storeNewTicket("reporter", "topic", "description", Type.BUG, Priority.MAJOR);
+        return concurrentStore.updateTicketStatus(ticket.getId(), Status.ACCEPTED);
+    }
+}
@@ -0,0 +1,95 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the keyed lookup and update path of {@link ConcurrentTicketStore}
+ * with the full map scan it replaced.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class TicketStoreLookupBenchmark {
+
+    @Param({"1000", "100000", "300000"})
+    public int ticketCount;
+
+    private ConcurrentTicketStore store;
+
+    @Setup(Level.Trial)
+    public void fillStore() {
+        store = new ConcurrentTicketStore();
+        for (int i = 0; i < ticketCount; i++) {
+            store.storeNewTicket("reporter" + i, "topic" + i, "description" + i, Type.BUG, Priority.MAJOR);
+        }
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, ticketCount + 1);
+    }
+
+    @Benchmark
+    public Ticket getTicketByIdKeyed() {
+        return store.getTicketById(randomId());
+    }
+
+    @Benchmark
+    public Object getTicketByIdScan() {
+        int ticketId = randomId();
+        return store.tickets.entrySet().stream().filter(ticket -> ticket.getKey() == ticketId).findFirst().orElse(null);
+    }
+
+    /**
+     * Status changes are one-way, so every update needs a ticket in NEW.
+     * The reset runs outside the measured time, and only for the update
+     * benchmarks, as they are the only ones using this state.
+     */
+    @State(Scope.Thread)
+    public static class UpdateTarget {
+
+        int updateId;
+
+        @Setup(Level.Invocation)
+        public void resetTicket(TicketStoreLookupBenchmark benchmark) {
+            updateId = benchmark.randomId();
+            benchmark.store.restoreTicket(new Ticket(updateId, "reporter", "topic", "description", Type.BUG, Priority.MAJOR));
+        }
+    }
+
+    @Benchmark
+    public Ticket updateTicketStatusKeyed(UpdateTarget target) throws UnknownTicketException {
+        return store.updateTicketStatus(target.updateId, Status.ACCEPTED);
+    }
+
+    /**
+     * Scans the whole map for the ticket and replaces it in place, like the
+     * store did before.
+     */
+    @Benchmark
+    public Ticket updateTicketStatusScan(UpdateTarget target) {
+        Ticket[] updated = new Ticket[1];
+        store.tickets.forEach((id, ticket) -> {
+            if (id == target.updateId) {
+                ConcurrentTicketStore.TicketVersion current = ticket.get();
+                Ticket next = (Ticket) current.ticket.clone();
+                next.setStatus(Status.ACCEPTED);
+                ticket.set(new ConcurrentTicketStore.TicketVersion(next, current.version, null));
+                updated[0] = next;
+            }
+        });
+        return updated[0];
+    }
+}
@@ -0,0 +1,90 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.backend.store.TicketStore;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the startup of a {@link DurableTicketStore} that recovers from a
+ * snapshot plus a short log tail with one that has to replay the whole log.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class SnapshotRecoveryBenchmark {
+
+    @Param({"100000", "300000"})
+    public int ticketCount;
+
+    private Path logOnlyDirectory;
+    private Path snapshotDirectory;
+
+    @Setup(Level.Trial)
+    public void writeStores() throws Exception {
+        logOnlyDirectory = Files.createTempDirectory("recovery-log");
+        snapshotDirectory = Files.createTempDirectory("recovery-snapshot");
+        fill(logOnlyDirectory, false);
+        fill(snapshotDirectory, true);
+    }
+
+    private void fill(Path directory, boolean snapshot) throws Exception {
+        try (DurableTicketStore store = new DurableTicketStore(new ConcurrentTicketStore(), directory, SyncPolicy.INTERVAL, 50)) {
+            for (int i = 0; i < ticketCount; i++) {
+                store.storeNewTicket("reporter" + i, "topic" + i, "description" + i, Type.BUG, Priority.MAJOR);
+            }
+            for (int i = 1; i <= ticketCount; i += 2) {
+                store.updateTicketStatus(i, Status.ACCEPTED);
+            }
+            if (snapshot) {
+                store.takeSnapshot();
+            }
+            // a short tail that still has to be replayed after the snapshot
+            for (int i = 0; i < 1000; i++) {
+                store.storeNewTicket("reporter" + i, "topic" + i, "description" + i, Type.TASK, Priority.MINOR);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteStores() throws IOException {
+        delete(logOnlyDirectory);
+        delete(snapshotDirectory);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static TicketStore recover(Path directory) throws IOException {
+        TicketStore store = new ConcurrentTicketStore();
+        new DurableTicketStore(store, directory, SyncPolicy.INTERVAL, 50).close();
+        return store;
+    }
+
+    @Benchmark
+    public TicketStore recoverFromLog() throws IOException {
+        return recover(logOnlyDirectory);
+    }
+
+    @Benchmark
+    public TicketStore recoverFromSnapshot() throws IOException {
+        return recover(snapshotDirectory);
+    }
+}
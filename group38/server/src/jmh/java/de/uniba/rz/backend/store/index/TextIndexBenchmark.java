@@ -0,0 +1,65 @@
+package de.uniba.rz.backend.store.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ranked keyword searches on a {@link TextIndex} holding a million
+ * generated tickets, compared with tokenizing every ticket per query.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class TextIndexBenchmark {
+
+    @Param({"1000000"})
+    public int ticketCount;
+
+    @Param({"word7", "word3 word12", "word1 word2 word40"})
+    public String query;
+
+    private TextIndex textIndex;
+    private String[] descriptions;
+
+    @Setup(Level.Trial)
+    public void fillIndex() {
+        Random random = new Random(42);
+        textIndex = new TextIndex();
+        descriptions = new String[ticketCount + 1];
+        for (int id = 1; id <= ticketCount; id++) {
+            StringBuilder description = new StringBuilder();
+            int words = 5 + random.nextInt(20);
+            for (int i = 0; i < words; i++) {
+                // skewed word frequencies, like natural text
+                description.append("word").append((int) Math.abs(random.nextGaussian() * 500)).append(' ');
+            }
+            descriptions[id] = description.toString();
+            textIndex.add(id, "Topic " + id, descriptions[id]);
+        }
+    }
+
+    @Benchmark
+    public int[] indexedSearch() {
+        return textIndex.search(query, 10);
+    }
+
+    @Benchmark
+    public int scanSearch() {
+        List<String> terms = Tokenizer.tokenize(query);
+        int matches = 0;
+        for (int id = 1; id <= ticketCount; id++) {
+            if (Tokenizer.tokenize(descriptions[id]).containsAll(terms)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,64 @@
+package de.uniba.rz.backend.store.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures fuzzy topic searches on a {@link TrigramIndex} holding a million
+ * generated topics, compared with computing the edit distance to every topic.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"})
+public class TrigramIndexBenchmark {
+
+    private static final String[] WORDS = {"printer", "network", "password", "laptop", "monitor",
+            "mail", "vpn", "license", "backup", "keyboard", "server", "account"};
+
+    @Param({"1000000"})
+    public int ticketCount;
+
+    @Param({"1", "2"})
+    public int maxEdits;
+
+    private TrigramIndex trigramIndex;
+    private String[] topics;
+    private String query;
+
+    @Setup(Level.Trial)
+    public void fillIndex() {
+        Random random = new Random(42);
+        trigramIndex = new TrigramIndex();
+        topics = new String[ticketCount];
+        for (int id = 0; id < ticketCount; id++) {
+            topics[id] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + random.nextInt(100000);
+            trigramIndex.add(id, topics[id]);
+        }
+        // a misspelled existing topic
+        query = topics[ticketCount / 2].replaceFirst("e", "a");
+    }
+
+    @Benchmark
+    public int[] indexedSearch() {
+        return trigramIndex.search(query, maxEdits);
+    }
+
+    @Benchmark
+    public int scanSearch() {
+        int matches = 0;
+        for (String topic : topics) {
+            if (TrigramIndex.editDistance(query, topic, maxEdits) <= maxEdits) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
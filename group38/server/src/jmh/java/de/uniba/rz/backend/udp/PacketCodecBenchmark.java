@@ -0,0 +1,82 @@
+package de.uniba.rz.backend.udp;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.Type;
+import de.uniba.rz.entities.udp.Packet;
+import de.uniba.rz.entities.udp.PacketCodec;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PacketCodec} with the Java serialization the UDP transport
+ * used before, for a single ticket as sent by {@code createNewTicket} and a
+ * page of tickets as sent by {@code getTicketPage}.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class PacketCodecBenchmark {
+
+    @Param({"createNewTicket", "getTicketPage"})
+    public String type;
+
+    private Packet packet;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void createPacket() {
+        if (type.equals("createNewTicket")) {
+            packet = new Packet(type, ticket(1));
+        } else {
+            List<Ticket> tickets = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                tickets.add(ticket(i));
+            }
+            packet = new Packet(type, new TicketPage(tickets, 10, false));
+        }
+        buffer = ByteBuffer.allocate(64 * 1024);
+        encoded = PacketCodec.encode(packet);
+        serialized = SerializationUtils.serialize(packet);
+    }
+
+    private static Ticket ticket(int id) {
+        return new Ticket(id, "reporter" + id, "Printer on floor " + id + " is broken",
+                "The printer does not print any pages since this morning", Type.BUG, Priority.MAJOR);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeCodec() {
+        buffer.clear();
+        PacketCodec.encode(packet, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] encodeSerialization() {
+        return SerializationUtils.serialize(packet);
+    }
+
+    @Benchmark
+    public Packet decodeCodec() {
+        return PacketCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public Packet decodeSerialization() {
+        return SerializationUtils.deserialize(serialized);
+    }
+}
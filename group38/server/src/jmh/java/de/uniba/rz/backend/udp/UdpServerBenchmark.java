@@ -0,0 +1,112 @@
+package de.uniba.rz.backend.udp;
+
+import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Type;
+import de.uniba.rz.entities.udp.Packet;
+import de.uniba.rz.entities.udp.PacketCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request throughput of {@link UdpRemoteAccess} over loopback
+ * with a growing number of receiver threads, each on its own socket via
+ * SO_REUSEPORT. All benchmarks run with 8 threads, each a client with its
+ * own socket sending one request at a time.
+ *
+ * Run with <code>./gradlew :server:jmh</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class UdpServerBenchmark {
+
+    private static final int PORT = 5099;
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", PORT);
+
+    @Param({"1", "2", "4", "8"})
+    public int receiverThreads;
+
+    private UdpRemoteAccess server;
+    private Thread serverThread;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        ConcurrentTicketStore store = new ConcurrentTicketStore();
+        for (int i = 0; i < 1000; i++) {
+            store.storeNewTicket("reporter" + i, "topic " + i, "description " + i, Type.BUG, Priority.MAJOR);
+        }
+        server = new UdpRemoteAccess(ADDRESS.getHostString(), PORT, UdpRemoteAccess.DEFAULT_BYTE_SIZE,
+                receiverThreads, Runtime.getRuntime().availableProcessors(), true);
+        server.prepareStartup(store);
+        serverThread = new Thread(server, "udp-server");
+        serverThread.start();
+        // the first request is only answered once the server is up
+        try (Client client = new Client()) {
+            client.socket.setSoTimeout(100);
+            while (true) {
+                try {
+                    client.getStatistics();
+                    break;
+                } catch (SocketTimeoutException e) {
+                    // not up yet
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws InterruptedException {
+        server.shutdown();
+        serverThread.join();
+    }
+
+    @State(Scope.Thread)
+    public static class Client implements AutoCloseable {
+
+        private final DatagramSocket socket;
+        private final byte[] request;
+        private final DatagramPacket response = new DatagramPacket(new byte[UdpRemoteAccess.DEFAULT_BYTE_SIZE],
+                UdpRemoteAccess.DEFAULT_BYTE_SIZE);
+
+        public Client() {
+            try {
+                socket = new DatagramSocket();
+                socket.setSoTimeout(1000);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            ByteBuffer encoded = PacketCodec.encode(new Packet("getStatistics", null));
+            request = new byte[encoded.limit()];
+            encoded.get(request);
+        }
+
+        int getStatistics() throws IOException {
+            socket.send(new DatagramPacket(request, request.length, ADDRESS));
+            socket.receive(response);
+            return response.getLength();
+        }
+
+        @TearDown(Level.Trial)
+        @Override
+        public void close() {
+            socket.close();
+        }
+    }
+
+    @Benchmark
+    public int getStatistics(Client client) throws IOException {
+        return client.getStatistics();
+    }
+}
@@ -3,14 +3,22 @@ package de.uniba.rz.backend;
 import de.uniba.rz.backend.udp.UdpRemoteAccess;
 import de.uniba.rz.backend.amqp.AMQPRemoteAccess;
 import de.uniba.rz.backend.config.Configuration;
-import de.uniba.rz.backend.store.SimpleTicketStore;
+import de.uniba.rz.backend.store.ColumnarTicketStore;
+import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.backend.store.OffHeapTicketStore;
+import de.uniba.rz.backend.store.ShardedTicketStore;
 import de.uniba.rz.backend.store.TicketStore;
+import de.uniba.rz.backend.store.durable.ArchivingTicketStore;
+import de.uniba.rz.backend.store.durable.DurableTicketStore;
+import de.uniba.rz.backend.store.durable.SyncPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -20,12 +28,12 @@ public class TicketServerMain {
 	private static final Logger logger = LoggerFactory.getLogger(TicketServerMain.class);
 	private static final Properties PROPERTIES = Configuration.loadProperties();
 	public static void main(String[] args) throws IOException {
-		TicketStore simpleTestStore = new SimpleTicketStore();
+		TicketStore ticketStore = createTicketStore();
 		List<RemoteAccess> remoteAccessImplementations = getAvailableRemoteAccessImplementations(args);
 
 		// Starting remote access implementations:
 		for (RemoteAccess implementation : remoteAccessImplementations) {
-			implementation.prepareStartup(simpleTestStore);
+			implementation.prepareStartup(ticketStore);
 			new Thread(implementation).start();
 		}
 
@@ -39,17 +47,78 @@ public class TicketServerMain {
 				logger.info("Shutting down: "+implementation.getClass().getName());
 				implementation.shutdown();
 			}
+			if (ticketStore instanceof Closeable) {
+				((Closeable) ticketStore).close();
+			}
 			logger.info("Shutdown complete.");
 			System.exit(0);
 		}
 	}
 
+	private static TicketStore createTicketStore() throws IOException {
+		TicketStore ticketStore = createDurableTicketStore();
+		if (!Boolean.parseBoolean(PROPERTIES.getProperty("archive.enabled", "false"))) {
+			return ticketStore;
+		}
+		String storeType = PROPERTIES.getProperty("store.type", "concurrent");
+		if (storeType.equals("columnar") || storeType.equals("offheap")) {
+			logger.warn("The " + storeType + " store can not remove tickets. Archiving is disabled.");
+			return ticketStore;
+		}
+		ArchivingTicketStore archivingStore = new ArchivingTicketStore(ticketStore,
+				Path.of(PROPERTIES.getProperty("archive.directory")),
+				Long.parseLong(PROPERTIES.getProperty("archive.maxAgeSeconds")));
+		archivingStore.scheduleArchiving(Long.parseLong(PROPERTIES.getProperty("archive.intervalSeconds", "3600")));
+		return archivingStore;
+	}
+
+	private static TicketStore createDurableTicketStore() throws IOException {
+		TicketStore ticketStore = createInMemoryTicketStore();
+		if (!Boolean.parseBoolean(PROPERTIES.getProperty("wal.enabled", "false"))) {
+			return ticketStore;
+		}
+		DurableTicketStore durableStore = new DurableTicketStore(ticketStore,
+				Path.of(PROPERTIES.getProperty("wal.directory")),
+				SyncPolicy.valueOf(PROPERTIES.getProperty("wal.syncPolicy").toUpperCase()),
+				Long.parseLong(PROPERTIES.getProperty("wal.syncIntervalMs")));
+		long snapshotInterval = Long.parseLong(PROPERTIES.getProperty("snapshot.intervalSeconds", "0"));
+		if (snapshotInterval > 0) {
+			durableStore.scheduleSnapshots(snapshotInterval);
+		}
+		return durableStore;
+	}
+
+	private static TicketStore createInMemoryTicketStore() {
+		String storeType = PROPERTIES.getProperty("store.type", "concurrent");
+		logger.info("Using ticket store: " + storeType);
+		switch (storeType) {
+			case "columnar":
+				return new ColumnarTicketStore();
+			case "offheap":
+				return new OffHeapTicketStore();
+			case "sharded":
+				return new ShardedTicketStore(Integer.parseInt(PROPERTIES.getProperty("store.shards",
+						String.valueOf(Runtime.getRuntime().availableProcessors()))));
+			case "concurrent":
+				return new ConcurrentTicketStore();
+			default:
+				logger.warn("Unknown store type " + storeType + ". Using concurrent store.");
+				return new ConcurrentTicketStore();
+		}
+	}
+
 	private static List<RemoteAccess> getAvailableRemoteAccessImplementations(String[] args) {
 		List<RemoteAccess> implementations = new ArrayList<>();
 		implementations.add(
 				new UdpRemoteAccess(
 						PROPERTIES.getProperty("udp.host"),
-						Integer.parseInt(PROPERTIES.getProperty("udp.port"))
+						Integer.parseInt(PROPERTIES.getProperty("udp.port")),
+						Integer.parseInt(PROPERTIES.getProperty("udp.byteSize",
+								String.valueOf(UdpRemoteAccess.DEFAULT_BYTE_SIZE))),
+						Integer.parseInt(PROPERTIES.getProperty("udp.receiverThreads", "1")),
+						Integer.parseInt(PROPERTIES.getProperty("udp.workerThreads",
+								String.valueOf(Runtime.getRuntime().availableProcessors()))),
+						Boolean.parseBoolean(PROPERTIES.getProperty("udp.reusePort", "false"))
 				));
 		implementations.add(
 				new AMQPRemoteAccess(
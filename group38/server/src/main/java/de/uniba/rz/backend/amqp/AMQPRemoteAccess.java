@@ -9,12 +9,14 @@ import de.uniba.rz.entities.amqp.Request;
 import de.uniba.rz.entities.amqp.Response;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
 import org.apache.commons.lang3.SerializationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeoutException;
@@ -24,6 +26,7 @@ import static rabbitmq.RabbitMQClient.*;
 
 public class AMQPRemoteAccess implements RemoteAccess {
 
+    private static final int SEARCH_LIMIT = 20;
     private final Logger logger = LoggerFactory.getLogger(AMQPRemoteAccess.class);
     private final ConnectionFactory connectionFactory = new ConnectionFactory();
     private TicketStore ticketStore;
@@ -110,24 +113,57 @@ public class AMQPRemoteAccess implements RemoteAccess {
     }
 
     private void processRequestMessage(Request request, Channel channel) {
+        if (request == null) {
+            return;
+        }
+        MessageType messageType = request.getMessageType();
         try {
-            if (request != null) {
-                MessageType messageType = request.getMessageType();
-                switch (messageType) {
-                    case CREATE -> createNewTicket(request, channel);
-                    case UPDATE -> updateTicketStatus(request, channel);
-                    case GET_ALL -> getAllTickets(channel);
-                    case GET_ONE -> getTicketById(request, channel);
-                    default -> {}
-                }
+            switch (messageType) {
+                case CREATE -> createNewTicket(request, channel);
+                case CREATE_BATCH -> createNewTickets(request, channel);
+                case UPDATE -> updateTicketStatus(request, channel);
+                case UPDATE_BATCH -> updateTicketStatuses(request, channel);
+                case GET_ALL -> getAllTickets(channel);
+                case GET_ONE -> getTicketById(request, channel);
+                case GET_PAGE -> getTicketPage(request, channel);
+                case GET_STATISTICS -> getStatistics(channel);
+                case SEARCH -> searchTickets(request, channel);
+                default -> {}
             }
-        } catch (UnknownTicketException e) {
-            logger.error("Ticket status update exception : {} ", e.getMessage());
+        } catch (UnknownTicketException | IllegalStateException | IllegalArgumentException e) {
+            logger.error("Request rejected : {} ", e.getMessage());
+            sendError(messageType, e.getMessage(), channel);
         } catch (IOException e) {
             logger.error("Object serialization exception : {}", e.getMessage());
         }
     }
 
+    // Tells the waiting client why its request failed instead of letting it time out
+    private void sendError(MessageType messageType, String error, Channel channel) {
+        Response errorResponse = new Response();
+        errorResponse.setError(error);
+        try {
+            channel.basicPublish("", replyQueueOf(messageType), null,
+                    SerializationUtils.serialize(errorResponse));
+        } catch (IOException e) {
+            logger.error("Object serialization exception : {}", e.getMessage());
+        }
+    }
+
+    private static String replyQueueOf(MessageType messageType) {
+        return switch (messageType) {
+            case CREATE -> NEW_TICKET_QUEUE;
+            case CREATE_BATCH -> NEW_TICKETS_QUEUE;
+            case UPDATE -> STATUS_QUEUE;
+            case UPDATE_BATCH -> STATUSES_QUEUE;
+            case GET_ALL -> GET_ALL_TICKETS_QUEUE;
+            case GET_ONE -> GET_TICKET_BY_ID_QUEUE;
+            case GET_PAGE -> GET_TICKET_PAGE_QUEUE;
+            case GET_STATISTICS -> GET_STATISTICS_QUEUE;
+            case SEARCH -> SEARCH_TICKETS_QUEUE;
+        };
+    }
+
     private void getTicketById(Request request, Channel channel) throws IOException {
         Response ticketResponse = new Response();
         int ticketId = request.getTicketId();
@@ -138,6 +174,34 @@ public class AMQPRemoteAccess implements RemoteAccess {
 
     }
 
+    private void getTicketPage(Request request, Channel channel) throws IOException {
+        Response pageResponse = new Response();
+        TicketPage page = ticketStore.getTickets(request.getTicketId(), request.getPageSize());
+        pageResponse.setPage(page);
+        pageResponse.setTickets(page.getTickets());
+        channel.basicPublish("", GET_TICKET_PAGE_QUEUE, null,
+                SerializationUtils.serialize(pageResponse));
+    }
+
+    private void getStatistics(Channel channel) throws IOException {
+        Response statisticsResponse = new Response();
+        statisticsResponse.setStatistics(ticketStore.getStatistics());
+        channel.basicPublish("", GET_STATISTICS_QUEUE, null,
+                SerializationUtils.serialize(statisticsResponse));
+    }
+
+    // Answers from the text index of the store, filtered by type if the request has one
+    private void searchTickets(Request request, Channel channel) throws IOException {
+        List<Ticket> tickets = ticketStore.searchTickets(request.getQuery(), SEARCH_LIMIT);
+        if (request.getType() != null) {
+            tickets = tickets.stream().filter(ticket -> ticket.getType() == request.getType()).collect(Collectors.toList());
+        }
+        Response searchResponse = new Response();
+        searchResponse.setTickets(tickets);
+        channel.basicPublish("", SEARCH_TICKETS_QUEUE, null,
+                SerializationUtils.serialize(searchResponse));
+    }
+
     private void getAllTickets(Channel channel) throws IOException {
         Response allTickets = new Response();
         allTickets.setTickets(ticketStore.getAllTickets());
@@ -155,6 +219,13 @@ public class AMQPRemoteAccess implements RemoteAccess {
                 SerializationUtils.serialize(updateTicketResponse));
     }
 
+    private void updateTicketStatuses(Request request, Channel channel) throws IOException {
+        Response updateTicketsResponse = new Response();
+        updateTicketsResponse.setTransitionResult(ticketStore.updateTicketStatuses(request.getTicketIds(), request.getStatus()));
+        channel.basicPublish("", STATUSES_QUEUE, null,
+                SerializationUtils.serialize(updateTicketsResponse));
+    }
+
     private void createNewTicket(Request request, Channel channel) throws IOException {
         Ticket ticket = request.getTicket();
         Ticket storedTicket = ticketStore.storeNewTicket(ticket.getReporter(), ticket.getTopic(),
@@ -166,5 +237,12 @@ public class AMQPRemoteAccess implements RemoteAccess {
                 SerializationUtils.serialize(responseMessage));
     }
 
+    private void createNewTickets(Request request, Channel channel) throws IOException {
+        Response responseMessage = new Response();
+        responseMessage.setTickets(ticketStore.storeNewTickets(request.getTickets()));
+        channel.basicPublish("", NEW_TICKETS_QUEUE, null,
+                SerializationUtils.serialize(responseMessage));
+    }
+
 
 }
@@ -2,6 +2,7 @@ package de.uniba.rz.backend.http;
 
 import com.sun.net.httpserver.HttpServer;
 import de.uniba.rz.backend.RemoteAccess;
+import de.uniba.rz.backend.http.service.TicketService;
 import de.uniba.rz.backend.store.TicketStore;
 import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -31,6 +32,7 @@ public class HttpRemoteAccess implements RemoteAccess {
 
     @Override
     public void prepareStartup(TicketStore ticketStore) {
+        TicketService.setTicketStore(ticketStore);
         String serverUri = "http://" + host + ":" + port + "/";
         baseUri = UriBuilder.fromUri(serverUri).build();
         config = new ResourceConfig().packages("de.uniba.rz.backend.http.resources");
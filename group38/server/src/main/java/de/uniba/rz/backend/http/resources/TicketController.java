@@ -1,8 +1,12 @@
 package de.uniba.rz.backend.http.resources;
 
+import de.uniba.rz.backend.UnknownTicketException;
 import de.uniba.rz.backend.http.service.TicketService;
+import de.uniba.rz.backend.store.TicketChanges;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +30,80 @@ public class TicketController {
         return ticketService.getAllTickets();
     }
 
+    @GET
+    @Path("/tickets/page")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Object getTicketPage(@QueryParam("after") @DefaultValue("-1") int afterId,
+                                @QueryParam("size") @DefaultValue("50") int pageSize) {
+        logger.info("Request received for page after " + afterId);
+        try {
+            return ticketService.getTickets(afterId, pageSize);
+        } catch (IllegalArgumentException e) {
+            return Response.status(400).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        }
+    }
+
+    @GET
+    @Path("/tickets/search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<Ticket> searchTickets(@QueryParam("q") String query, @QueryParam("limit") @DefaultValue("20") int limit) {
+        logger.info("Request received for search " + query);
+        return ticketService.searchTickets(query, limit);
+    }
+
+    @GET
+    @Path("/tickets/prefix")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<Ticket> getTicketsByTopicPrefix(@QueryParam("prefix") @DefaultValue("") String prefix,
+                                                @QueryParam("limit") @DefaultValue("20") int limit) {
+        logger.info("Request received for topic prefix " + prefix);
+        return ticketService.getTicketsByTopicPrefix(prefix, limit);
+    }
+
+    @GET
+    @Path("/tickets/fuzzy")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Object findTicketsByFuzzyTopic(@QueryParam("topic") String topic,
+                                          @QueryParam("maxEdits") @DefaultValue("2") int maxEdits) {
+        logger.info("Request received for fuzzy topic " + topic);
+        try {
+            return ticketService.findTicketsByFuzzyTopic(topic, maxEdits);
+        } catch (IllegalArgumentException e) {
+            return Response.status(400).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        }
+    }
+
+    @GET
+    @Path("/tickets/statistics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public TicketStatistics getStatistics() {
+        return ticketService.getStatistics();
+    }
+
+    @GET
+    @Path("/tickets/triage")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<Ticket> getTicketsToTriage(@QueryParam("limit") @DefaultValue("20") int limit) {
+        logger.info("Request received for the next " + limit + " tickets to triage");
+        return ticketService.getTicketsToTriage(limit);
+    }
+
+    @GET
+    @Path("/topics/complete")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<String> completeTopic(@QueryParam("prefix") @DefaultValue("") String prefix,
+                                      @QueryParam("limit") @DefaultValue("10") int limit) {
+        return ticketService.completeTopic(prefix, limit);
+    }
+
+    @GET
+    @Path("/tickets/changes")
+    @Produces(MediaType.APPLICATION_JSON)
+    public TicketChanges getChangesSince(@QueryParam("since") @DefaultValue("0") long since) {
+        logger.info("Request received for changes since version " + since);
+        return ticketService.getChangesSince(since);
+    }
+
     @GET
     @Path("/ticket/{ticketId}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -35,21 +113,63 @@ public class TicketController {
         return ticket == null ? Response.status(404).build() : ticket;
     }
 
+    @GET
+    @Path("/ticket/{ticketId}/duplicates")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<Ticket> getLikelyDuplicates(@PathParam("ticketId") int id) {
+        logger.info("Request received for duplicates of ticket " + id);
+        return ticketService.getLikelyDuplicates(id);
+    }
+
     @POST
     @Path("/ticket")
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
-    public Ticket createNewTicket(Ticket ticket) {
+    public Object createNewTicket(Ticket ticket) {
         logger.info("Create new ticket Request :: " + ticket.toString());
-        return ticketService.createNewTicket(ticket);
+        try {
+            return ticketService.createNewTicket(ticket);
+        } catch (IllegalArgumentException e) {
+            return Response.status(400).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        }
+    }
+
+    @POST
+    @Path("/tickets/batch")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Object createNewTickets(List<Ticket> tickets) {
+        logger.info("Create new tickets Request :: " + tickets.size());
+        try {
+            return ticketService.createNewTickets(tickets);
+        } catch (IllegalArgumentException e) {
+            return Response.status(400).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        }
+    }
+
+    @PUT
+    @Path("/tickets/status/{status}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public TransitionResult updateTicketStatuses(@PathParam("status") Status status, int[] ticketIds) {
+        logger.info("Update tickets Request :: " + status + ":" + ticketIds.length);
+        return ticketService.updateStatuses(ticketIds, status);
     }
 
     @PUT
     @Path("/ticket/{ticketId}")
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
-    public Ticket updateTicketStatus(@PathParam("ticketId") int id, Status status) {
+    public Object updateTicketStatus(@PathParam("ticketId") int id, Status status) {
         logger.info("Update ticket Request :: " + status + ":" + id);
-        return ticketService.updateStatus(id, status);
+        try {
+            return ticketService.updateStatus(id, status);
+        } catch (UnknownTicketException e) {
+            return Response.status(404).build();
+        } catch (IllegalStateException e) {
+            return Response.status(409).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(400).entity(e.getMessage()).type(MediaType.TEXT_PLAIN).build();
+        }
     }
 }
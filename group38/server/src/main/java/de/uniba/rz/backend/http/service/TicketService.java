@@ -1,8 +1,14 @@
 package de.uniba.rz.backend.http.service;
 
+import de.uniba.rz.backend.UnknownTicketException;
 import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.backend.store.TicketChanges;
+import de.uniba.rz.backend.store.TicketStore;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,12 +16,17 @@ import java.util.List;
 
 public class TicketService {
 
-    public ConcurrentTicketStore ticketStore = new ConcurrentTicketStore();
+    // Jersey creates a new resource per request, so the store is shared by all instances
+    private static TicketStore ticketStore = new ConcurrentTicketStore();
     public final Logger logger = LoggerFactory.getLogger(TicketService.class);
 
     public TicketService() {
     }
 
+    public static void setTicketStore(TicketStore store) {
+        ticketStore = store;
+    }
+
     public List<Ticket> getAllTickets() {
         logger.info("getAllTickets");
         return ticketStore.getAllTickets();
@@ -32,9 +43,61 @@ public class TicketService {
         );
     }
 
-    public Ticket updateStatus(int ticketId, Status status) {
+    public List<Ticket> createNewTickets(List<Ticket> tickets) {
+        logger.info("createNewTickets :: " + tickets.size());
+        return ticketStore.storeNewTickets(tickets);
+    }
+
+    public Ticket updateStatus(int ticketId, Status status) throws UnknownTicketException, IllegalStateException {
         logger.info("updateStatus :: " + ticketId + " : " + status);
-        return ticketStore.getAllTickets().stream().filter(ticket -> ticket.getId() == ticketId).findFirst().orElse(null);
+        return ticketStore.updateTicketStatus(ticketId, status);
+    }
+
+    public TransitionResult updateStatuses(int[] ticketIds, Status status) {
+        logger.info("updateStatuses :: " + ticketIds.length + " : " + status);
+        return ticketStore.updateTicketStatuses(ticketIds, status);
+    }
+
+    public TicketPage getTickets(int afterId, int pageSize) {
+        logger.info("getTickets :: " + afterId + " : " + pageSize);
+        return ticketStore.getTickets(afterId, pageSize);
+    }
+
+    public List<Ticket> searchTickets(String query, int limit) {
+        logger.info("searchTickets :: " + query + " : " + limit);
+        return ticketStore.searchTickets(query, limit);
+    }
+
+    public List<String> completeTopic(String prefix, int limit) {
+        return ticketStore.completeTopic(prefix, limit);
+    }
+
+    public List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        logger.info("getTicketsByTopicPrefix :: " + prefix + " : " + limit);
+        return ticketStore.getTicketsByTopicPrefix(prefix, limit);
+    }
+
+    public List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        logger.info("findTicketsByFuzzyTopic :: " + topic + " : " + maxEdits);
+        return ticketStore.findTicketsByFuzzyTopic(topic, maxEdits);
+    }
+
+    public TicketStatistics getStatistics() {
+        return ticketStore.getStatistics();
+    }
+
+    public List<Ticket> getTicketsToTriage(int limit) {
+        logger.info("getTicketsToTriage :: " + limit);
+        return ticketStore.getTicketsToTriage(limit);
+    }
+
+    public List<Ticket> getLikelyDuplicates(int ticketId) {
+        return ticketStore.getLikelyDuplicates(ticketId);
+    }
+
+    public TicketChanges getChangesSince(long version) {
+        logger.info("getChangesSince :: " + version);
+        return ticketStore.getChangesSince(version);
     }
 
     public Ticket getTicketById(int ticketId) {
@@ -2,9 +2,13 @@ package de.uniba.rz.backend.rpc;
 
 import com.google.protobuf.ByteString;
 import de.uniba.rz.backend.RemoteAccess;
+import de.uniba.rz.backend.UnknownTicketException;
 import de.uniba.rz.backend.store.TicketStore;
 import de.uniba.rz.entities.ticket.Priority;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
 import de.uniba.rz.io.rpc.*;
 import io.grpc.Server;
@@ -87,66 +91,83 @@ public class GRPCRemoteAccess implements RemoteAccess {
         }
 
         @Override
-        public void acceptTicket(TicketId request, StreamObserver<TicketResponse> responseObserver) {
-            long ticketId = request.getTicketId();
-            ticketStore.getAllTickets().forEach(ticket -> {
-                if (ticket.getId() == ticketId) {
-                    ticket.setStatus(de.uniba.rz.entities.ticket.Status.ACCEPTED);
-                    TicketResponse ticketResponse = TicketResponse.newBuilder()
-                            .setDescription(ticket.getDescription())
-                            .setId(ticket.getId())
-                            .setTopic(ticket.getTopic())
-                            .setType(ticket.getType().toString())
-                            .setPriority(ticket.getPriority().toString())
-                            .setReporter(ticket.getReporter())
-                            .setStatus(ticket.getStatus().toString())
-                            .build();
-                    responseObserver.onNext(ticketResponse);
-                    responseObserver.onCompleted();
+        public void createTickets(TicketBatchRequest request, StreamObserver<TicketBatchResponse> responseObserver) {
+            List<Ticket> batch = new ArrayList<>(request.getTicketsCount());
+            try {
+                for (TicketRequest ticket : request.getTicketsList()) {
+                    batch.add(new Ticket(0, ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                            Type.valueOf(ticket.getType()), Priority.valueOf(ticket.getPriority())));
                 }
-            });
+            } catch (IllegalArgumentException e) {
+                responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+                return;
+            }
+            TicketBatchResponse.Builder response = TicketBatchResponse.newBuilder();
+            ticketStore.storeNewTickets(batch).forEach(ticket -> response.addTickets(toTicketResponse(ticket)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void acceptTicket(TicketId request, StreamObserver<TicketResponse> responseObserver) {
+            updateTicketStatus(request, de.uniba.rz.entities.ticket.Status.ACCEPTED, responseObserver);
         }
 
         @Override
         public void rejectTicket(TicketId request, StreamObserver<TicketResponse> responseObserver) {
-            long ticketId = request.getTicketId();
-            ticketStore.getAllTickets().forEach(ticket -> {
-                if (ticket.getId() == ticketId) {
-                    ticket.setStatus(de.uniba.rz.entities.ticket.Status.REJECTED);
-                    TicketResponse ticketResponse = TicketResponse.newBuilder()
-                            .setDescription(ticket.getDescription())
-                            .setId(ticket.getId())
-                            .setTopic(ticket.getTopic())
-                            .setType(ticket.getType().toString())
-                            .setPriority(ticket.getPriority().toString())
-                            .setReporter(ticket.getReporter())
-                            .setStatus(ticket.getStatus().toString())
-                            .build();
-                    responseObserver.onNext(ticketResponse);
-                    responseObserver.onCompleted();
-                }
-            });
+            updateTicketStatus(request, de.uniba.rz.entities.ticket.Status.REJECTED, responseObserver);
         }
 
         @Override
         public void closeTicket(TicketId request, StreamObserver<TicketResponse> responseObserver) {
-            long ticketId = request.getTicketId();
-            ticketStore.getAllTickets().forEach(ticket -> {
-                if (ticket.getId() == ticketId) {
-                    ticket.setStatus(de.uniba.rz.entities.ticket.Status.CLOSED);
-                    TicketResponse ticketResponse = TicketResponse.newBuilder()
-                            .setDescription(ticket.getDescription())
-                            .setId(ticket.getId())
-                            .setTopic(ticket.getTopic())
-                            .setType(ticket.getType().toString())
-                            .setPriority(ticket.getPriority().toString())
-                            .setReporter(ticket.getReporter())
-                            .setStatus(ticket.getStatus().toString())
-                            .build();
-                    responseObserver.onNext(ticketResponse);
-                    responseObserver.onCompleted();
-                }
-            });
+            updateTicketStatus(request, de.uniba.rz.entities.ticket.Status.CLOSED, responseObserver);
+        }
+
+        @Override
+        public void updateTicketStatuses(StatusBatchRequest request, StreamObserver<StatusBatchResponse> responseObserver) {
+            de.uniba.rz.entities.ticket.Status newStatus;
+            try {
+                newStatus = de.uniba.rz.entities.ticket.Status.valueOf(request.getStatus());
+            } catch (IllegalArgumentException e) {
+                responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+                return;
+            }
+            int[] ticketIds = request.getTicketIdsList().stream().mapToInt(Integer::intValue).toArray();
+            TransitionResult result = ticketStore.updateTicketStatuses(ticketIds, newStatus);
+            StatusBatchResponse.Builder response = StatusBatchResponse.newBuilder();
+            for (int i = 0; i < ticketIds.length; i++) {
+                response.addTicketIds(ticketIds[i]);
+                response.addErrors(result.succeeded(i) ? "" : result.getErrors()[i]);
+            }
+            // only the changed tickets, in request order
+            result.changedTickets().forEach(ticket -> response.addTickets(toTicketResponse(ticket)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        private void updateTicketStatus(TicketId request, de.uniba.rz.entities.ticket.Status newStatus,
+                                        StreamObserver<TicketResponse> responseObserver) {
+            try {
+                Ticket ticket = ticketStore.updateTicketStatus(request.getTicketId(), newStatus);
+                responseObserver.onNext(toTicketResponse(ticket));
+                responseObserver.onCompleted();
+            } catch (UnknownTicketException e) {
+                responseObserver.onError(io.grpc.Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+            } catch (IllegalStateException e) {
+                responseObserver.onError(io.grpc.Status.FAILED_PRECONDITION.withDescription(e.getMessage()).asRuntimeException());
+            }
+        }
+
+        private static TicketResponse toTicketResponse(Ticket ticket) {
+            return TicketResponse.newBuilder()
+                    .setDescription(ticket.getDescription())
+                    .setId(ticket.getId())
+                    .setTopic(ticket.getTopic())
+                    .setType(ticket.getType().toString())
+                    .setPriority(ticket.getPriority().toString())
+                    .setReporter(ticket.getReporter())
+                    .setStatus(ticket.getStatus().toString())
+                    .build();
         }
 
         @Override
@@ -184,6 +205,41 @@ public class GRPCRemoteAccess implements RemoteAccess {
             responseObserver.onCompleted();
         }
 
+        @Override
+        public void getTicketPage(TicketPageRequest request, StreamObserver<TicketPageResponse> responseObserver) {
+            try {
+                TicketPage page = ticketStore.getTickets(request.getAfterId(), request.getPageSize());
+                TicketPageResponse.Builder response = TicketPageResponse.newBuilder()
+                        .setNextAfterId(page.getNextAfterId())
+                        .setLast(page.isLast());
+                page.getTickets().forEach(ticket -> response.addTickets(toTicketResponse(ticket)));
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            } catch (IllegalArgumentException e) {
+                responseObserver.onError(io.grpc.Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            }
+        }
+
+        @Override
+        public void getTicketsToTriage(TriageRequest request, StreamObserver<TriageResponse> responseObserver) {
+            TriageResponse.Builder response = TriageResponse.newBuilder();
+            ticketStore.getTicketsToTriage(request.getLimit())
+                    .forEach(ticket -> response.addTickets(toTicketResponse(ticket)));
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getStatistics(Empty request, StreamObserver<StatisticsResponse> responseObserver) {
+            TicketStatistics statistics = ticketStore.getStatistics();
+            StatisticsResponse.Builder response = StatisticsResponse.newBuilder();
+            for (long count : statistics.getCounts()) {
+                response.addCounts(count);
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
         @Override
         public StreamObserver<AutoNewTicketRequest> streamNewTicket(StreamObserver<TicketList> responseObserver) {
             observers.add(responseObserver);
@@ -0,0 +1,230 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TicketStore} keeping its tickets in struct-of-arrays form instead of
+ * one object per ticket.
+ * <p>
+ * Every attribute lives in its own column: the enums as byte ordinals and
+ * reporter and topic, which repeat a lot, as int codes into a
+ * {@link StringDictionary}. Descriptions are nearly always unique, so they
+ * stay plain references instead of growing the dictionary forever.
+ * The columns are split into fixed size chunks, so growing the store only
+ * allocates a new chunk and never copies the existing data. A ticket id is
+ * its row number plus one.
+ * <p>
+ * {@link Ticket} objects are only built when they leave the store.
+ */
+public class ColumnarTicketStore implements TicketStore {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final Type[] TYPES = Type.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final Logger logger = LoggerFactory.getLogger(ColumnarTicketStore.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StringDictionary dictionary = new StringDictionary();
+
+    private byte[][] types = new byte[0][];
+    private byte[][] priorities = new byte[0][];
+    private byte[][] statuses = new byte[0][];
+    private int[][] reporters = new int[0][];
+    private int[][] topics = new int[0][];
+    private String[][] descriptions = new String[0][];
+    private int size;
+
+    @Override
+    public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
+        logger.info("Store new ticket :: " + reporter + "::" + topic + "::" + type + "::" + priority);
+        TicketStore.checkAttributes(type, priority);
+        lock.writeLock().lock();
+        try {
+            int row = size;
+            writeRow(row, reporter, topic, description, type, priority, Status.NEW);
+            return toTicket(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        logger.info("Update Ticket Status " + ticketId + "::" + newStatus);
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(ticketId);
+            byte[] statusChunk = statuses[row >>> CHUNK_BITS];
+            TicketTransitions.check(STATUSES[statusChunk[row & CHUNK_MASK]], newStatus);
+            statusChunk[row & CHUNK_MASK] = (byte) newStatus.ordinal();
+            return toTicket(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Overwrites an existing row or appends the next one. Tickets have to be
+     * restored in id order, as ids are row numbers.
+     */
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        TicketStore.checkTicket(ticket);
+        lock.writeLock().lock();
+        try {
+            int row = ticket.getId() - 1;
+            if (row < 0 || row > size) {
+                throw new IllegalArgumentException("Ticket #" + ticket.getId() + " can not be restored behind " + size + " tickets");
+            }
+            writeRow(row, ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                    ticket.getType(), ticket.getPriority(), ticket.getStatus());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Ticket> getAllTickets() {
+        logger.info("getAllTickets");
+        lock.readLock().lock();
+        try {
+            List<Ticket> allTickets = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                allTickets.add(toTicket(row));
+            }
+            return allTickets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Ticket getTicketById(int ticketId) {
+        logger.info("getTicketByID :: " + ticketId);
+        lock.readLock().lock();
+        try {
+            int row = ticketId - 1;
+            return row >= 0 && row < size ? toTicket(row) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        TicketStore.checkPageSize(pageSize);
+        lock.readLock().lock();
+        try {
+            int first = Math.max(afterId, 0);
+            int end = (int) Math.min(size, (long) first + pageSize + 1);
+            List<Ticket> page = new ArrayList<>(Math.max(end - first, 0));
+            // row r holds the ticket with id r + 1
+            for (int row = first; row < end; row++) {
+                page.add(toTicket(row));
+            }
+            return TicketPage.of(page, afterId, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans the byte and code columns directly and only builds {@link Ticket}
+     * objects for matching rows.
+     */
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        logger.info("findTickets :: " + type + "::" + status + "::" + priority + "::" + reporter);
+        lock.readLock().lock();
+        try {
+            int reporterCode = dictionary.lookup(reporter);
+            if (reporter != null && reporterCode == StringDictionary.NULL_CODE) {
+                return new ArrayList<>();
+            }
+            List<Ticket> result = new ArrayList<>();
+            for (int row = 0; row < size; row++) {
+                int chunk = row >>> CHUNK_BITS;
+                int offset = row & CHUNK_MASK;
+                if ((type == null || types[chunk][offset] == type.ordinal())
+                        && (status == null || statuses[chunk][offset] == status.ordinal())
+                        && (priority == null || priorities[chunk][offset] == priority.ordinal())
+                        && (reporter == null || reporters[chunk][offset] == reporterCode)) {
+                    result.add(toTicket(row));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int rowOf(int ticketId) throws UnknownTicketException {
+        int row = ticketId - 1;
+        if (row < 0 || row >= size) {
+            throw new UnknownTicketException("Ticket ID " + ticketId + " is unknown");
+        }
+        return row;
+    }
+
+    private void writeRow(int row, String reporter, String topic, String description, Type type, Priority priority, Status status) {
+        if ((row >>> CHUNK_BITS) == types.length) {
+            addChunk();
+        }
+        int chunk = row >>> CHUNK_BITS;
+        int offset = row & CHUNK_MASK;
+        types[chunk][offset] = (byte) type.ordinal();
+        priorities[chunk][offset] = (byte) priority.ordinal();
+        statuses[chunk][offset] = (byte) status.ordinal();
+        reporters[chunk][offset] = dictionary.encode(reporter);
+        topics[chunk][offset] = dictionary.encode(topic);
+        descriptions[chunk][offset] = description;
+        if (row == size) {
+            size++;
+        }
+    }
+
+    private Ticket toTicket(int row) {
+        int chunk = row >>> CHUNK_BITS;
+        int offset = row & CHUNK_MASK;
+        return new Ticket(row + 1,
+                dictionary.decode(reporters[chunk][offset]),
+                dictionary.decode(topics[chunk][offset]),
+                descriptions[chunk][offset],
+                TYPES[types[chunk][offset]],
+                PRIORITIES[priorities[chunk][offset]],
+                STATUSES[statuses[chunk][offset]]);
+    }
+
+    private void addChunk() {
+        int chunks = types.length + 1;
+        types = Arrays.copyOf(types, chunks);
+        priorities = Arrays.copyOf(priorities, chunks);
+        statuses = Arrays.copyOf(statuses, chunks);
+        reporters = Arrays.copyOf(reporters, chunks);
+        topics = Arrays.copyOf(topics, chunks);
+        descriptions = Arrays.copyOf(descriptions, chunks);
+        types[chunks - 1] = new byte[CHUNK_SIZE];
+        priorities[chunks - 1] = new byte[CHUNK_SIZE];
+        statuses[chunks - 1] = new byte[CHUNK_SIZE];
+        reporters[chunks - 1] = new int[CHUNK_SIZE];
+        topics[chunks - 1] = new int[CHUNK_SIZE];
+        descriptions[chunks - 1] = new String[CHUNK_SIZE];
+    }
+}
@@ -1,58 +1,583 @@
 package de.uniba.rz.backend.store;
 
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.backend.store.index.DuplicateDetector;
+import de.uniba.rz.backend.store.index.TextIndex;
+import de.uniba.rz.backend.store.index.TicketCounters;
+import de.uniba.rz.backend.store.index.TicketAttributeIndex;
+import de.uniba.rz.backend.store.index.TopicTrie;
+import de.uniba.rz.backend.store.index.TriageQueue;
+import de.uniba.rz.backend.store.index.TrigramIndex;
 import de.uniba.rz.entities.ticket.Priority;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * {@link TicketStore} with multi-version concurrency control, lock-free on
+ * the ticket map and the version chains.
+ * <p>
+ * Every ticket lives in its own {@link AtomicReference} pointing to a chain of
+ * immutable versions, newest first. A status change builds the next version
+ * and installs it with compare-and-set, so of two racing transitions like
+ * accept and reject exactly one wins and the other one fails the
+ * {@link TicketTransitions} check on its retry.
+ * <p>
+ * Each version is stamped with a number from a global clock. Writers publish
+ * their numbers strictly in order, so once {@code stable} reaches a number,
+ * every version up to it is installed. Readers pick {@code stable} as their
+ * snapshot and see, per ticket, the newest version not newer than it. They
+ * neither block writers nor copy tickets. Versions older than the oldest
+ * active snapshot are unlinked by the next write to the same ticket.
+ * <p>
+ * A ring buffer remembers which ticket each of the last version numbers
+ * changed, which answers {@link #getChangesSince(long)} without a scan.
+ * <p>
+ * The secondary indexes are not lock-free: {@link TicketAttributeIndex},
+ * {@link TextIndex}, {@link TopicTrie}, {@link TrigramIndex},
+ * {@link DuplicateDetector} and {@link TriageQueue} each guard themselves with
+ * one lock, so creations and removals, which update all of them, and status
+ * changes, which update the attribute index and the triage queue, serialize
+ * on those locks. Lookups by id, pages and snapshots never touch them.
+ * <p>
+ * Tickets handed out by the snapshot reads are the stored versions
+ * themselves and must not be modified.
+ */
 public class ConcurrentTicketStore implements TicketStore {
 
+    private static final int DEFAULT_CHANGE_LOG_CAPACITY = 1 << 16;
+    private static final int DUPLICATE_LIMIT = 20;
+    private static final int TRIAGE_SLACK = 16;
+
     private final Logger logger = LoggerFactory.getLogger(ConcurrentTicketStore.class);
 
-    ConcurrentHashMap<Integer, Ticket> tickets = new ConcurrentHashMap<>();
+    ConcurrentHashMap<Integer, AtomicReference<TicketVersion>> tickets = new ConcurrentHashMap<>();
+    // ids of the stored tickets in order, added before the version is published
+    private final ConcurrentSkipListSet<Integer> liveIds = new ConcurrentSkipListSet<>();
     private final AtomicInteger ticketId;
+    private final TicketAttributeIndex attributeIndex = new TicketAttributeIndex();
+    private final TextIndex textIndex = new TextIndex();
+    private final TopicTrie topicTrie = new TopicTrie();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final DuplicateDetector duplicateDetector = new DuplicateDetector();
+    private final TriageQueue triageQueue = new TriageQueue();
+    private final TicketCounters counters = new TicketCounters();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong stable = new AtomicLong();
+    // snapshot version -> number of readers registered with it
+    private final ConcurrentSkipListMap<Long, Integer> readers = new ConcurrentSkipListMap<>();
+    // version % capacity -> id of the ticket changed by that version
+    private final AtomicIntegerArray changeLog;
+    private final long firstVersion;
 
     public ConcurrentTicketStore() {
+        this(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    /**
+     * @param changeLogCapacity number of changes {@link #getChangesSince(long)}
+     *                          can look back before callers have to resync
+     */
+    public ConcurrentTicketStore(int changeLogCapacity) {
         this.ticketId = new AtomicInteger(1);
+        this.changeLog = new AtomicIntegerArray(changeLogCapacity);
+        // versions of an earlier run of the server are smaller, so clients holding one resync
+        this.firstVersion = System.currentTimeMillis() * 1000;
+        this.clock.set(firstVersion);
+        this.stable.set(firstVersion);
+    }
+
+    static final class TicketVersion {
+        final Ticket ticket;
+        final long version;
+        volatile TicketVersion previous;
+
+        TicketVersion(Ticket ticket, long version, TicketVersion previous) {
+            this.ticket = ticket;
+            this.version = version;
+            this.previous = previous;
+        }
     }
 
     @Override
     public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
         logger.info("Store new ticket :: " + reporter + "::" + topic + "::" + description + "::" + type + "::" + priority);
+        TicketStore.checkAttributes(type, priority);
         Ticket newTicket = new Ticket(ticketId.getAndIncrement(), reporter, topic, description, type, priority);
-        tickets.put(newTicket.getId(), newTicket);
+        // index first, so a status change can only reach the index after the add
+        index(newTicket);
+        long version = clock.incrementAndGet();
+        try {
+            tickets.put(newTicket.getId(), new AtomicReference<>(new TicketVersion(newTicket, version, null)));
+            liveIds.add(newTicket.getId());
+            logChange(version, newTicket.getId());
+        } finally {
+            publish(version);
+        }
         return (Ticket) newTicket.clone();
     }
 
+    /**
+     * Takes the ids and version numbers of the whole batch in one step each
+     * and publishes all tickets at once, so readers see either none or all
+     * of them.
+     */
     @Override
-    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws IllegalStateException {
+    public List<Ticket> storeNewTickets(List<Ticket> batch) {
+        logger.info("Store new tickets :: " + batch.size());
+        if (batch.isEmpty()) {
+            return new ArrayList<>();
+        }
+        batch.forEach(ticket -> TicketStore.checkAttributes(ticket.getType(), ticket.getPriority()));
+        int firstId = ticketId.getAndAdd(batch.size());
+        Ticket[] newTickets = new Ticket[batch.size()];
+        for (int i = 0; i < newTickets.length; i++) {
+            Ticket ticket = batch.get(i);
+            newTickets[i] = new Ticket(firstId + i, ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                    ticket.getType(), ticket.getPriority());
+            index(newTickets[i]);
+        }
+        long fromVersion = clock.getAndAdd(newTickets.length) + 1;
+        try {
+            for (int i = 0; i < newTickets.length; i++) {
+                long version = fromVersion + i;
+                tickets.put(newTickets[i].getId(), new AtomicReference<>(new TicketVersion(newTickets[i], version, null)));
+                liveIds.add(newTickets[i].getId());
+                logChange(version, newTickets[i].getId());
+            }
+        } finally {
+            publish(fromVersion, fromVersion + newTickets.length - 1);
+        }
+        List<Ticket> stored = new ArrayList<>(newTickets.length);
+        for (Ticket newTicket : newTickets) {
+            stored.add((Ticket) newTicket.clone());
+        }
+        return stored;
+    }
+
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
         logger.info("Update Ticket Status " + ticketId + "::" + newStatus);
-        tickets.forEach((id, ticket) -> {
-            if (id == ticketId) {
-                ticket.setStatus(newStatus);
+        return transition(ticketId, newStatus);
+    }
+
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ticketIds, Status newStatus) {
+        logger.info("Update Ticket Statuses " + ticketIds.length + "::" + newStatus);
+        TransitionResult result = new TransitionResult(ticketIds);
+        for (int i = 0; i < ticketIds.length; i++) {
+            try {
+                result.succeed(i, transition(ticketIds[i], newStatus));
+            } catch (UnknownTicketException | IllegalStateException e) {
+                result.fail(i, e.getMessage());
             }
-        });
-        return null;
+        }
+        return result;
+    }
+
+    private Ticket transition(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        AtomicReference<TicketVersion> ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new UnknownTicketException("Ticket ID " + ticketId + " is unknown");
+        }
+        while (true) {
+            TicketVersion current = ticket.get();
+            TicketTransitions.check(current.ticket.getStatus(), newStatus);
+            TicketVersion next = install(ticket, current, TicketTransitions.withStatus(current.ticket, newStatus));
+            if (next != null) {
+                attributeIndex.reconcileStatus(ticketId, () -> ticket.get().ticket.getStatus());
+                triageQueue.reconcile(ticketId, next.ticket.getPriority(), () -> ticket.get().ticket.getStatus());
+                counters.replace(current.ticket, next.ticket);
+                return (Ticket) next.ticket.clone();
+            }
+        }
+    }
+
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        TicketStore.checkTicket(ticket);
+        Ticket restoredTicket = (Ticket) ticket.clone();
+        long version = clock.incrementAndGet();
+        AtomicReference<TicketVersion> current;
+        try {
+            current = tickets.putIfAbsent(restoredTicket.getId(),
+                    new AtomicReference<>(new TicketVersion(restoredTicket, version, null)));
+            liveIds.add(restoredTicket.getId());
+            logChange(version, restoredTicket.getId());
+        } finally {
+            publish(version);
+        }
+        if (current == null) {
+            attributeIndex.add(restoredTicket);
+            textIndex.add(restoredTicket.getId(), restoredTicket.getTopic(), restoredTicket.getDescription());
+            topicTrie.add(restoredTicket.getId(), restoredTicket.getTopic());
+            trigramIndex.add(restoredTicket.getId(), restoredTicket.getTopic());
+            duplicateDetector.add(restoredTicket.getId(), restoredTicket.getDescription());
+            counters.add(restoredTicket);
+            triageQueue.reconcile(restoredTicket.getId(), restoredTicket.getPriority(),
+                    () -> tickets.get(restoredTicket.getId()).get().ticket.getStatus());
+        } else {
+            TicketVersion replaced;
+            do {
+                // lost against a concurrent change, restore on top of it
+                replaced = current.get();
+            } while (install(current, replaced, restoredTicket) == null);
+            counters.replace(replaced.ticket, restoredTicket);
+            attributeIndex.reconcileStatus(restoredTicket.getId(), () -> current.get().ticket.getStatus());
+            triageQueue.reconcile(restoredTicket.getId(), restoredTicket.getPriority(), () -> current.get().ticket.getStatus());
+        }
+        ticketId.accumulateAndGet(restoredTicket.getId() + 1, Math::max);
+    }
+
+    /**
+     * Unlinks the ticket from the store right away, snapshots taken before
+     * do not see it anymore either.
+     */
+    @Override
+    public Ticket removeTicket(int ticketId) {
+        logger.info("removeTicket :: " + ticketId);
+        AtomicReference<TicketVersion> ticket = tickets.remove(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        liveIds.remove(ticketId);
+        Ticket removed = ticket.get().ticket;
+        attributeIndex.remove(removed);
+        textIndex.remove(ticketId, removed.getTopic(), removed.getDescription());
+        topicTrie.remove(ticketId, removed.getTopic());
+        trigramIndex.remove(ticketId, removed.getTopic());
+        duplicateDetector.remove(ticketId);
+        triageQueue.remove(ticketId, removed.getPriority());
+        counters.remove(removed);
+        return (Ticket) removed.clone();
     }
 
+    @Override
+    public void reserveTicketId(int ticketId) {
+        this.ticketId.accumulateAndGet(ticketId + 1, Math::max);
+    }
+
+    /**
+     * Returns a consistent point-in-time view of all tickets.
+     */
     @Override
     public List<Ticket> getAllTickets() {
         logger.info("getAllTickets");
-        List<Ticket> allTickets = new ArrayList<>();
-        tickets.forEach((id, ticket) -> allTickets.add(ticket));
-        return allTickets;
+        long registered = beginRead();
+        try {
+            return ticketsAt(stable.get());
+        } finally {
+            endRead(registered);
+        }
+    }
+
+    /**
+     * Walks the ordered ids of the stored tickets from the cursor on at one
+     * snapshot, so a page takes time proportional to the page size no matter
+     * how many ids before it were removed or archived.
+     */
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        TicketStore.checkPageSize(pageSize);
+        logger.info("getTickets :: " + afterId + "::" + pageSize);
+        long registered = beginRead();
+        try {
+            long snapshot = stable.get();
+            List<Ticket> page = new ArrayList<>(Math.min(pageSize + 1, 1024));
+            for (int id : liveIds.tailSet(afterId, false)) {
+                if (page.size() > pageSize) {
+                    break;
+                }
+                AtomicReference<TicketVersion> ticket = tickets.get(id);
+                Ticket visible = ticket == null ? null : visibleAt(ticket, snapshot);
+                if (visible != null) {
+                    page.add(visible);
+                }
+            }
+            return TicketPage.of(page, afterId, pageSize);
+        } finally {
+            endRead(registered);
+        }
+    }
+
+    /**
+     * Looks up the tickets changed by the versions after {@code version} in
+     * the change log. Asks for a resync if the log has been overwritten since
+     * or if {@code version} was not handed out by this instance of the store,
+     * e.g. after a restart.
+     */
+    @Override
+    public TicketChanges getChangesSince(long version) {
+        logger.info("getChangesSince :: " + version);
+        long registered = beginRead();
+        try {
+            long snapshot = stable.get();
+            int capacity = changeLog.length();
+            if (version < firstVersion || version > snapshot || snapshot - version > capacity) {
+                return new TicketChanges(snapshot, true, ticketsAt(snapshot));
+            }
+            Set<Integer> changedIds = new LinkedHashSet<>();
+            for (long changed = version + 1; changed <= snapshot; changed++) {
+                changedIds.add(changeLog.get((int) (changed % capacity)));
+            }
+            // writers may have wrapped around the log while it was read
+            if (clock.get() - version > capacity) {
+                return new TicketChanges(snapshot, true, ticketsAt(snapshot));
+            }
+            List<Ticket> changes = new ArrayList<>(changedIds.size());
+            for (int id : changedIds) {
+                AtomicReference<TicketVersion> ticket = tickets.get(id);
+                Ticket visible = ticket == null ? null : visibleAt(ticket, snapshot);
+                if (visible != null) {
+                    changes.add(visible);
+                }
+            }
+            return new TicketChanges(snapshot, false, changes);
+        } finally {
+            endRead(registered);
+        }
     }
 
     @Override
     public Ticket getTicketById(int ticketId) {
         logger.info("getTicketByID :: " + ticketId);
-        return (Ticket) tickets.entrySet().stream().filter(ticket -> ticket.getKey() == ticketId).findFirst().orElse(null);
+        AtomicReference<TicketVersion> ticket = tickets.get(ticketId);
+        return ticket == null ? null : (Ticket) ticket.get().ticket.clone();
+    }
+
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        logger.info("findTickets :: " + type + "::" + status + "::" + priority + "::" + reporter);
+        int[] candidates = attributeIndex.candidates(type, status, priority, reporter);
+        if (candidates == null) {
+            return getAllTickets();
+        }
+        long registered = beginRead();
+        try {
+            long snapshot = stable.get();
+            List<Ticket> result = new ArrayList<>(candidates.length);
+            for (int id : candidates) {
+                AtomicReference<TicketVersion> ticket = tickets.get(id);
+                Ticket visible = ticket == null ? null : visibleAt(ticket, snapshot);
+                if (visible != null && TicketAttributeIndex.matches(visible, type, status, priority, reporter)) {
+                    result.add(visible);
+                }
+            }
+            return result;
+        } finally {
+            endRead(registered);
+        }
+    }
+
+    @Override
+    public List<Ticket> searchTickets(String query, int limit) {
+        logger.info("searchTickets :: " + query + "::" + limit);
+        return ticketsWithIds(textIndex.search(query, limit));
+    }
+
+    @Override
+    public List<String> completeTopic(String prefix, int limit) {
+        return topicTrie.complete(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        logger.info("getTicketsByTopicPrefix :: " + prefix + "::" + limit);
+        return ticketsWithIds(topicTrie.ticketIdsWithPrefix(prefix, limit));
+    }
+
+    @Override
+    public TicketStatistics getStatistics() {
+        return counters.snapshot();
+    }
+
+    /**
+     * Reads the head of the triage queue. A ticket accepted or rejected
+     * meanwhile may still be in the queue but is no longer new in the
+     * snapshot, so a few more ids are read than asked for.
+     */
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) {
+        logger.info("getTicketsToTriage :: " + limit);
+        List<Ticket> result = new ArrayList<>();
+        for (Ticket ticket : ticketsWithIds(triageQueue.head((int) Math.min(Integer.MAX_VALUE, (long) limit + TRIAGE_SLACK)))) {
+            if (ticket.getStatus() == Status.NEW && result.size() < limit) {
+                result.add(ticket);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Ticket> getLikelyDuplicates(int ticketId) {
+        return ticketsWithIds(duplicateDetector.duplicatesOf(ticketId, DUPLICATE_LIMIT));
+    }
+
+    @Override
+    public List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        logger.info("findTicketsByFuzzyTopic :: " + topic + "::" + maxEdits);
+        return ticketsWithIds(trigramIndex.search(topic, maxEdits));
+    }
+
+    /**
+     * Looks up the given ids at one snapshot, skipping tickets that are
+     * indexed but not yet visible.
+     */
+    private List<Ticket> ticketsWithIds(int[] ids) {
+        long registered = beginRead();
+        try {
+            long snapshot = stable.get();
+            List<Ticket> result = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                AtomicReference<TicketVersion> ticket = tickets.get(id);
+                Ticket visible = ticket == null ? null : visibleAt(ticket, snapshot);
+                if (visible != null) {
+                    result.add(visible);
+                }
+            }
+            return result;
+        } finally {
+            endRead(registered);
+        }
+    }
+
+    /**
+     * Tries to replace {@code current} with a new version of the ticket.
+     *
+     * @return the installed version, or {@code null} if another writer came
+     * first
+     */
+    private TicketVersion install(AtomicReference<TicketVersion> ticket, TicketVersion current, Ticket newTicket) {
+        // the clock is read after current, so versions in a chain always grow
+        long version = clock.incrementAndGet();
+        TicketVersion next = new TicketVersion(newTicket, version, current);
+        boolean installed;
+        try {
+            installed = ticket.compareAndSet(current, next);
+            logChange(version, newTicket.getId());
+        } finally {
+            publish(version);
+        }
+        if (!installed) {
+            return null;
+        }
+        prune(next);
+        return next;
+    }
+
+    /**
+     * Makes {@code version} visible to new readers once all older versions
+     * are. Writers only ever wait for writers which already hold a smaller
+     * number and are about to publish it, so the wait is short unless that
+     * writer got descheduled, which is why the spinning backs off to yield.
+     */
+    private void publish(long version) {
+        publish(version, version);
+    }
+
+    /**
+     * Makes the versions {@code first} to {@code last} visible at once, see
+     * {@link #publish(long)}.
+     */
+    private void publish(long first, long last) {
+        for (int spins = 0; !stable.compareAndSet(first - 1, last); spins++) {
+            if (spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Registers a reader and returns the number it is registered with.
+     * <p>
+     * The reader reads {@code stable} again afterwards and uses that as its
+     * snapshot. Writers read {@code stable} before looking at the registered
+     * readers, so a writer missing the registration has seen a {@code stable}
+     * no newer than the snapshot and never unlinks a version the reader needs.
+     */
+    private long beginRead() {
+        long registered = stable.get();
+        readers.merge(registered, 1, Integer::sum);
+        return registered;
+    }
+
+    private void endRead(long registered) {
+        readers.computeIfPresent(registered, (version, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Unlinks all versions of the chain that no current or future reader can
+     * see anymore.
+     */
+    private void prune(TicketVersion head) {
+        long horizon = stable.get();
+        Map.Entry<Long, Integer> oldestReader = readers.firstEntry();
+        if (oldestReader != null) {
+            horizon = Math.min(horizon, oldestReader.getKey());
+        }
+        TicketVersion version = head;
+        while (version != null && version.version > horizon) {
+            version = version.previous;
+        }
+        if (version != null) {
+            version.previous = null;
+        }
+    }
+
+    private void index(Ticket newTicket) {
+        attributeIndex.add(newTicket);
+        textIndex.add(newTicket.getId(), newTicket.getTopic(), newTicket.getDescription());
+        topicTrie.add(newTicket.getId(), newTicket.getTopic());
+        trigramIndex.add(newTicket.getId(), newTicket.getTopic());
+        int[] duplicates = duplicateDetector.add(newTicket.getId(), newTicket.getDescription());
+        if (duplicates.length > 0) {
+            logger.info("Likely duplicate :: " + newTicket.getId() + " of " + Arrays.toString(duplicates));
+        }
+        triageQueue.update(newTicket.getId(), newTicket.getPriority(), newTicket.getStatus());
+        counters.add(newTicket);
+    }
+
+    private List<Ticket> ticketsAt(long snapshot) {
+        List<Ticket> allTickets = new ArrayList<>(tickets.size());
+        tickets.forEach((id, ticket) -> {
+            Ticket visible = visibleAt(ticket, snapshot);
+            if (visible != null) {
+                allTickets.add(visible);
+            }
+        });
+        return allTickets;
+    }
+
+    private void logChange(long version, int ticketId) {
+        changeLog.set((int) (version % changeLog.length()), ticketId);
+    }
+
+    private static Ticket visibleAt(AtomicReference<TicketVersion> ticket, long snapshot) {
+        TicketVersion version = ticket.get();
+        while (version != null && version.version > snapshot) {
+            version = version.previous;
+        }
+        return version == null ? null : version.ticket;
     }
 }
@@ -0,0 +1,304 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TicketStore} keeping the ticket data outside of the Java heap.
+ * <p>
+ * Tickets are encoded into direct {@link ByteBuffer} slabs which are
+ * appended to one after another. The heap only holds the slab references
+ * and a chunked {@code long[]} index from ticket id to record address, so
+ * heap usage and GC work stay flat while the ticket count grows.
+ * <p>
+ * Record layout: status, type and priority as one byte each, followed by
+ * reporter, topic and description as int length plus UTF-8 bytes (length
+ * -1 encodes {@code null}). The status sits at a fixed position at the start
+ * of the record, so status changes are rewritten in place and never need
+ * new space.
+ */
+public class OffHeapTicketStore implements TicketStore {
+
+    static final int DEFAULT_SLAB_SIZE = 16 * 1024 * 1024;
+
+    private static final int INDEX_CHUNK_BITS = 16;
+    private static final int INDEX_CHUNK_SIZE = 1 << INDEX_CHUNK_BITS;
+    private static final int INDEX_CHUNK_MASK = INDEX_CHUNK_SIZE - 1;
+    private static final int HEADER_SIZE = 3;
+
+    private static final Type[] TYPES = Type.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final Logger logger = LoggerFactory.getLogger(OffHeapTicketStore.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int slabSize;
+
+    private ByteBuffer[] slabs = new ByteBuffer[0];
+    private int writePosition;
+    private long[][] addresses = new long[0][];
+    private int size;
+
+    public OffHeapTicketStore() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    public OffHeapTicketStore(int slabSize) {
+        this.slabSize = slabSize;
+    }
+
+    @Override
+    public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
+        logger.info("Store new ticket :: " + reporter + "::" + topic + "::" + type + "::" + priority);
+        TicketStore.checkAttributes(type, priority);
+        lock.writeLock().lock();
+        try {
+            appendRecord(reporter, topic, description, type, priority, Status.NEW);
+            return new Ticket(size, reporter, topic, description, type, priority);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        logger.info("Update Ticket Status " + ticketId + "::" + newStatus);
+        lock.writeLock().lock();
+        try {
+            long address = addressOf(ticketId);
+            if (address < 0) {
+                throw new UnknownTicketException("Ticket ID " + ticketId + " is unknown");
+            }
+            ByteBuffer slab = slabs[slabOf(address)];
+            TicketTransitions.check(STATUSES[slab.get(offsetOf(address))], newStatus);
+            slab.put(offsetOf(address), (byte) newStatus.ordinal());
+            return toTicket(ticketId, address);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the status of a stored ticket or appends the next one. Tickets
+     * have to be restored in id order, all other fields of a ticket never
+     * change.
+     */
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        TicketStore.checkTicket(ticket);
+        lock.writeLock().lock();
+        try {
+            long address = addressOf(ticket.getId());
+            if (address >= 0) {
+                slabs[slabOf(address)].put(offsetOf(address), (byte) ticket.getStatus().ordinal());
+            } else if (ticket.getId() == size + 1) {
+                appendRecord(ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                        ticket.getType(), ticket.getPriority(), ticket.getStatus());
+            } else {
+                throw new IllegalArgumentException("Ticket #" + ticket.getId() + " can not be restored behind " + size + " tickets");
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Ticket> getAllTickets() {
+        logger.info("getAllTickets");
+        lock.readLock().lock();
+        try {
+            List<Ticket> allTickets = new ArrayList<>(size);
+            for (int id = 1; id <= size; id++) {
+                allTickets.add(toTicket(id, addressOf(id)));
+            }
+            return allTickets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Ticket getTicketById(int ticketId) {
+        logger.info("getTicketByID :: " + ticketId);
+        lock.readLock().lock();
+        try {
+            long address = addressOf(ticketId);
+            return address < 0 ? null : toTicket(ticketId, address);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        TicketStore.checkPageSize(pageSize);
+        lock.readLock().lock();
+        try {
+            int first = Math.max(afterId, 0) + 1;
+            int last = (int) Math.min(size, (long) first + pageSize);
+            List<Ticket> page = new ArrayList<>(Math.max(last - first + 1, 0));
+            for (int id = first; id <= last; id++) {
+                page.add(toTicket(id, addressOf(id)));
+            }
+            return TicketPage.of(page, afterId, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filters on the record headers and only decodes matching records.
+     */
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        logger.info("findTickets :: " + type + "::" + status + "::" + priority + "::" + reporter);
+        byte[] reporterBytes = encode(reporter);
+        lock.readLock().lock();
+        try {
+            List<Ticket> result = new ArrayList<>();
+            for (int id = 1; id <= size; id++) {
+                long address = addressOf(id);
+                ByteBuffer slab = slabs[slabOf(address)];
+                int position = offsetOf(address);
+                if ((status == null || slab.get(position) == status.ordinal())
+                        && (type == null || slab.get(position + 1) == type.ordinal())
+                        && (priority == null || slab.get(position + 2) == priority.ordinal())
+                        && (reporter == null || stringEquals(slab, position + HEADER_SIZE, reporterBytes))) {
+                    result.add(toTicket(id, address));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void appendRecord(String reporter, String topic, String description, Type type, Priority priority, Status status) {
+        byte[] reporterBytes = encode(reporter);
+        byte[] topicBytes = encode(topic);
+        byte[] descriptionBytes = encode(description);
+        int recordSize = HEADER_SIZE + encodedSize(reporterBytes) + encodedSize(topicBytes) + encodedSize(descriptionBytes);
+        long address = allocate(recordSize);
+        ByteBuffer slab = slabs[slabOf(address)];
+        int position = offsetOf(address);
+        slab.put(position, (byte) status.ordinal());
+        slab.put(position + 1, (byte) type.ordinal());
+        slab.put(position + 2, (byte) priority.ordinal());
+        position = writeString(slab, position + HEADER_SIZE, reporterBytes);
+        position = writeString(slab, position, topicBytes);
+        writeString(slab, position, descriptionBytes);
+
+        int row = size;
+        if ((row >>> INDEX_CHUNK_BITS) == addresses.length) {
+            addresses = Arrays.copyOf(addresses, addresses.length + 1);
+            addresses[addresses.length - 1] = new long[INDEX_CHUNK_SIZE];
+        }
+        addresses[row >>> INDEX_CHUNK_BITS][row & INDEX_CHUNK_MASK] = address;
+        size++;
+    }
+
+    private long addressOf(int ticketId) {
+        int row = ticketId - 1;
+        if (row < 0 || row >= size) {
+            return -1;
+        }
+        return addresses[row >>> INDEX_CHUNK_BITS][row & INDEX_CHUNK_MASK];
+    }
+
+    /**
+     * Reserves {@code recordSize} bytes at the end of the current slab, or in a
+     * fresh slab if it does not fit anymore.
+     */
+    private long allocate(int recordSize) {
+        if (slabs.length == 0 || writePosition + recordSize > slabs[slabs.length - 1].capacity()) {
+            slabs = Arrays.copyOf(slabs, slabs.length + 1);
+            slabs[slabs.length - 1] = ByteBuffer.allocateDirect(Math.max(slabSize, recordSize));
+            writePosition = 0;
+        }
+        long address = ((long) (slabs.length - 1) << 32) | writePosition;
+        writePosition += recordSize;
+        return address;
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    private Ticket toTicket(int ticketId, long address) {
+        ByteBuffer slab = slabs[slabOf(address)];
+        int position = offsetOf(address);
+        Status status = STATUSES[slab.get(position)];
+        Type type = TYPES[slab.get(position + 1)];
+        Priority priority = PRIORITIES[slab.get(position + 2)];
+        position += HEADER_SIZE;
+        String reporter = readString(slab, position);
+        position += encodedSize(slab.getInt(position));
+        String topic = readString(slab, position);
+        position += encodedSize(slab.getInt(position));
+        String description = readString(slab, position);
+        return new Ticket(ticketId, reporter, topic, description, type, priority, status);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int encodedSize(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static int encodedSize(int length) {
+        return Integer.BYTES + Math.max(length, 0);
+    }
+
+    private static int writeString(ByteBuffer slab, int position, byte[] bytes) {
+        if (bytes == null) {
+            slab.putInt(position, -1);
+            return position + Integer.BYTES;
+        }
+        slab.putInt(position, bytes.length);
+        slab.put(position + Integer.BYTES, bytes);
+        return position + Integer.BYTES + bytes.length;
+    }
+
+    private static String readString(ByteBuffer slab, int position) {
+        int length = slab.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        slab.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean stringEquals(ByteBuffer slab, int position, byte[] bytes) {
+        int length = slab.getInt(position);
+        if (length != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (slab.get(position + Integer.BYTES + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
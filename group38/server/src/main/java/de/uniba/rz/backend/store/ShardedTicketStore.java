@@ -0,0 +1,503 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.backend.store.index.DuplicateDetector;
+import de.uniba.rz.backend.store.index.TextIndex;
+import de.uniba.rz.backend.store.index.TicketCounters;
+import de.uniba.rz.backend.store.index.TicketAttributeIndex;
+import de.uniba.rz.backend.store.index.TopicTrie;
+import de.uniba.rz.backend.store.index.TriageQueue;
+import de.uniba.rz.backend.store.index.TrigramIndex;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
+import de.uniba.rz.entities.ticket.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TicketStore} partitioning the tickets by id across a fixed number of
+ * shards.
+ * <p>
+ * Each shard owns one single-threaded executor which applies all of its
+ * mutations, so a shard needs no locks for writing. Ids come from one
+ * counter shared by all shards, so they follow the order in which tickets
+ * were created, and ticket {@code id} lives on shard {@code (id - 1) % shards},
+ * which spreads new tickets evenly. Reads go straight to the concurrent maps
+ * of the shards and never wait for an executor.
+ * <p>
+ * Stored tickets are immutable, a status change replaces the ticket.
+ */
+public class ShardedTicketStore implements TicketStore, Closeable {
+
+    private static final int DUPLICATE_LIMIT = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(ShardedTicketStore.class);
+    private final Shard[] shards;
+    // shared by all shards, so BM25 sees the statistics of all tickets
+    private final TextIndex textIndex = new TextIndex();
+    private final TopicTrie topicTrie = new TopicTrie();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final DuplicateDetector duplicateDetector = new DuplicateDetector();
+    // all changes of a ticket run on the writer of its shard, so no reconciling is needed
+    private final TriageQueue triageQueue = new TriageQueue();
+    // shared as well, the adders keep the writers of different shards apart
+    private final TicketCounters counters = new TicketCounters();
+    // guards nextTicketId and unpublished
+    private final Object idMonitor = new Object();
+    private int nextTicketId = 1;
+    // first ids of the creations handed out but not yet stored on their shards
+    private final TreeSet<Integer> unpublished = new TreeSet<>();
+
+    public ShardedTicketStore(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    private static final class Shard {
+        final ConcurrentHashMap<Integer, Ticket> tickets = new ConcurrentHashMap<>();
+        // ids of the tickets above in order, for paging
+        final ConcurrentSkipListSet<Integer> ids = new ConcurrentSkipListSet<>();
+        final TicketAttributeIndex attributeIndex = new TicketAttributeIndex();
+        final ExecutorService writer;
+        final int index;
+
+        Shard(int index) {
+            this.index = index;
+            this.writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ticket-shard-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
+        logger.info("Store new ticket :: " + reporter + "::" + topic + "::" + description + "::" + type + "::" + priority);
+        TicketStore.checkAttributes(type, priority);
+        int ticketId = handOutIds(1);
+        Shard shard = shardOf(ticketId);
+        try {
+            return execute(shard, () -> insert(shard, ticketId, reporter, topic, description, type, priority));
+        } catch (UnknownTicketException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            published(ticketId);
+        }
+    }
+
+    /**
+     * Takes the ids of the whole batch in one step and hands each shard its
+     * part of the batch as one task, so the shards store it in parallel.
+     */
+    @Override
+    public List<Ticket> storeNewTickets(List<Ticket> batch) {
+        logger.info("Store new tickets :: " + batch.size());
+        if (batch.isEmpty()) {
+            return new ArrayList<>();
+        }
+        batch.forEach(ticket -> TicketStore.checkAttributes(ticket.getType(), ticket.getPriority()));
+        int firstId = handOutIds(batch.size());
+        Ticket[] stored = new Ticket[batch.size()];
+        try {
+            List<Future<?>> tasks = new ArrayList<>(Math.min(shards.length, batch.size()));
+            for (int first = 0; first < Math.min(shards.length, batch.size()); first++) {
+                Shard shard = shardOf(firstId + first);
+                int offset = first;
+                tasks.add(shard.writer.submit(() -> {
+                    for (int i = offset; i < stored.length; i += shards.length) {
+                        Ticket ticket = batch.get(i);
+                        stored[i] = insert(shard, firstId + i, ticket.getReporter(), ticket.getTopic(),
+                                ticket.getDescription(), ticket.getType(), ticket.getPriority());
+                    }
+                }));
+            }
+            awaitAll(tasks);
+        } finally {
+            published(firstId);
+        }
+        return new ArrayList<>(Arrays.asList(stored));
+    }
+
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        logger.info("Update Ticket Status " + ticketId + "::" + newStatus);
+        Shard shard = shardOf(ticketId);
+        if (shard == null) {
+            throw new UnknownTicketException("Ticket ID " + ticketId + " is unknown");
+        }
+        return execute(shard, () -> transition(shard, ticketId, newStatus));
+    }
+
+    /**
+     * Hands each shard its part of the batch as one task, so the shards work
+     * on the batch in parallel.
+     */
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ticketIds, Status newStatus) {
+        logger.info("Update Ticket Statuses " + ticketIds.length + "::" + newStatus);
+        TransitionResult result = new TransitionResult(ticketIds);
+        Ticket[] updated = new Ticket[ticketIds.length];
+        List<Future<?>> tasks = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            tasks.add(shard.writer.submit(() -> {
+                for (int i = 0; i < ticketIds.length; i++) {
+                    if (shardOf(ticketIds[i]) == shard) {
+                        try {
+                            updated[i] = transition(shard, ticketIds[i], newStatus);
+                        } catch (UnknownTicketException | IllegalStateException e) {
+                            result.fail(i, e.getMessage());
+                        }
+                    }
+                }
+            }));
+        }
+        awaitAll(tasks);
+        for (int i = 0; i < ticketIds.length; i++) {
+            if (updated[i] != null) {
+                result.succeed(i, updated[i]);
+            } else if (result.succeeded(i)) {
+                result.fail(i, "Ticket ID " + ticketIds[i] + " is unknown");
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        TicketStore.checkTicket(ticket);
+        Ticket restoredTicket = (Ticket) ticket.clone();
+        Shard shard = shardOf(restoredTicket.getId());
+        if (shard == null) {
+            throw new IllegalArgumentException("Ticket #" + restoredTicket.getId() + " has an invalid id");
+        }
+        try {
+            execute(shard, () -> {
+                Ticket current = shard.tickets.put(restoredTicket.getId(), restoredTicket);
+                if (current == null) {
+                    shard.ids.add(restoredTicket.getId());
+                    shard.attributeIndex.add(restoredTicket);
+                    textIndex.add(restoredTicket.getId(), restoredTicket.getTopic(), restoredTicket.getDescription());
+                    topicTrie.add(restoredTicket.getId(), restoredTicket.getTopic());
+                    trigramIndex.add(restoredTicket.getId(), restoredTicket.getTopic());
+                    duplicateDetector.add(restoredTicket.getId(), restoredTicket.getDescription());
+                    counters.add(restoredTicket);
+                } else {
+                    counters.replace(current, restoredTicket);
+                    shard.attributeIndex.updateStatus(restoredTicket.getId(), current.getStatus(), restoredTicket.getStatus());
+                }
+                triageQueue.update(restoredTicket.getId(), restoredTicket.getPriority(), restoredTicket.getStatus());
+                return null;
+            });
+        } catch (UnknownTicketException e) {
+            throw new IllegalStateException(e);
+        }
+        reserveTicketId(restoredTicket.getId());
+    }
+
+    @Override
+    public Ticket removeTicket(int ticketId) {
+        logger.info("removeTicket :: " + ticketId);
+        Shard shard = shardOf(ticketId);
+        if (shard == null) {
+            return null;
+        }
+        try {
+            return execute(shard, () -> {
+                Ticket removed = shard.tickets.remove(ticketId);
+                if (removed != null) {
+                    shard.ids.remove(ticketId);
+                    shard.attributeIndex.remove(removed);
+                    textIndex.remove(ticketId, removed.getTopic(), removed.getDescription());
+                    topicTrie.remove(ticketId, removed.getTopic());
+                    trigramIndex.remove(ticketId, removed.getTopic());
+                    duplicateDetector.remove(ticketId);
+                    triageQueue.remove(ticketId, removed.getPriority());
+                    counters.remove(removed);
+                }
+                return removed;
+            });
+        } catch (UnknownTicketException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void reserveTicketId(int ticketId) {
+        synchronized (idMonitor) {
+            nextTicketId = Math.max(nextTicketId, ticketId + 1);
+        }
+    }
+
+    /**
+     * Merges the tickets of all shards in id order.
+     */
+    @Override
+    public List<Ticket> getAllTickets() {
+        logger.info("getAllTickets");
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.tickets.size();
+        }
+        List<Ticket> allTickets = new ArrayList<>(size);
+        for (Shard shard : shards) {
+            allTickets.addAll(shard.tickets.values());
+        }
+        allTickets.sort(Comparator.comparingInt(Ticket::getId));
+        return allTickets;
+    }
+
+    @Override
+    public Ticket getTicketById(int ticketId) {
+        logger.info("getTicketByID :: " + ticketId);
+        Shard shard = shardOf(ticketId);
+        Ticket ticket = shard == null ? null : shard.tickets.get(ticketId);
+        return ticket == null ? null : (Ticket) ticket.clone();
+    }
+
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        logger.info("findTickets :: " + type + "::" + status + "::" + priority + "::" + reporter);
+        List<Ticket> result = new ArrayList<>();
+        for (Shard shard : shards) {
+            int[] candidates = shard.attributeIndex.candidates(type, status, priority, reporter);
+            if (candidates == null) {
+                return getAllTickets();
+            }
+            for (int id : candidates) {
+                Ticket ticket = shard.tickets.get(id);
+                if (ticket != null && TicketAttributeIndex.matches(ticket, type, status, priority, reporter)) {
+                    result.add(ticket);
+                }
+            }
+        }
+        result.sort(Comparator.comparingInt(Ticket::getId));
+        return result;
+    }
+
+    /**
+     * Each shard walks the ordered ids of its tickets from the cursor on, so
+     * removed ids cost nothing, and the shard pages are merged.
+     * <p>
+     * A page ends before the lowest id that is handed out but not yet stored,
+     * otherwise a client could get a cursor past a ticket that only shows up
+     * afterwards and never see it.
+     */
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        TicketStore.checkPageSize(pageSize);
+        logger.info("getTickets :: " + afterId + "::" + pageSize);
+        int end = publishedIdBound();
+        List<Ticket> merged = new ArrayList<>();
+        for (Shard shard : shards) {
+            int found = 0;
+            for (int id : shard.ids.tailSet(afterId, false)) {
+                if (id >= end || found > pageSize) {
+                    break;
+                }
+                Ticket ticket = shard.tickets.get(id);
+                if (ticket != null) {
+                    merged.add(ticket);
+                    found++;
+                }
+            }
+        }
+        merged.sort(Comparator.comparingInt(Ticket::getId));
+        return TicketPage.of(merged.size() > pageSize + 1 ? merged.subList(0, pageSize + 1) : merged, afterId, pageSize);
+    }
+
+    @Override
+    public List<Ticket> searchTickets(String query, int limit) {
+        logger.info("searchTickets :: " + query + "::" + limit);
+        return ticketsWithIds(textIndex.search(query, limit));
+    }
+
+    @Override
+    public List<String> completeTopic(String prefix, int limit) {
+        return topicTrie.complete(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        logger.info("getTicketsByTopicPrefix :: " + prefix + "::" + limit);
+        return ticketsWithIds(topicTrie.ticketIdsWithPrefix(prefix, limit));
+    }
+
+    @Override
+    public TicketStatistics getStatistics() {
+        return counters.snapshot();
+    }
+
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) {
+        logger.info("getTicketsToTriage :: " + limit);
+        return ticketsWithIds(triageQueue.head(limit));
+    }
+
+    @Override
+    public List<Ticket> getLikelyDuplicates(int ticketId) {
+        return ticketsWithIds(duplicateDetector.duplicatesOf(ticketId, DUPLICATE_LIMIT));
+    }
+
+    @Override
+    public List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        logger.info("findTicketsByFuzzyTopic :: " + topic + "::" + maxEdits);
+        return ticketsWithIds(trigramIndex.search(topic, maxEdits));
+    }
+
+    private List<Ticket> ticketsWithIds(int[] ids) {
+        List<Ticket> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Ticket ticket = shardOf(id).tickets.get(id);
+            if (ticket != null) {
+                result.add(ticket);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.writer.shutdown();
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.writer.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Changes the status of a ticket of the shard, runs on its writer thread.
+     */
+    private Ticket transition(Shard shard, int ticketId, Status newStatus) throws UnknownTicketException {
+        Ticket current = shard.tickets.get(ticketId);
+        if (current == null) {
+            throw new UnknownTicketException("Ticket ID " + ticketId + " is unknown");
+        }
+        TicketTransitions.check(current.getStatus(), newStatus);
+        Ticket next = TicketTransitions.withStatus(current, newStatus);
+        shard.tickets.put(ticketId, next);
+        shard.attributeIndex.updateStatus(ticketId, current.getStatus(), newStatus);
+        triageQueue.update(ticketId, next.getPriority(), newStatus);
+        counters.replace(current, next);
+        return (Ticket) next.clone();
+    }
+
+    /**
+     * Creates a ticket with an id handed out for the shard, runs on its writer
+     * thread.
+     */
+    private Ticket insert(Shard shard, int ticketId, String reporter, String topic, String description, Type type, Priority priority) {
+        Ticket newTicket = new Ticket(ticketId, reporter, topic, description, type, priority);
+        shard.attributeIndex.add(newTicket);
+        textIndex.add(newTicket.getId(), topic, description);
+        topicTrie.add(newTicket.getId(), topic);
+        trigramIndex.add(newTicket.getId(), topic);
+        int[] duplicates = duplicateDetector.add(newTicket.getId(), description);
+        if (duplicates.length > 0) {
+            logger.info("Likely duplicate :: " + newTicket.getId() + " of " + Arrays.toString(duplicates));
+        }
+        triageQueue.update(newTicket.getId(), priority, newTicket.getStatus());
+        counters.add(newTicket);
+        shard.tickets.put(newTicket.getId(), newTicket);
+        shard.ids.add(newTicket.getId());
+        return (Ticket) newTicket.clone();
+    }
+
+    /**
+     * Hands out {@code count} consecutive ids, which count as unpublished
+     * until {@link #published(int)} is called with the first one.
+     */
+    private int handOutIds(int count) {
+        synchronized (idMonitor) {
+            int firstId = nextTicketId;
+            nextTicketId += count;
+            unpublished.add(firstId);
+            return firstId;
+        }
+    }
+
+    private void published(int firstId) {
+        synchronized (idMonitor) {
+            unpublished.remove(firstId);
+        }
+    }
+
+    /**
+     * @return an id all lower ids of which are either stored or never will be
+     */
+    private int publishedIdBound() {
+        synchronized (idMonitor) {
+            return unpublished.isEmpty() ? nextTicketId : unpublished.first();
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the shard", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private Shard shardOf(int ticketId) {
+        return ticketId < 1 ? null : shards[(ticketId - 1) % shards.length];
+    }
+
+    /**
+     * Runs a mutation on the writer thread of the shard and waits for it.
+     */
+    private <T> T execute(Shard shard, Callable<T> mutation) throws UnknownTicketException {
+        try {
+            return shard.writer.submit(mutation).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the shard", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UnknownTicketException) {
+                throw (UnknownTicketException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -6,7 +6,9 @@ import de.uniba.rz.entities.ticket.Ticket;
 import de.uniba.rz.entities.ticket.Type;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is a basic implementation of the <code>TicketStore</code> interface for
@@ -21,33 +23,52 @@ import java.util.List;
 public class SimpleTicketStore implements TicketStore {
 
 	private int nextTicketId = 0;
-	private List<Ticket> ticketList = new ArrayList<>();
+	private Map<Integer, Ticket> ticketMap = new LinkedHashMap<>();
 
 	@Override
 	public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
 		System.out.println("Creating new Ticket from Reporter: " + reporter + " with the topic \"" + topic + "\"");
+		TicketStore.checkAttributes(type, priority);
 		Ticket newTicket = new Ticket(nextTicketId++, reporter, topic, description, type, priority);
-		ticketList.add(newTicket);
+		ticketMap.put(newTicket.getId(), newTicket);
 		return newTicket;
 	}
 
 	@Override
 	public Ticket updateTicketStatus(int ticketId, Status newStatus) {
-		for (Ticket ticket : ticketList) {
-			if (ticket.getId() == ticketId) {
-				ticket.setStatus(newStatus);
-			}
+		Ticket ticket = ticketMap.get(ticketId);
+		if (ticket != null) {
+			ticket.setStatus(newStatus);
 		}
-		return ticketList.stream().filter(ticket -> ticket.getId() == ticketId).findFirst().orElse(null);
+		return ticket;
+	}
+
+	@Override
+	public void restoreTicket(Ticket ticket) {
+		TicketStore.checkTicket(ticket);
+		ticketMap.put(ticket.getId(), ticket);
+		nextTicketId = Math.max(nextTicketId, ticket.getId() + 1);
+	}
+
+	@Override
+	public Ticket removeTicket(int ticketId) {
+		return ticketMap.remove(ticketId);
+	}
+
+	@Override
+	public void reserveTicketId(int ticketId) {
+		nextTicketId = Math.max(nextTicketId, ticketId + 1);
 	}
 
 	@Override
 	public List<Ticket> getAllTickets() {
-		return ticketList;
+		List<Ticket> tickets = new ArrayList<>(ticketMap.size());
+		ticketMap.values().forEach(ticket -> tickets.add((Ticket) ticket.clone()));
+		return tickets;
 	}
 
 	@Override
 	public Ticket getTicketById(int ticketId) {
-		return ticketList.stream().filter(ticket -> ticket.getId() == ticketId).findFirst().orElse(null);
+		return ticketMap.get(ticketId);
 	}
 }
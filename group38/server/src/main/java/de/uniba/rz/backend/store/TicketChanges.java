@@ -0,0 +1,54 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.entities.ticket.Ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of {@link TicketStore#getChangesSince(long)}: the tickets created or
+ * updated after the requested version and the version to ask for next time.
+ * <p>
+ * If the store no longer knows the changes since the requested version,
+ * {@code resyncRequired} is set and {@code tickets} holds all tickets
+ * instead, which then replace everything the caller knows.
+ */
+public class TicketChanges {
+
+    private long version;
+    private boolean resyncRequired;
+    private List<Ticket> tickets = new ArrayList<>();
+
+    public TicketChanges() {
+    }
+
+    public TicketChanges(long version, boolean resyncRequired, List<Ticket> tickets) {
+        this.version = version;
+        this.resyncRequired = resyncRequired;
+        this.tickets = tickets;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+
+    public List<Ticket> getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(List<Ticket> tickets) {
+        this.tickets = tickets;
+    }
+}
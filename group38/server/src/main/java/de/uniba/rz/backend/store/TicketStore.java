@@ -2,21 +2,322 @@ package de.uniba.rz.backend.store;
 
 
 import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.backend.store.index.DuplicateDetector;
+import de.uniba.rz.backend.store.index.TextIndex;
+import de.uniba.rz.backend.store.index.TicketCounters;
+import de.uniba.rz.backend.store.index.TicketAttributeIndex;
+import de.uniba.rz.backend.store.index.TopicTrie;
+import de.uniba.rz.backend.store.index.TriageQueue;
+import de.uniba.rz.backend.store.index.TrigramIndex;
 import de.uniba.rz.entities.ticket.Priority;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface TicketStore {
 
     Ticket storeNewTicket(String reporter, String topic, String description,
                           Type type, Priority priority);
 
+    /**
+     * Stores a batch of new tickets. Only reporter, topic, description, type
+     * and priority of the given tickets are used, ids and status are handed
+     * out by the store.
+     * <p>
+     * The default implementation stores the tickets one by one, stores
+     * handing out ids from a counter reserve the ids of the whole batch at
+     * once.
+     *
+     * @return the stored tickets in the order of the batch
+     */
+    default List<Ticket> storeNewTickets(List<Ticket> tickets) {
+        tickets.forEach(ticket -> checkAttributes(ticket.getType(), ticket.getPriority()));
+        List<Ticket> stored = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            stored.add(storeNewTicket(ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                    ticket.getType(), ticket.getPriority()));
+        }
+        return stored;
+    }
+
     Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException;
 
+    /**
+     * Moves all given tickets to {@code newStatus}. A ticket that is unknown
+     * or may not take the transition fails on its own and does not stop the
+     * others.
+     */
+    default TransitionResult updateTicketStatuses(int[] ticketIds, Status newStatus) {
+        TransitionResult result = new TransitionResult(ticketIds);
+        for (int i = 0; i < ticketIds.length; i++) {
+            try {
+                Ticket ticket = updateTicketStatus(ticketIds[i], newStatus);
+                if (ticket == null) {
+                    result.fail(i, "Ticket ID " + ticketIds[i] + " is unknown");
+                } else {
+                    result.succeed(i, ticket);
+                }
+            } catch (UnknownTicketException | IllegalStateException e) {
+                result.fail(i, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all tickets. The returned tickets must be treated as read-only,
+     * stores may hand out their internal immutable versions.
+     */
     List<Ticket> getAllTickets();
 
     Ticket getTicketById(int ticketId);
+
+    /**
+     * Returns at most {@code pageSize} tickets with an id greater than
+     * {@code afterId}, ordered by id. Callers start with {@code afterId} -1,
+     * as ids are never negative, and continue with the
+     * {@link TicketPage#getNextAfterId() cursor} of the previous page.
+     * <p>
+     * The default implementation sorts all tickets for every page, stores
+     * with dense ids look the page up directly.
+     */
+    default TicketPage getTickets(int afterId, int pageSize) {
+        checkPageSize(pageSize);
+        List<Ticket> tickets = getAllTickets().stream()
+                .filter(ticket -> ticket.getId() > afterId)
+                .sorted(Comparator.comparingInt(Ticket::getId))
+                .limit(pageSize + 1L)
+                .collect(Collectors.toList());
+        return TicketPage.of(tickets, afterId, pageSize);
+    }
+
+    static void checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive, but was " + pageSize);
+        }
+    }
+
+    /**
+     * Every store indexes or encodes tickets by type and priority, so both are
+     * checked before a ticket is stored.
+     *
+     * @throws IllegalArgumentException if type or priority is missing
+     */
+    static void checkAttributes(Type type, Priority priority) {
+        if (type == null) {
+            throw new IllegalArgumentException("Ticket type is missing");
+        }
+        if (priority == null) {
+            throw new IllegalArgumentException("Ticket priority is missing");
+        }
+    }
+
+    /**
+     * Like {@link #checkAttributes(Type, Priority)} for a ticket restored with
+     * its status.
+     *
+     * @throws IllegalArgumentException if type, priority or status is missing
+     */
+    static void checkTicket(Ticket ticket) {
+        checkAttributes(ticket.getType(), ticket.getPriority());
+        if (ticket.getStatus() == null) {
+            throw new IllegalArgumentException("Status of ticket #" + ticket.getId() + " is missing");
+        }
+    }
+
+    /**
+     * Puts a ticket into the store exactly as given, including its id and
+     * status, and replaces a stored ticket with the same id. Used to rebuild a
+     * store after a restart, ids handed out afterwards continue behind the
+     * highest restored id.
+     */
+    void restoreTicket(Ticket ticket);
+
+    /**
+     * Removes a ticket from the store, e.g. after it was moved to an archive.
+     * The ticket is dropped from every index as well, searches, completions
+     * and duplicate checks no longer count it.
+     *
+     * @return the removed ticket, or {@code null} if the id is unknown
+     * @throws UnsupportedOperationException if the store keeps its tickets in
+     *                                       dense columns and cannot remove them
+     */
+    default Ticket removeTicket(int ticketId) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " can not remove tickets");
+    }
+
+    /**
+     * Makes sure ids handed out afterwards are greater than {@code ticketId},
+     * like {@link #restoreTicket(Ticket)} does, for tickets kept outside the
+     * store.
+     *
+     * @throws UnsupportedOperationException if the store can not remove
+     *                                       tickets either
+     */
+    default void reserveTicketId(int ticketId) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " can not reserve ticket ids");
+    }
+
+    /**
+     * Returns all tickets matching the given criteria, {@code null} criteria
+     * match every ticket.
+     * <p>
+     * The default implementation filters {@link #getAllTickets()}, stores
+     * keeping secondary indexes answer in time proportional to the result.
+     */
+    default List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        return getAllTickets().stream()
+                .filter(ticket -> TicketAttributeIndex.matches(ticket, type, status, priority, reporter))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the at most {@code limit} tickets whose topic and description
+     * contain all words of the query, best BM25 match first.
+     * <p>
+     * The default implementation indexes all tickets for every call, stores
+     * keeping a {@link TextIndex} answer from it directly.
+     */
+    default List<Ticket> searchTickets(String query, int limit) {
+        TextIndex textIndex = new TextIndex();
+        Map<Integer, Ticket> ticketsById = new HashMap<>();
+        for (Ticket ticket : getAllTickets()) {
+            textIndex.add(ticket.getId(), ticket.getTopic(), ticket.getDescription());
+            ticketsById.put(ticket.getId(), ticket);
+        }
+        List<Ticket> result = new ArrayList<>();
+        for (int id : textIndex.search(query, limit)) {
+            result.add(ticketsById.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Returns at most {@code limit} topics starting with {@code prefix},
+     * ignoring case, the topic used by most tickets first.
+     * <p>
+     * The default implementation counts the topics of all tickets for every
+     * call, stores keeping a {@link TopicTrie} answer from it directly.
+     */
+    default List<String> completeTopic(String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        Map<String, String> displayTopics = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Ticket ticket : getAllTickets()) {
+            String topic = ticket.getTopic();
+            if (topic != null && topic.toLowerCase(Locale.ROOT).startsWith(key)) {
+                displayTopics.putIfAbsent(topic.toLowerCase(Locale.ROOT), topic);
+                counts.merge(topic.toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(Math.max(0, limit))
+                .map(entry -> displayTopics.get(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns at most {@code limit} tickets whose topic starts with
+     * {@code prefix}, ignoring case.
+     */
+    default List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        return getAllTickets().stream()
+                .filter(ticket -> ticket.getTopic() != null && ticket.getTopic().toLowerCase(Locale.ROOT).startsWith(key))
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the tickets whose topic is at most {@code maxEdits} typos away
+     * from {@code topic}, ignoring case, closest topics first.
+     * <p>
+     * The default implementation computes the edit distance to every topic,
+     * stores keeping a {@link TrigramIndex} only check a few candidates.
+     *
+     * @throws IllegalArgumentException if {@code maxEdits} is negative or
+     *                                  larger than {@link TrigramIndex#MAX_EDITS}
+     */
+    default List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        TrigramIndex.checkMaxEdits(maxEdits);
+        if (topic == null) {
+            return new ArrayList<>();
+        }
+        String key = topic.toLowerCase(Locale.ROOT);
+        List<List<Ticket>> byDistance = new ArrayList<>();
+        for (int i = 0; i <= maxEdits; i++) {
+            byDistance.add(new ArrayList<>());
+        }
+        for (Ticket ticket : getAllTickets()) {
+            if (ticket.getTopic() != null) {
+                int distance = TrigramIndex.editDistance(key, ticket.getTopic().toLowerCase(Locale.ROOT), maxEdits);
+                if (distance <= maxEdits) {
+                    byDistance.get(distance).add(ticket);
+                }
+            }
+        }
+        return byDistance.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns tickets whose description is nearly the same as the one of the
+     * given ticket, most similar first.
+     * <p>
+     * Only stores running a {@link DuplicateDetector} at ingest know about
+     * duplicates, the default implementation returns an empty list.
+     */
+    default List<Ticket> getLikelyDuplicates(int ticketId) {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns at most {@code limit} {@link Status#NEW NEW} tickets in the
+     * order they should be triaged, {@link Priority#CRITICAL CRITICAL} first
+     * and the oldest first within a priority.
+     * <p>
+     * The default implementation sorts all new tickets for every call, stores
+     * keeping a {@link TriageQueue} read its head.
+     */
+    default List<Ticket> getTicketsToTriage(int limit) {
+        return findTickets(null, Status.NEW, null, null).stream()
+                .filter(ticket -> ticket.getPriority() != null)
+                .sorted(Comparator.comparing(Ticket::getPriority).thenComparingInt(Ticket::getId))
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of tickets per status, type and priority.
+     * <p>
+     * The default implementation counts all tickets for every call, stores
+     * keeping {@link TicketCounters} answer in constant time.
+     */
+    default TicketStatistics getStatistics() {
+        TicketCounters counters = new TicketCounters();
+        getAllTickets().forEach(counters::add);
+        return counters.snapshot();
+    }
+
+    /**
+     * Returns the tickets created or updated after {@code version}. Callers
+     * start with version 0 and pass the version of the previous result.
+     * <p>
+     * The default implementation does not track changes and always answers
+     * with a resync holding all tickets.
+     */
+    default TicketChanges getChangesSince(long version) {
+        return new TicketChanges(0, true, getAllTickets());
+    }
 }
@@ -0,0 +1,65 @@
+package de.uniba.rz.backend.store;
+
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+
+/**
+ * The status transitions a ticket may take: NEW to ACCEPTED or REJECTED and
+ * ACCEPTED to CLOSED. These are the same rules the client applies in its
+ * local backend.
+ */
+public final class TicketTransitions {
+
+    private TicketTransitions() {
+    }
+
+    public static boolean isAllowed(Status currentStatus, Status newStatus) {
+        if (newStatus == null) {
+            return false;
+        }
+        switch (newStatus) {
+            case ACCEPTED:
+            case REJECTED:
+                return currentStatus == Status.NEW;
+            case CLOSED:
+                return currentStatus == Status.ACCEPTED;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if a ticket in
+     * {@code currentStatus} may not move to {@code newStatus}, and an
+     * {@link IllegalArgumentException} if {@code newStatus} is missing.
+     */
+    public static void check(Status currentStatus, Status newStatus) throws IllegalStateException {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("New status is missing");
+        }
+        if (!isAllowed(currentStatus, newStatus)) {
+            throw new IllegalStateException("Can not " + verbOf(newStatus) + " Ticket as it is currently in status " + currentStatus);
+        }
+    }
+
+    /**
+     * Returns a copy of the ticket in the new status.
+     */
+    public static Ticket withStatus(Ticket ticket, Status newStatus) {
+        return new Ticket(ticket.getId(), ticket.getReporter(), ticket.getTopic(), ticket.getDescription(),
+                ticket.getType(), ticket.getPriority(), newStatus);
+    }
+
+    private static String verbOf(Status status) {
+        switch (status) {
+            case ACCEPTED:
+                return "accept";
+            case REJECTED:
+                return "reject";
+            case CLOSED:
+                return "close";
+            default:
+                return "reopen";
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.backend.store.TicketChanges;
+import de.uniba.rz.backend.store.TicketStore;
+import de.uniba.rz.backend.store.TicketTransitions;
+import de.uniba.rz.backend.store.index.TicketCounters;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
+import de.uniba.rz.entities.ticket.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link TicketStore} decorator that moves closed and rejected tickets out of
+ * the wrapped store into a compressed {@link ColdSegment} on disk.
+ * <p>
+ * A ticket is archived once it has been in a terminal status for longer than
+ * the configured age. Tickets carry no timestamps, so the age counts from the
+ * moment this store saw the ticket become terminal; tickets already terminal
+ * at startup count from the startup. Archiving first forces the tickets to
+ * the cold segment and only then removes them from the wrapped store. A crash
+ * in between leaves a ticket in both, which the next startup cleans up.
+ * <p>
+ * The wrapped store, and with it {@code getAllTickets} and all searches, only
+ * holds the active working set. {@code getTicketById} falls back to the cold
+ * segment, and {@code getStatistics} counts archived tickets as well. The
+ * wrapped store has to support {@link TicketStore#removeTicket(int)}.
+ */
+public class ArchivingTicketStore implements TicketStore, Closeable {
+
+    private static final String SEGMENT_FILE = "archive.cold";
+
+    private final Logger logger = LoggerFactory.getLogger(ArchivingTicketStore.class);
+    private final TicketStore delegate;
+    private final ColdSegment coldSegment;
+    private final long maxAgeMillis;
+    // ticket id -> time it was seen entering a terminal status
+    private final Map<Integer, Long> terminalSince = new ConcurrentHashMap<>();
+    // archived tickets not shadowed by a restored ticket in the wrapped store
+    private final TicketCounters archivedCounters = new TicketCounters();
+    private final ReentrantLock archiveLock = new ReentrantLock();
+    private ScheduledExecutorService archiveScheduler;
+
+    public ArchivingTicketStore(TicketStore delegate, Path directory, long maxAgeSeconds) throws IOException {
+        this.delegate = delegate;
+        this.maxAgeMillis = TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+        Files.createDirectories(directory);
+        this.coldSegment = new ColdSegment(directory.resolve(SEGMENT_FILE));
+        long start = System.currentTimeMillis();
+        int[] interrupted = new int[1];
+        coldSegment.forEach(archived -> {
+            Ticket hot = delegate.getTicketById(archived.getId());
+            if (hot != null && hot.getStatus() == archived.getStatus()) {
+                // archived right before a crash, finish the move
+                delegate.removeTicket(archived.getId());
+                interrupted[0]++;
+                hot = null;
+            }
+            if (hot == null) {
+                archivedCounters.add(archived);
+            }
+            delegate.reserveTicketId(archived.getId());
+        });
+        for (Ticket ticket : delegate.getAllTickets()) {
+            if (isTerminal(ticket.getStatus())) {
+                terminalSince.put(ticket.getId(), start);
+            }
+        }
+        logger.info("Opened archive with {} tickets, finished {} interrupted moves, {} terminal tickets waiting",
+                coldSegment.size(), interrupted[0], terminalSince.size());
+    }
+
+    /**
+     * Moves all tickets that have been terminal for longer than the
+     * configured age to the cold segment.
+     *
+     * @return the number of archived tickets
+     */
+    public int archive() throws IOException {
+        archiveLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            List<Ticket> expired = new ArrayList<>();
+            terminalSince.forEach((ticketId, since) -> {
+                if (start - since >= maxAgeMillis) {
+                    Ticket ticket = delegate.getTicketById(ticketId);
+                    if (ticket != null && isTerminal(ticket.getStatus())) {
+                        expired.add(ticket);
+                    } else {
+                        terminalSince.remove(ticketId, since);
+                    }
+                }
+            });
+            if (expired.isEmpty()) {
+                return 0;
+            }
+            coldSegment.append(expired);
+            for (Ticket ticket : expired) {
+                delegate.removeTicket(ticket.getId());
+                archivedCounters.add(ticket);
+                terminalSince.remove(ticket.getId());
+            }
+            logger.info("Archived {} tickets in {} ms, {} archived in total", expired.size(),
+                    System.currentTimeMillis() - start, coldSegment.size());
+            return expired.size();
+        } finally {
+            archiveLock.unlock();
+        }
+    }
+
+    /**
+     * Archives expired tickets every {@code intervalSeconds} seconds in the
+     * background.
+     */
+    public synchronized void scheduleArchiving(long intervalSeconds) {
+        if (archiveScheduler != null) {
+            throw new IllegalStateException("Archiving is already scheduled");
+        }
+        archiveScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticket-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        archiveScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                archive();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to archive tickets: {}", e.getMessage(), e);
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Archiving tickets terminal for {} seconds every {} seconds",
+                TimeUnit.MILLISECONDS.toSeconds(maxAgeMillis), intervalSeconds);
+    }
+
+    /**
+     * Returns all archived tickets, which {@link #getAllTickets()} leaves out.
+     */
+    public List<Ticket> getArchivedTickets() {
+        List<Ticket> tickets = new ArrayList<>(coldSegment.size());
+        try {
+            coldSegment.forEach(tickets::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tickets;
+    }
+
+    @Override
+    public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
+        return delegate.storeNewTicket(reporter, topic, description, type, priority);
+    }
+
+    @Override
+    public List<Ticket> storeNewTickets(List<Ticket> tickets) {
+        return delegate.storeNewTickets(tickets);
+    }
+
+    /**
+     * Archived tickets are terminal, so changing their status fails just like
+     * it would in the wrapped store.
+     */
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        Ticket ticket;
+        try {
+            ticket = delegate.updateTicketStatus(ticketId, newStatus);
+        } catch (UnknownTicketException e) {
+            Ticket archived = getArchivedTicket(ticketId);
+            if (archived == null) {
+                throw e;
+            }
+            TicketTransitions.check(archived.getStatus(), newStatus);
+            throw e;
+        }
+        if (ticket != null && isTerminal(ticket.getStatus())) {
+            terminalSince.put(ticketId, System.currentTimeMillis());
+        }
+        return ticket;
+    }
+
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ticketIds, Status newStatus) {
+        TransitionResult result = delegate.updateTicketStatuses(ticketIds, newStatus);
+        for (int i = 0; i < ticketIds.length; i++) {
+            if (!result.succeeded(i)) {
+                Ticket archived = getArchivedTicket(ticketIds[i]);
+                if (archived != null) {
+                    // terminal, so this reports why the transition is not allowed
+                    try {
+                        TicketTransitions.check(archived.getStatus(), newStatus);
+                    } catch (IllegalStateException e) {
+                        result.fail(i, e.getMessage());
+                    }
+                }
+            }
+        }
+        if (isTerminal(newStatus)) {
+            long now = System.currentTimeMillis();
+            result.changedTickets().forEach(ticket -> terminalSince.put(ticket.getId(), now));
+        }
+        return result;
+    }
+
+    /**
+     * A restored ticket that is archived shadows the archived copy until it
+     * is archived again.
+     */
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        archiveLock.lock();
+        try {
+            if (delegate.getTicketById(ticket.getId()) == null) {
+                Ticket archived = getArchivedTicket(ticket.getId());
+                if (archived != null) {
+                    archivedCounters.remove(archived);
+                }
+            }
+            delegate.restoreTicket(ticket);
+        } finally {
+            archiveLock.unlock();
+        }
+        if (isTerminal(ticket.getStatus())) {
+            terminalSince.put(ticket.getId(), System.currentTimeMillis());
+        } else {
+            terminalSince.remove(ticket.getId());
+        }
+    }
+
+    @Override
+    public Ticket removeTicket(int ticketId) {
+        return delegate.removeTicket(ticketId);
+    }
+
+    @Override
+    public void reserveTicketId(int ticketId) {
+        delegate.reserveTicketId(ticketId);
+    }
+
+    /**
+     * Returns the tickets of the working set only, see
+     * {@link #getArchivedTickets()} for the others.
+     */
+    @Override
+    public List<Ticket> getAllTickets() {
+        return delegate.getAllTickets();
+    }
+
+    @Override
+    public Ticket getTicketById(int ticketId) {
+        Ticket ticket = delegate.getTicketById(ticketId);
+        return ticket != null ? ticket : getArchivedTicket(ticketId);
+    }
+
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        return delegate.getTickets(afterId, pageSize);
+    }
+
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        return delegate.findTickets(type, status, priority, reporter);
+    }
+
+    @Override
+    public List<Ticket> searchTickets(String query, int limit) {
+        return delegate.searchTickets(query, limit);
+    }
+
+    @Override
+    public List<String> completeTopic(String prefix, int limit) {
+        return delegate.completeTopic(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        return delegate.getTicketsByTopicPrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        return delegate.findTicketsByFuzzyTopic(topic, maxEdits);
+    }
+
+    @Override
+    public List<Ticket> getLikelyDuplicates(int ticketId) {
+        return delegate.getLikelyDuplicates(ticketId);
+    }
+
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) {
+        return delegate.getTicketsToTriage(limit);
+    }
+
+    @Override
+    public TicketStatistics getStatistics() {
+        long[] counts = delegate.getStatistics().getCounts().clone();
+        long[] archived = archivedCounters.snapshot().getCounts();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += archived[i];
+        }
+        return new TicketStatistics(counts);
+    }
+
+    @Override
+    public TicketChanges getChangesSince(long version) {
+        return delegate.getChangesSince(version);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (archiveScheduler != null) {
+                archiveScheduler.shutdown();
+                try {
+                    archiveScheduler.awaitTermination(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        coldSegment.close();
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+
+    private Ticket getArchivedTicket(int ticketId) {
+        try {
+            return coldSegment.get(ticketId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isTerminal(Status status) {
+        return status == Status.CLOSED || status == Status.REJECTED;
+    }
+}
@@ -0,0 +1,266 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.entities.ticket.Ticket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Append-only file of archived tickets, compressed in blocks.
+ * <p>
+ * Tickets are appended in batches, which are cut into blocks of at most
+ * {@link #BLOCK_TICKETS} tickets. Each block is deflated on its own, so a
+ * lookup only inflates the one block holding the ticket. An in-memory index
+ * maps the id of every archived ticket to the offset of the newest block
+ * holding it, and is rebuilt by reading all blocks when the file is opened.
+ * <p>
+ * Layout per block: int compressed length, int uncompressed length, int CRC32
+ * of the compressed bytes, followed by the compressed bytes. Uncompressed, a
+ * block is a sequence of int length plus {@link TicketRecord}. A torn block at
+ * the end of the file, e.g. after a crash during an append, is cut off. A
+ * corrupt block followed by further blocks is not torn but damaged, and
+ * opening the file fails rather than dropping the tickets archived after it.
+ */
+final class ColdSegment implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColdSegment.class);
+    static final int BLOCK_TICKETS = 256;
+    private static final int BLOCK_HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    // ticket id -> offset of the newest block holding it
+    private final ConcurrentHashMap<Integer, Long> blockOffsets = new ConcurrentHashMap<>();
+    private long size;
+
+    ColdSegment(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long offset = 0;
+        int blocks = 0;
+        while (offset < channel.size()) {
+            byte[] block = readBlock(offset);
+            if (block == null) {
+                if (declaredEnd(offset) < channel.size()) {
+                    channel.close();
+                    throw new IOException("Corrupt block at " + offset + " in " + file + ", followed by further blocks");
+                }
+                logger.warn("Archive :: Cutting off torn block at {} in {}", offset, file);
+                channel.truncate(offset);
+                break;
+            }
+            long blockOffset = offset;
+            forEachRecord(block, ticket -> blockOffsets.put(ticket.getId(), blockOffset));
+            offset = declaredEnd(offset);
+            blocks++;
+        }
+        this.size = offset;
+        logger.info("Archive :: Opened {} with {} tickets in {} blocks", file, blockOffsets.size(), blocks);
+    }
+
+    /**
+     * Appends the tickets and forces them to disk before they become visible
+     * through the index.
+     */
+    synchronized void append(List<Ticket> tickets) throws IOException {
+        long offset = size;
+        long[] offsets = new long[tickets.size()];
+        for (int from = 0; from < tickets.size(); from += BLOCK_TICKETS) {
+            List<Ticket> blockTickets = tickets.subList(from, Math.min(tickets.size(), from + BLOCK_TICKETS));
+            ByteBuffer block = compress(blockTickets);
+            while (block.hasRemaining()) {
+                channel.write(block, offset + block.position());
+            }
+            Arrays.fill(offsets, from, from + blockTickets.size(), offset);
+            offset += block.limit();
+        }
+        channel.force(false);
+        size = offset;
+        for (int i = 0; i < tickets.size(); i++) {
+            blockOffsets.put(tickets.get(i).getId(), offsets[i]);
+        }
+    }
+
+    boolean contains(int ticketId) {
+        return blockOffsets.containsKey(ticketId);
+    }
+
+    /**
+     * @return the archived ticket, or {@code null} if the id is not archived
+     */
+    Ticket get(int ticketId) throws IOException {
+        Long offset = blockOffsets.get(ticketId);
+        if (offset == null) {
+            return null;
+        }
+        byte[] block = readBlock(offset);
+        if (block == null) {
+            throw new IOException("Corrupt block at " + offset + " in " + file);
+        }
+        Ticket[] found = new Ticket[1];
+        forEachRecord(block, ticket -> {
+            if (ticket.getId() == ticketId) {
+                found[0] = ticket;
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Hands the newest archived version of every ticket to {@code consumer},
+     * in the order they were archived.
+     */
+    void forEach(Consumer<Ticket> consumer) throws IOException {
+        long end;
+        synchronized (this) {
+            end = size;
+        }
+        for (long offset = 0; offset < end; ) {
+            byte[] block = readBlock(offset);
+            if (block == null) {
+                throw new IOException("Corrupt block at " + offset + " in " + file);
+            }
+            long blockOffset = offset;
+            forEachRecord(block, ticket -> {
+                if (Long.valueOf(blockOffset).equals(blockOffsets.get(ticket.getId()))) {
+                    consumer.accept(ticket);
+                }
+            });
+            offset = declaredEnd(offset);
+        }
+    }
+
+    int size() {
+        return blockOffsets.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static ByteBuffer compress(List<Ticket> tickets) {
+        int length = 0;
+        for (Ticket ticket : tickets) {
+            length += Integer.BYTES + TicketRecord.encodedSize(ticket);
+        }
+        ByteBuffer records = ByteBuffer.allocate(length);
+        for (Ticket ticket : tickets) {
+            records.putInt(TicketRecord.encodedSize(ticket));
+            TicketRecord.encode(ticket, records);
+        }
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(records.array());
+            deflater.finish();
+            // deflate never grows data by more than a few bytes per 16 KB
+            byte[] compressed = new byte[length + length / 1000 + 64];
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(compressed, 0, compressedLength);
+            ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + compressedLength);
+            block.putInt(compressedLength);
+            block.putInt(length);
+            block.putInt((int) crc.getValue());
+            block.put(compressed, 0, compressedLength);
+            return block.flip();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Reads and inflates the block at {@code offset}.
+     *
+     * @return the uncompressed records, or {@code null} if the block is torn
+     */
+    private byte[] readBlock(long offset) throws IOException {
+        long available = channel.size() - offset;
+        if (available < BLOCK_HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.wrap(readFully(offset, BLOCK_HEADER_SIZE));
+        int compressedLength = header.getInt();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (compressedLength < 0 || length < 0 || compressedLength > available - BLOCK_HEADER_SIZE) {
+            return null;
+        }
+        byte[] compressed = readFully(offset + BLOCK_HEADER_SIZE, compressedLength);
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] records = new byte[length];
+            int inflated = 0;
+            while (inflated < length && !inflater.finished()) {
+                int count = inflater.inflate(records, inflated, length - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            return inflated == length ? records : null;
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return where the block at {@code offset} ends according to its header,
+     * or {@link Long#MAX_VALUE} if the header is incomplete or its length
+     * negative
+     */
+    private long declaredEnd(long offset) throws IOException {
+        if (channel.size() - offset < BLOCK_HEADER_SIZE) {
+            return Long.MAX_VALUE;
+        }
+        int compressedLength = ByteBuffer.wrap(readFully(offset, Integer.BYTES)).getInt();
+        return compressedLength < 0 ? Long.MAX_VALUE : offset + BLOCK_HEADER_SIZE + compressedLength;
+    }
+
+    private byte[] readFully(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + file + " at " + (offset + buffer.position()));
+            }
+        }
+        return buffer.array();
+    }
+
+    private static void forEachRecord(byte[] block, Consumer<Ticket> consumer) {
+        ByteBuffer records = ByteBuffer.wrap(block);
+        while (records.hasRemaining()) {
+            int length = records.getInt();
+            consumer.accept(TicketRecord.decode(records.slice(records.position(), length)));
+            records.position(records.position() + length);
+        }
+    }
+}
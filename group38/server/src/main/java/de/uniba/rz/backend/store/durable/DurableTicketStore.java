@@ -0,0 +1,448 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.backend.UnknownTicketException;
+import de.uniba.rz.backend.store.TicketChanges;
+import de.uniba.rz.backend.store.TicketStore;
+import de.uniba.rz.backend.store.TicketTransitions;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
+import de.uniba.rz.entities.ticket.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TicketStore} decorator that makes every mutation of the wrapped store
+ * durable through a {@link WriteAheadLog}.
+ * <p>
+ * On creation the latest {@link SnapshotFile} and the log written after it are
+ * replayed into the wrapped store. Afterwards every {@code storeNewTicket} and
+ * {@code updateTicketStatus} appends the resulting ticket to the log, and
+ * every {@code removeTicket} a removal record.
+ * <p>
+ * Changes are logged before they are applied: a writer builds the resulting
+ * ticket, appends it, waits until it is durable and only then applies it to
+ * the wrapped store, so readers never see a change a crash could lose.
+ * Writers of the same ticket are serialized by one of {@value #STRIPES} lock
+ * stripes, which keeps the log order of every ticket equal to the order in
+ * which it changed, while writers of different tickets run and wait for the
+ * disk concurrently and share one fsync.
+ * <p>
+ * New tickets get their ids here rather than from the wrapped store. Ids are
+ * handed out and their records appended under one short lock, and the
+ * tickets are published in id order, so the log, the wrapped store and the
+ * ids all agree on the order in which tickets were created.
+ */
+public class DurableTicketStore implements TicketStore, Closeable {
+
+    private final Logger logger = LoggerFactory.getLogger(DurableTicketStore.class);
+    private final TicketStore delegate;
+    private final Path logDirectory;
+    private static final int STRIPES = 256;
+
+    private final WriteAheadLog log;
+    // writers hold the read lock from appending until applying, a snapshot takes the write lock to roll the log
+    private final ReentrantReadWriteLock writerGate = new ReentrantReadWriteLock();
+    private final ReentrantLock[] ticketLocks = new ReentrantLock[STRIPES];
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    // guards nextTicketId and creating, and is notified whenever a creation is published
+    private final Object creationMonitor = new Object();
+    private int nextTicketId;
+    // first ids of the creations logged but not yet published
+    private final TreeSet<Integer> creating = new TreeSet<>();
+    private ScheduledExecutorService snapshotScheduler;
+
+    public DurableTicketStore(TicketStore delegate, Path logDirectory, SyncPolicy policy, long syncIntervalMillis) throws IOException {
+        this.delegate = delegate;
+        this.logDirectory = logDirectory;
+        for (int i = 0; i < STRIPES; i++) {
+            ticketLocks[i] = new ReentrantLock();
+        }
+        long start = System.currentTimeMillis();
+        int[] highestId = new int[1];
+        long firstSegment = SnapshotFile.load(logDirectory, ticket -> {
+            delegate.restoreTicket(ticket);
+            highestId[0] = Math.max(highestId[0], ticket.getId());
+        });
+        WriteAheadLog.replay(logDirectory, firstSegment, record -> {
+            if (TicketRecord.isRemoval(record)) {
+                int ticketId = TicketRecord.decodeRemoval(record);
+                delegate.removeTicket(ticketId);
+                highestId[0] = Math.max(highestId[0], ticketId);
+            } else {
+                Ticket ticket = TicketRecord.decode(record);
+                delegate.restoreTicket(ticket);
+                highestId[0] = Math.max(highestId[0], ticket.getId());
+            }
+        });
+        this.nextTicketId = highestId[0] + 1;
+        logger.info("Recovered ticket store from {} in {} ms", logDirectory, System.currentTimeMillis() - start);
+        this.log = new WriteAheadLog(logDirectory, policy, syncIntervalMillis, Math.max(firstSegment, 1));
+    }
+
+    /**
+     * Writes a snapshot of the current store and deletes the log segments it
+     * covers.
+     * <p>
+     * Writers are only blocked while the log rolls over to a new segment. The
+     * tickets are copied afterwards, so the snapshot may already contain
+     * changes that are also in the new segment. Replaying those records again
+     * is harmless, since every record carries the complete ticket.
+     */
+    public void takeSnapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            long firstSegment;
+            // waits for logged changes to be applied, so the copy below contains them
+            writerGate.writeLock().lock();
+            try {
+                firstSegment = log.roll();
+            } finally {
+                writerGate.writeLock().unlock();
+            }
+            List<Ticket> tickets = new ArrayList<>(delegate.getAllTickets());
+            tickets.sort(Comparator.comparingInt(Ticket::getId));
+            SnapshotFile.write(logDirectory, firstSegment, tickets);
+            log.deleteSegmentsBefore(firstSegment);
+            logger.info("Took snapshot of {} tickets in {} ms", tickets.size(), System.currentTimeMillis() - start);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Takes a snapshot every {@code intervalSeconds} seconds in the background.
+     */
+    public synchronized void scheduleSnapshots(long intervalSeconds) {
+        if (snapshotScheduler != null) {
+            throw new IllegalStateException("Snapshots are already scheduled");
+        }
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                takeSnapshot();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to take snapshot: {}", e.getMessage(), e);
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Taking a snapshot every {} seconds", intervalSeconds);
+    }
+
+    @Override
+    public Ticket storeNewTicket(String reporter, String topic, String description, Type type, Priority priority) {
+        TicketStore.checkAttributes(type, priority);
+        return createTickets(List.of(new Ticket(0, reporter, topic, description, type, priority))).get(0);
+    }
+
+    /**
+     * Logs all tickets of the batch and waits for the last record only, so
+     * the batch shares one sync.
+     */
+    @Override
+    public List<Ticket> storeNewTickets(List<Ticket> batch) {
+        batch.forEach(ticket -> TicketStore.checkAttributes(ticket.getType(), ticket.getPriority()));
+        if (batch.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return createTickets(batch);
+    }
+
+    // Hands out the ids and logs the tickets in one step, then publishes them once all earlier creations are
+    private List<Ticket> createTickets(List<Ticket> batch) {
+        List<Ticket> created = new ArrayList<>(batch.size());
+        writerGate.readLock().lock();
+        try {
+            int firstId;
+            long sequence = -1;
+            synchronized (creationMonitor) {
+                firstId = nextTicketId;
+                for (Ticket ticket : batch) {
+                    Ticket newTicket = new Ticket(firstId + created.size(), ticket.getReporter(), ticket.getTopic(),
+                            ticket.getDescription(), ticket.getType(), ticket.getPriority());
+                    sequence = log.append(TicketRecord.encode(newTicket));
+                    created.add(newTicket);
+                }
+                nextTicketId = firstId + created.size();
+                creating.add(firstId);
+            }
+            boolean durable = false;
+            try {
+                log.awaitDurable(sequence);
+                durable = true;
+            } finally {
+                synchronized (creationMonitor) {
+                    try {
+                        while (creating.first() != firstId) {
+                            creationMonitor.wait();
+                        }
+                        if (durable) {
+                            // restoring in id order keeps stores with dense ids happy
+                            created.forEach(delegate::restoreTicket);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while publishing new tickets", e);
+                    } finally {
+                        creating.remove(firstId);
+                        creationMonitor.notifyAll();
+                    }
+                }
+            }
+        } finally {
+            writerGate.readLock().unlock();
+        }
+        List<Ticket> stored = new ArrayList<>(created.size());
+        for (Ticket ticket : created) {
+            stored.add((Ticket) ticket.clone());
+        }
+        return stored;
+    }
+
+    @Override
+    public Ticket updateTicketStatus(int ticketId, Status newStatus) throws UnknownTicketException, IllegalStateException {
+        writerGate.readLock().lock();
+        ReentrantLock ticketLock = ticketLock(ticketId);
+        ticketLock.lock();
+        try {
+            Ticket current = delegate.getTicketById(ticketId);
+            if (current == null) {
+                // unknown, nothing to log, the wrapped store reports it its own way
+                return delegate.updateTicketStatus(ticketId, newStatus);
+            }
+            TicketTransitions.check(current.getStatus(), newStatus);
+            log.awaitDurable(log.append(TicketRecord.encode(TicketTransitions.withStatus(current, newStatus))));
+            return delegate.updateTicketStatus(ticketId, newStatus);
+        } finally {
+            ticketLock.unlock();
+            writerGate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Logs all tickets the batch changes and waits for the last record only,
+     * so the batch shares one sync.
+     */
+    @Override
+    public TransitionResult updateTicketStatuses(int[] ticketIds, Status newStatus) {
+        TransitionResult result = new TransitionResult(ticketIds);
+        List<ReentrantLock> locks = ticketLocks(ticketIds);
+        writerGate.readLock().lock();
+        locks.forEach(ReentrantLock::lock);
+        try {
+            // ticket id -> ticket after the change, in request order
+            Map<Integer, Ticket> changed = new LinkedHashMap<>();
+            for (int i = 0; i < ticketIds.length; i++) {
+                Ticket current = changed.containsKey(ticketIds[i]) ? changed.get(ticketIds[i]) : delegate.getTicketById(ticketIds[i]);
+                if (current == null) {
+                    result.fail(i, "Ticket ID " + ticketIds[i] + " is unknown");
+                    continue;
+                }
+                try {
+                    TicketTransitions.check(current.getStatus(), newStatus);
+                    changed.put(ticketIds[i], TicketTransitions.withStatus(current, newStatus));
+                } catch (IllegalStateException e) {
+                    result.fail(i, e.getMessage());
+                }
+            }
+            if (changed.isEmpty()) {
+                return result;
+            }
+            long sequence = -1;
+            for (Ticket ticket : changed.values()) {
+                sequence = log.append(TicketRecord.encode(ticket));
+            }
+            log.awaitDurable(sequence);
+            int[] changedIds = changed.keySet().stream().mapToInt(Integer::intValue).toArray();
+            TransitionResult applied = delegate.updateTicketStatuses(changedIds, newStatus);
+            // ticket id -> position in the applied batch
+            Map<Integer, Integer> positions = new HashMap<>();
+            for (int j = 0; j < changedIds.length; j++) {
+                positions.put(changedIds[j], j);
+            }
+            for (int i = 0; i < ticketIds.length; i++) {
+                if (result.succeeded(i)) {
+                    int j = positions.get(ticketIds[i]);
+                    if (applied.succeeded(j)) {
+                        result.succeed(i, applied.getTickets().get(j));
+                    } else {
+                        result.fail(i, applied.getErrors()[j]);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+            writerGate.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void restoreTicket(Ticket ticket) {
+        TicketStore.checkTicket(ticket);
+        writerGate.readLock().lock();
+        ReentrantLock ticketLock = ticketLock(ticket.getId());
+        ticketLock.lock();
+        try {
+            log.awaitDurable(log.append(TicketRecord.encode(ticket)));
+            delegate.restoreTicket(ticket);
+            synchronized (creationMonitor) {
+                nextTicketId = Math.max(nextTicketId, ticket.getId() + 1);
+            }
+        } finally {
+            ticketLock.unlock();
+            writerGate.readLock().unlock();
+        }
+    }
+
+    /**
+     * The only change applied before it is logged, as the wrapped store may
+     * not support removing tickets. If a crash loses the record, the ticket
+     * comes back on restart, which callers like the
+     * {@link ArchivingTicketStore} already clean up.
+     */
+    @Override
+    public Ticket removeTicket(int ticketId) {
+        writerGate.readLock().lock();
+        ReentrantLock ticketLock = ticketLock(ticketId);
+        ticketLock.lock();
+        try {
+            Ticket ticket = delegate.removeTicket(ticketId);
+            if (ticket != null) {
+                log.awaitDurable(log.append(TicketRecord.encodeRemoval(ticketId)));
+            }
+            return ticket;
+        } finally {
+            ticketLock.unlock();
+            writerGate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Not logged, the tickets the ids are reserved for live outside the store
+     * and have to be reserved again after a restart.
+     */
+    @Override
+    public void reserveTicketId(int ticketId) {
+        delegate.reserveTicketId(ticketId);
+        synchronized (creationMonitor) {
+            nextTicketId = Math.max(nextTicketId, ticketId + 1);
+        }
+    }
+
+    private ReentrantLock ticketLock(int ticketId) {
+        return ticketLocks[Math.floorMod(ticketId, STRIPES)];
+    }
+
+    // The stripes of all given tickets, each once and in index order to avoid deadlocks
+    private List<ReentrantLock> ticketLocks(int[] ticketIds) {
+        int[] stripes = Arrays.stream(ticketIds).map(ticketId -> Math.floorMod(ticketId, STRIPES)).distinct().sorted().toArray();
+        List<ReentrantLock> locks = new ArrayList<>(stripes.length);
+        for (int stripe : stripes) {
+            locks.add(ticketLocks[stripe]);
+        }
+        return locks;
+    }
+
+    @Override
+    public List<Ticket> getAllTickets() {
+        return delegate.getAllTickets();
+    }
+
+    @Override
+    public Ticket getTicketById(int ticketId) {
+        return delegate.getTicketById(ticketId);
+    }
+
+    @Override
+    public TicketPage getTickets(int afterId, int pageSize) {
+        return delegate.getTickets(afterId, pageSize);
+    }
+
+    @Override
+    public List<Ticket> findTickets(Type type, Status status, Priority priority, String reporter) {
+        return delegate.findTickets(type, status, priority, reporter);
+    }
+
+    @Override
+    public List<Ticket> searchTickets(String query, int limit) {
+        return delegate.searchTickets(query, limit);
+    }
+
+    @Override
+    public List<String> completeTopic(String prefix, int limit) {
+        return delegate.completeTopic(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> getTicketsByTopicPrefix(String prefix, int limit) {
+        return delegate.getTicketsByTopicPrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Ticket> findTicketsByFuzzyTopic(String topic, int maxEdits) {
+        return delegate.findTicketsByFuzzyTopic(topic, maxEdits);
+    }
+
+    @Override
+    public TicketStatistics getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    @Override
+    public List<Ticket> getTicketsToTriage(int limit) {
+        return delegate.getTicketsToTriage(limit);
+    }
+
+    @Override
+    public List<Ticket> getLikelyDuplicates(int ticketId) {
+        return delegate.getLikelyDuplicates(ticketId);
+    }
+
+    @Override
+    public TicketChanges getChangesSince(long version) {
+        return delegate.getChangesSince(version);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (snapshotScheduler != null) {
+                snapshotScheduler.shutdown();
+                try {
+                    snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        log.close();
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+}
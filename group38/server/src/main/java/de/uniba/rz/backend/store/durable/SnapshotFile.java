@@ -0,0 +1,133 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.entities.ticket.Ticket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Compact binary snapshot of all tickets, written to and read from a
+ * memory-mapped file.
+ * <p>
+ * A snapshot is named after the first log segment that is <em>not</em>
+ * covered by it. Recovery maps the latest snapshot and only replays the log
+ * from that segment on.
+ * <p>
+ * Layout: magic, format version, first log segment, ticket count, followed
+ * by one int length plus {@link TicketRecord} per ticket. Snapshots are
+ * written to a temporary file first and renamed once complete, so a crash
+ * never leaves a half written snapshot behind.
+ */
+final class SnapshotFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotFile.class);
+    private static final int MAGIC = 0x54534e50;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes the given tickets as the snapshot for {@code firstLogSegment} and
+     * deletes all older snapshots.
+     */
+    static void write(Path directory, long firstLogSegment, List<Ticket> tickets) throws IOException {
+        long size = HEADER_SIZE;
+        for (Ticket ticket : tickets) {
+            size += Integer.BYTES + TicketRecord.encodedSize(ticket);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + size + " bytes exceeds the mappable size");
+        }
+        Path snapshot = snapshotPath(directory, firstLogSegment);
+        Path temporary = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(firstLogSegment);
+            buffer.putInt(tickets.size());
+            for (Ticket ticket : tickets) {
+                buffer.putInt(TicketRecord.encodedSize(ticket));
+                TicketRecord.encode(ticket, buffer);
+            }
+            buffer.force();
+        }
+        Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (long older : snapshots(directory)) {
+            if (older < firstLogSegment) {
+                try {
+                    Files.deleteIfExists(snapshotPath(directory, older));
+                } catch (IOException e) {
+                    logger.warn("Snapshot :: Could not delete old snapshot {}: {}", older, e.getMessage());
+                }
+            }
+        }
+        logger.info("Snapshot :: Wrote {} tickets ({} bytes) to {}", tickets.size(), size, snapshot);
+    }
+
+    /**
+     * Maps the latest snapshot and hands every ticket to {@code consumer}.
+     *
+     * @return the first log segment not covered by the snapshot, or 0 if there
+     * is no snapshot
+     */
+    static long load(Path directory, Consumer<Ticket> consumer) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<Long> snapshots = snapshots(directory);
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Path snapshot = snapshotPath(directory, snapshots.get(snapshots.size() - 1));
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unknown snapshot format in " + snapshot);
+            }
+            long firstLogSegment = buffer.getLong();
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                consumer.accept(TicketRecord.decode(record));
+                buffer.position(buffer.position() + length);
+            }
+            logger.info("Snapshot :: Loaded {} tickets from {}", count, snapshot);
+            return firstLogSegment;
+        }
+    }
+
+    private static List<Long> snapshots(Path directory) throws IOException {
+        List<Long> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    private static Path snapshotPath(Path directory, long firstLogSegment) {
+        return directory.resolve(String.format("%s%08d%s", SNAPSHOT_PREFIX, firstLogSegment, SNAPSHOT_SUFFIX));
+    }
+}
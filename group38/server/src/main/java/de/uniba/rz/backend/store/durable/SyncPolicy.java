@@ -0,0 +1,25 @@
+package de.uniba.rz.backend.store.durable;
+
+/**
+ * Defines when the {@link WriteAheadLog} forces its data to disk.
+ */
+public enum SyncPolicy {
+
+    /**
+     * Every mutation waits until its log record has been forced to disk.
+     * Concurrent writers share one fsync (group commit).
+     */
+    ALWAYS,
+
+    /**
+     * The log is forced every {@code wal.syncIntervalMs} milliseconds,
+     * mutations do not wait. A crash loses at most one interval.
+     */
+    INTERVAL,
+
+    /**
+     * Mutations wait until their record has been written to the file, the
+     * operating system decides when it reaches the disk.
+     */
+    OS
+}
@@ -0,0 +1,111 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import de.uniba.rz.entities.udp.PacketCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary image of a complete {@link Ticket} as written to the log.
+ * <p>
+ * Every record carries the whole ticket, so replaying the records of a
+ * ticket in order always ends with its latest state.
+ * <p>
+ * Layout: id as int, status, type and priority as byte ordinals, followed
+ * by reporter, topic and description as int length plus UTF-8 bytes (length
+ * -1 encodes {@code null}).
+ * <p>
+ * Removing a ticket is logged as a record of the int -1, which no ticket id
+ * can be, followed by the id of the removed ticket. Logs written before
+ * tickets could be removed therefore stay readable.
+ */
+final class TicketRecord {
+
+    private static final Type[] TYPES = Type.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private static final int REMOVAL = -1;
+
+    private TicketRecord() {
+    }
+
+    static byte[] encodeRemoval(int ticketId) {
+        return ByteBuffer.allocate(2 * Integer.BYTES).putInt(REMOVAL).putInt(ticketId).array();
+    }
+
+    static boolean isRemoval(ByteBuffer record) {
+        return record.getInt(record.position()) == REMOVAL;
+    }
+
+    /**
+     * @return the id of the ticket a removal record removes
+     */
+    static int decodeRemoval(ByteBuffer record) {
+        return record.getInt(record.position() + Integer.BYTES);
+    }
+
+    static byte[] encode(Ticket ticket) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(ticket));
+        encode(ticket, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Ticket, ByteBuffer)}
+     * writes for the given ticket.
+     */
+    static int encodedSize(Ticket ticket) {
+        return Integer.BYTES + 3 + encodedSize(ticket.getReporter())
+                + encodedSize(ticket.getTopic()) + encodedSize(ticket.getDescription());
+    }
+
+    static void encode(Ticket ticket, ByteBuffer buffer) {
+        buffer.putInt(ticket.getId());
+        buffer.put((byte) ticket.getStatus().ordinal());
+        buffer.put((byte) ticket.getType().ordinal());
+        buffer.put((byte) ticket.getPriority().ordinal());
+        putString(buffer, ticket.getReporter());
+        putString(buffer, ticket.getTopic());
+        putString(buffer, ticket.getDescription());
+    }
+
+    static Ticket decode(ByteBuffer buffer) {
+        int id = buffer.getInt();
+        Status status = STATUSES[buffer.get()];
+        Type type = TYPES[buffer.get()];
+        Priority priority = PRIORITIES[buffer.get()];
+        String reporter = getString(buffer);
+        String topic = getString(buffer);
+        String description = getString(buffer);
+        return new Ticket(id, reporter, topic, description, type, priority, status);
+    }
+
+    private static int encodedSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : PacketCodec.utf8Length(value));
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,321 @@
+package de.uniba.rz.backend.store.durable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of binary records stored in segment files inside one
+ * directory.
+ * <p>
+ * Writers only copy their record into an in-memory buffer. A single flusher
+ * thread writes everything collected so far with one {@code write} and, if
+ * the {@link SyncPolicy} asks for it, one {@code force}. Writers arriving while
+ * a force is running are collected into the next batch, so many concurrent
+ * mutations share one fsync (group commit).
+ * <p>
+ * Every record is framed as int length, int CRC32 and payload. A torn record
+ * at the end of the log, e.g. after a crash during a write, is cut off on
+ * replay.
+ */
+public class WriteAheadLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final SyncPolicy policy;
+    private final long syncIntervalMillis;
+    private final Object monitor = new Object();
+    private final Thread flusher;
+
+    private FileChannel channel;
+    private long segment;
+    private ByteBuffer pending = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer spare = ByteBuffer.allocate(64 * 1024);
+    private long appended;
+    private long written;
+    private long forced;
+    private boolean closed;
+    private IOException failure;
+
+    public WriteAheadLog(Path directory, SyncPolicy policy, long syncIntervalMillis) throws IOException {
+        this(directory, policy, syncIntervalMillis, 1);
+    }
+
+    /**
+     * Opens the log and appends to its latest segment, but never to a segment
+     * before {@code firstSegment}, e.g. one already covered by a snapshot.
+     */
+    public WriteAheadLog(Path directory, SyncPolicy policy, long syncIntervalMillis, long firstSegment) throws IOException {
+        this.directory = directory;
+        this.policy = policy;
+        this.syncIntervalMillis = syncIntervalMillis;
+        Files.createDirectories(directory);
+        List<Long> segments = segments(directory);
+        this.segment = segments.isEmpty() ? firstSegment : Math.max(firstSegment, segments.get(segments.size() - 1));
+        this.channel = openSegment(directory, segment);
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        logger.info("WAL :: Appending to segment {} in {} with sync policy {}", segment, directory, policy);
+    }
+
+    /**
+     * Adds a record to the log and returns its sequence number, which can be
+     * passed to {@link #awaitDurable(long)}.
+     */
+    public long append(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        synchronized (monitor) {
+            checkUsable();
+            if (pending.remaining() < FRAME_HEADER_SIZE + payload.length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2,
+                        pending.position() + FRAME_HEADER_SIZE + payload.length));
+                pending.flip();
+                larger.put(pending);
+                pending = larger;
+            }
+            pending.putInt(payload.length);
+            pending.putInt((int) crc.getValue());
+            pending.put(payload);
+            appended++;
+            if (policy != SyncPolicy.INTERVAL) {
+                monitor.notifyAll();
+            }
+            return appended;
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence number is as durable as
+     * the {@link SyncPolicy} promises. Returns immediately for
+     * {@link SyncPolicy#INTERVAL}.
+     */
+    public void awaitDurable(long sequence) {
+        if (policy == SyncPolicy.INTERVAL) {
+            return;
+        }
+        synchronized (monitor) {
+            while ((policy == SyncPolicy.ALWAYS ? forced : written) < sequence) {
+                checkUsable();
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the log", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flushes everything appended so far and continues the log in a new
+     * segment. Callers must make sure no records are appended concurrently.
+     *
+     * @return the number of the new segment
+     */
+    public long roll() throws IOException {
+        synchronized (monitor) {
+            monitor.notifyAll();
+            while (written < appended) {
+                checkUsable();
+                try {
+                    monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while rolling the log", e);
+                }
+            }
+            channel.force(true);
+            channel.close();
+            segment++;
+            channel = openSegment(directory, segment);
+            logger.info("WAL :: Rolled over to segment {}", segment);
+            return segment;
+        }
+    }
+
+    /**
+     * Deletes all segments older than the given one, e.g. once a snapshot
+     * covers them.
+     */
+    public void deleteSegmentsBefore(long firstKeptSegment) throws IOException {
+        for (long oldSegment : segments(directory)) {
+            if (oldSegment < firstKeptSegment) {
+                Files.deleteIfExists(segmentPath(directory, oldSegment));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (monitor) {
+            closed = true;
+            monitor.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.force(true);
+        channel.close();
+        logger.info("WAL :: Closed log in {}", directory);
+    }
+
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long target;
+            FileChannel out;
+            synchronized (monitor) {
+                try {
+                    if (policy == SyncPolicy.INTERVAL) {
+                        if (!closed) {
+                            monitor.wait(syncIntervalMillis);
+                        }
+                    } else {
+                        while (pending.position() == 0 && !closed) {
+                            monitor.wait();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (pending.position() == 0) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch = pending;
+                pending = spare;
+                target = appended;
+                out = channel;
+            }
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    out.write(batch);
+                }
+                if (policy != SyncPolicy.OS) {
+                    out.force(false);
+                }
+            } catch (IOException e) {
+                logger.error("WAL :: Failed to write log: {}", e.getMessage(), e);
+                synchronized (monitor) {
+                    failure = e;
+                    monitor.notifyAll();
+                }
+                return;
+            }
+            batch.clear();
+            synchronized (monitor) {
+                spare = batch;
+                written = target;
+                if (policy != SyncPolicy.OS) {
+                    forced = target;
+                }
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reads the records of all segments starting with {@code firstSegment} in
+     * order. A torn record at the end of a segment is cut off.
+     */
+    public static void replay(Path directory, long firstSegment, Consumer<ByteBuffer> consumer) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        for (long segment : segments(directory)) {
+            if (segment >= firstSegment) {
+                replaySegment(segmentPath(directory, segment), consumer);
+            }
+        }
+    }
+
+    private static void replaySegment(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // read the whole segment
+            }
+            data.flip();
+            int records = 0;
+            while (data.remaining() >= FRAME_HEADER_SIZE) {
+                int start = data.position();
+                int length = data.getInt();
+                int checksum = data.getInt();
+                if (length < 0 || length > data.remaining()) {
+                    data.position(start);
+                    break;
+                }
+                ByteBuffer payload = data.slice(data.position(), length);
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    data.position(start);
+                    break;
+                }
+                consumer.accept(payload);
+                data.position(data.position() + length);
+                records++;
+            }
+            if (data.position() < channel.size()) {
+                logger.warn("WAL :: Cutting off torn record at {} in {}", data.position(), file);
+                channel.truncate(data.position());
+            }
+            logger.info("WAL :: Replayed {} records from {}", records, file);
+        }
+    }
+
+    static List<Long> segments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private static FileChannel openSegment(Path directory, long segment) throws IOException {
+        return FileChannel.open(segmentPath(directory, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,270 @@
+package de.uniba.rz.backend.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds tickets with nearly the same description using MinHash signatures
+ * and locality-sensitive hashing.
+ * <p>
+ * A description is split into shingles of two consecutive terms. Its
+ * signature holds, for each of {@link #HASHES} hash functions, the minimum
+ * hash over all shingles. Two signatures agree in a slot with a probability
+ * equal to the Jaccard similarity of the shingle sets.
+ * <p>
+ * The signature is cut into {@link #BANDS} bands of {@link #ROWS} slots, and
+ * each band is hashed into a bucket. Tickets sharing at least one bucket are
+ * candidates, which are confirmed by comparing their signatures. With 16 bands
+ * of 4 rows, pairs above a similarity of about 0.5 are found with high
+ * probability while dissimilar pairs rarely meet in a bucket.
+ * <p>
+ * Buckets are probed newest first and only up to {@link #MAX_BUCKET_PROBES}
+ * entries, so even a storm of identical tickets keeps the cost of an insert
+ * constant.
+ * <p>
+ * Removing a ticket drops its signature at once, its bucket entries are
+ * skipped by probes and only dropped once most entries of a bucket are
+ * removed. Until all of them are dropped the signature is kept aside, so
+ * adding the ticket again first compacts the buckets still holding it.
+ * Adding a ticket with a changed description removes the old one first.
+ */
+public class DuplicateDetector {
+
+    public static final int HASHES = 64;
+    public static final int BANDS = 16;
+    public static final int ROWS = HASHES / BANDS;
+    /** Estimated Jaccard similarity from which tickets count as duplicates. */
+    public static final double SIMILARITY_THRESHOLD = 0.5;
+    private static final int MAX_BUCKET_PROBES = 16;
+    private static final int REPORTED_DUPLICATES = 10;
+
+    private final Map<Integer, int[]> signatures = new HashMap<>();
+    // band bucket -> ticket ids in insertion order
+    private final Map<Long, int[]> buckets = new HashMap<>();
+    // band bucket -> entries of removed tickets still in it
+    private final Map<Long, Integer> removedEntries = new HashMap<>();
+    // removed ticket id -> its signature, while buckets still hold entries of it
+    private final Map<Integer, RemovedTicket> removedTickets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final class RemovedTicket {
+        final int[] signature;
+        // bucket entries of the ticket not yet compacted away
+        int entries = BANDS;
+
+        RemovedTicket(int[] signature) {
+            this.signature = signature;
+        }
+    }
+
+    /**
+     * Adds the description of a ticket, replacing the one it was added with
+     * before.
+     *
+     * @return the ids of at most ten previously added tickets with a similar
+     * description, most similar first
+     */
+    public int[] add(int ticketId, String description) {
+        int[] signature = signature(description);
+        lock.writeLock().lock();
+        try {
+            int[] current = signatures.get(ticketId);
+            if (current != null && Arrays.equals(current, signature)) {
+                return similar(ticketId, signature, REPORTED_DUPLICATES);
+            }
+            if (current != null) {
+                removeSignature(ticketId);
+            }
+            if (signature == null) {
+                return new int[0];
+            }
+            RemovedTicket stale = removedTickets.remove(ticketId);
+            if (stale != null) {
+                // drop the entries left over from before, they would count as live again
+                for (int band = 0; band < BANDS; band++) {
+                    long key = bucket(stale.signature, band);
+                    int[] bucket = buckets.get(key);
+                    if (bucket != null) {
+                        compact(key, bucket);
+                    }
+                }
+            }
+            int[] duplicates = similar(ticketId, signature, REPORTED_DUPLICATES);
+            signatures.put(ticketId, signature);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.merge(bucket(signature, band), new int[]{1, ticketId}, DuplicateDetector::append);
+            }
+            return duplicates;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the description of a ticket. Removing it a second time has no
+     * effect.
+     */
+    public void remove(int ticketId) {
+        lock.writeLock().lock();
+        try {
+            removeSignature(ticketId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeSignature(int ticketId) {
+        int[] signature = signatures.remove(ticketId);
+        if (signature == null) {
+            return;
+        }
+        removedTickets.put(ticketId, new RemovedTicket(signature));
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucket(signature, band);
+            int[] bucket = buckets.get(key);
+            if (bucket == null) {
+                // an earlier band of the ticket hashed to the same bucket and emptied it
+                continue;
+            }
+            int dead = removedEntries.merge(key, 1, Integer::sum);
+            if (dead * 2 > bucket[0]) {
+                compact(key, bucket);
+            }
+        }
+    }
+
+    private void compact(long key, int[] bucket) {
+        int kept = 0;
+        for (int i = 1; i <= bucket[0]; i++) {
+            if (signatures.containsKey(bucket[i])) {
+                bucket[++kept] = bucket[i];
+            } else {
+                removedTickets.computeIfPresent(bucket[i], (id, removed) -> --removed.entries == 0 ? null : removed);
+            }
+        }
+        removedEntries.remove(key);
+        if (kept == 0) {
+            buckets.remove(key);
+        } else {
+            bucket[0] = kept;
+        }
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} tickets whose description is
+     * similar to the one of the given ticket, most similar first.
+     */
+    public int[] duplicatesOf(int ticketId, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(ticketId);
+            return signature == null ? new int[0] : similar(ticketId, signature, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] similar(int ticketId, int[] signature, int limit) {
+        Set<Integer> seen = new HashSet<>();
+        List<int[]> matches = new ArrayList<>();
+        for (int band = 0; band < BANDS; band++) {
+            int[] bucket = buckets.get(bucket(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            int probes = 0;
+            for (int i = bucket[0]; i >= 1 && probes < MAX_BUCKET_PROBES; i--) {
+                int candidate = bucket[i];
+                int[] candidateSignature = signatures.get(candidate);
+                if (candidateSignature == null) {
+                    // removed
+                    continue;
+                }
+                probes++;
+                if (candidate != ticketId && seen.add(candidate)) {
+                    int agreeing = agreeingSlots(signature, candidateSignature);
+                    if (agreeing >= SIMILARITY_THRESHOLD * HASHES) {
+                        matches.add(new int[]{candidate, agreeing});
+                    }
+                }
+            }
+        }
+        matches.sort((x, y) -> Integer.compare(y[1], x[1]));
+        return matches.stream().limit(limit).mapToInt(match -> match[0]).toArray();
+    }
+
+    /**
+     * Computes the MinHash signature of a text, or {@code null} if it has no
+     * terms.
+     */
+    static int[] signature(String text) {
+        List<String> terms = Tokenizer.tokenize(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        // a single term is its own shingle
+        int shingles = Math.max(1, terms.size() - 1);
+        for (int i = 0; i < shingles; i++) {
+            String shingle = i + 1 < terms.size() ? terms.get(i) + ' ' + terms.get(i + 1) : terms.get(i);
+            long hash = mix(shingle.hashCode());
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            // derive all hash functions from two (Kirsch and Mitzenmacher)
+            for (int j = 0; j < HASHES; j++) {
+                int value = h1 + j * h2;
+                if (value < signature[j]) {
+                    signature[j] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static int agreeingSlots(int[] a, int[] b) {
+        int agreeing = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                agreeing++;
+            }
+        }
+        return agreeing;
+    }
+
+    private static long bucket(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+
+    // finalizer of MurmurHash3, spreads the bits of the input over the result
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // bucket arrays hold their size in slot 0
+    private static int[] append(int[] bucket, int[] single) {
+        int size = bucket[0];
+        if (size + 1 == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[size + 1] = single[1];
+        bucket[0] = size + 1;
+        return bucket;
+    }
+}
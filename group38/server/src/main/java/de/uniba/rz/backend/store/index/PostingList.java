@@ -0,0 +1,130 @@
+package de.uniba.rz.backend.store.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Growable list of the documents containing one term, sorted by document id,
+ * together with the number of occurrences in each document.
+ * <p>
+ * Every {@link #SKIP_INTERVAL}th document id is copied into a separate skip
+ * array. {@link #advance(int, int)} walks that small array first and only
+ * scans the one block that can contain the target, so intersecting a short
+ * list with a long one does not touch most of the long one.
+ * <p>
+ * Removed documents stay in the list until most of it is removed, then the
+ * list is compacted.
+ * <p>
+ * This class is not thread-safe, {@link TextIndex} guards it.
+ */
+class PostingList {
+
+    static final int SKIP_INTERVAL = 64;
+
+    private int[] documents = new int[4];
+    private int[] frequencies = new int[4];
+    private int[] skips = new int[1];
+    private int size;
+    // documents in the list that were removed from the index since the last compaction
+    private int removed;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of documents in the list that were not removed
+     */
+    int liveSize() {
+        return size - removed;
+    }
+
+    /**
+     * Counts one more document of the list as removed and compacts the list
+     * once most of it is removed.
+     */
+    void markRemoved(BitSet removedDocuments) {
+        removed++;
+        if (removed * 2 > size) {
+            compact(removedDocuments);
+        }
+    }
+
+    /**
+     * Drops all documents contained in {@code removedDocuments}.
+     */
+    void compact(BitSet removedDocuments) {
+        int kept = 0;
+        for (int position = 0; position < size; position++) {
+            if (!removedDocuments.get(documents[position])) {
+                documents[kept] = documents[position];
+                frequencies[kept] = frequencies[position];
+                kept++;
+            }
+        }
+        size = kept;
+        removed = 0;
+        updateSkips(0);
+    }
+
+    int document(int position) {
+        return documents[position];
+    }
+
+    int frequency(int position) {
+        return frequencies[position];
+    }
+
+    /**
+     * Adds a document. Documents normally arrive in id order and are
+     * appended, a document overtaken by a concurrent writer is inserted at
+     * its place.
+     */
+    void add(int document, int frequency) {
+        if (size == documents.length) {
+            documents = Arrays.copyOf(documents, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        int position = size;
+        while (position > 0 && documents[position - 1] > document) {
+            position--;
+        }
+        System.arraycopy(documents, position, documents, position + 1, size - position);
+        System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+        documents[position] = document;
+        frequencies[position] = frequency;
+        size++;
+        updateSkips(position / SKIP_INTERVAL);
+    }
+
+    /**
+     * Returns the first position at or after {@code from} whose document is
+     * not smaller than {@code target}, or {@link #size()} if there is none.
+     */
+    int advance(int from, int target) {
+        int block = from / SKIP_INTERVAL;
+        int blocks = blockCount();
+        while (block + 1 < blocks && skips[block + 1] <= target) {
+            block++;
+        }
+        int position = Math.max(from, block * SKIP_INTERVAL);
+        while (position < size && documents[position] < target) {
+            position++;
+        }
+        return position;
+    }
+
+    private int blockCount() {
+        return (size + SKIP_INTERVAL - 1) / SKIP_INTERVAL;
+    }
+
+    private void updateSkips(int firstChangedBlock) {
+        int blocks = blockCount();
+        if (blocks > skips.length) {
+            skips = Arrays.copyOf(skips, skips.length * 2);
+        }
+        for (int block = firstChangedBlock; block < blocks; block++) {
+            skips[block] = documents[block * SKIP_INTERVAL];
+        }
+    }
+}
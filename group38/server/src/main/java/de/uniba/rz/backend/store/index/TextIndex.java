@@ -0,0 +1,220 @@
+package de.uniba.rz.backend.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incremental inverted index for keyword search over the text of tickets.
+ * <p>
+ * Every term found by the {@link Tokenizer} maps to a {@link PostingList} of
+ * the documents containing it. A query matches the documents containing all
+ * of its terms: the lists are intersected starting with the shortest one,
+ * using the skip pointers of the longer ones. Matches are ranked with BM25
+ * and only the best {@code limit} are kept in a small heap.
+ * <p>
+ * Documents are added once and never change, which fits tickets, whose text
+ * is fixed after creation. A document is searchable as soon as
+ * {@link #add(int, String...)} returns.
+ * <p>
+ * Removed documents are marked in a tombstone set, skipped while ranking and
+ * left out of the BM25 statistics right away. Their postings are dropped
+ * once they make up most of a posting list. Adding a removed document again,
+ * which is rare, compacts every list still holding removed documents, so no
+ * posting of its old terms can count as live again, and clears the tombstones.
+ */
+public class TextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final BitSet indexed = new BitSet();
+    private final BitSet removed = new BitSet();
+    private int[] documentLengths = new int[1024];
+    private int documentCount;
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes the terms of all given fields as one document. Adding a
+     * document a second time has no effect, unless it was removed in between,
+     * then its fields may differ from the ones it was first added with.
+     */
+    public void add(int documentId, String... fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String term : Tokenizer.tokenize(field)) {
+                frequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            if (removed.get(documentId)) {
+                // drop the postings left over from before the removal, under whichever terms they are
+                for (PostingList list : postings.values()) {
+                    if (list.liveSize() < list.size()) {
+                        list.compact(removed);
+                    }
+                }
+                postings.values().removeIf(list -> list.size() == 0);
+                // no posting refers to a removed document anymore
+                indexed.andNot(removed);
+                removed.clear();
+            } else if (indexed.get(documentId)) {
+                return;
+            }
+            indexed.set(documentId);
+            if (documentId >= documentLengths.length) {
+                documentLengths = Arrays.copyOf(documentLengths, Math.max(documentId + 1, documentLengths.length * 2));
+            }
+            documentLengths[documentId] = length;
+            documentCount++;
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(documentId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document, {@code fields} have to be the ones it was added
+     * with. Removing an unknown document has no effect.
+     */
+    public void remove(int documentId, String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : fields) {
+            terms.addAll(Tokenizer.tokenize(field));
+        }
+        lock.writeLock().lock();
+        try {
+            if (!indexed.get(documentId) || removed.get(documentId)) {
+                return;
+            }
+            removed.set(documentId);
+            documentCount--;
+            totalLength -= documentLengths[documentId];
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    list.markRemoved(removed);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the at most {@code limit} best matching documents
+     * containing every term of the query, best match first.
+     */
+    public int[] search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            if (lists.get(0).liveSize() == 0) {
+                return new int[0];
+            }
+            return rank(lists, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] rank(List<PostingList> lists, int limit) {
+        int termCount = lists.size();
+        double[] idf = new double[termCount];
+        for (int i = 0; i < termCount; i++) {
+            int documentFrequency = lists.get(i).liveSize();
+            idf[i] = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        PriorityQueue<ScoredDocument> best = new PriorityQueue<>(limit + 1, ScoredDocument.WORST_FIRST);
+        int[] positions = new int[termCount];
+        PostingList shortest = lists.get(0);
+        while (positions[0] < shortest.size()) {
+            int document = shortest.document(positions[0]);
+            int next = -1;
+            for (int i = 1; i < termCount && next < 0; i++) {
+                PostingList list = lists.get(i);
+                positions[i] = list.advance(positions[i], document);
+                if (positions[i] == list.size()) {
+                    return toIds(best);
+                }
+                if (list.document(positions[i]) != document) {
+                    next = list.document(positions[i]);
+                }
+            }
+            if (next >= 0) {
+                positions[0] = shortest.advance(positions[0], next);
+                continue;
+            }
+            if (removed.get(document)) {
+                positions[0]++;
+                continue;
+            }
+            double lengthNorm = K1 * (1 - B + B * documentLengths[document] / averageLength);
+            double score = 0;
+            for (int i = 0; i < termCount; i++) {
+                int frequency = lists.get(i).frequency(positions[i]);
+                score += idf[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+            if (best.size() < limit) {
+                best.add(new ScoredDocument(document, score));
+            } else if (score > best.peek().score) {
+                best.poll();
+                best.add(new ScoredDocument(document, score));
+            }
+            positions[0]++;
+        }
+        return toIds(best);
+    }
+
+    private static int[] toIds(PriorityQueue<ScoredDocument> best) {
+        int[] ids = new int[best.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = best.poll().document;
+        }
+        return ids;
+    }
+
+    private static final class ScoredDocument {
+        // lower scores first, on equal scores newer documents first
+        static final Comparator<ScoredDocument> WORST_FIRST = Comparator
+                .comparingDouble((ScoredDocument scored) -> scored.score)
+                .thenComparing(scored -> scored.document, Comparator.reverseOrder());
+
+        final int document;
+        final double score;
+
+        ScoredDocument(int document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
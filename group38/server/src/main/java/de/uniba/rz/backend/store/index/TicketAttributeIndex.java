@@ -0,0 +1,174 @@
+package de.uniba.rz.backend.store.index;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Secondary index over the {@link Type}, {@link Status}, {@link Priority} and
+ * reporter of the stored tickets.
+ * <p>
+ * The low-cardinality enum attributes keep one {@link CompressedBitmap} per
+ * value, so a combined filter like BUG and CRITICAL and NEW is answered by
+ * intersecting three bitmaps. Reporters keep a concurrent id set each.
+ * <p>
+ * The index only narrows down candidates. Callers re-check every candidate
+ * against the current ticket, so a lookup racing with a status change never
+ * returns a ticket that does not match.
+ */
+public class TicketAttributeIndex {
+
+    private final Map<Type, CompressedBitmap> byType = new EnumMap<>(Type.class);
+    private final Map<Status, CompressedBitmap> byStatus = new EnumMap<>(Status.class);
+    private final Map<Priority, CompressedBitmap> byPriority = new EnumMap<>(Priority.class);
+    private final ConcurrentHashMap<String, Set<Integer>> byReporter = new ConcurrentHashMap<>();
+    private final ReadWriteLock bitmapLock = new ReentrantReadWriteLock();
+
+    public TicketAttributeIndex() {
+        for (Type type : Type.values()) {
+            byType.put(type, new CompressedBitmap());
+        }
+        for (Status status : Status.values()) {
+            byStatus.put(status, new CompressedBitmap());
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, new CompressedBitmap());
+        }
+    }
+
+    public void add(Ticket ticket) {
+        int id = ticket.getId();
+        bitmapLock.writeLock().lock();
+        try {
+            byType.get(ticket.getType()).add(id);
+            byStatus.get(ticket.getStatus()).add(id);
+            byPriority.get(ticket.getPriority()).add(id);
+        } finally {
+            bitmapLock.writeLock().unlock();
+        }
+        if (ticket.getReporter() != null) {
+            byReporter.computeIfAbsent(ticket.getReporter(), reporter -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Removes a ticket from every bitmap, including the ones of statuses it
+     * no longer has.
+     */
+    public void remove(Ticket ticket) {
+        int id = ticket.getId();
+        bitmapLock.writeLock().lock();
+        try {
+            byType.values().forEach(bitmap -> bitmap.remove(id));
+            byStatus.values().forEach(bitmap -> bitmap.remove(id));
+            byPriority.values().forEach(bitmap -> bitmap.remove(id));
+        } finally {
+            bitmapLock.writeLock().unlock();
+        }
+        // empty sets stay, a concurrent add may already hold them
+        Set<Integer> reported = ticket.getReporter() == null ? null : byReporter.get(ticket.getReporter());
+        if (reported != null) {
+            reported.remove(id);
+        }
+    }
+
+    /**
+     * Moves a ticket from one status bitmap to another in one step.
+     */
+    public void updateStatus(int ticketId, Status oldStatus, Status newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        bitmapLock.writeLock().lock();
+        try {
+            byStatus.get(oldStatus).remove(ticketId);
+            byStatus.get(newStatus).add(ticketId);
+        } finally {
+            bitmapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts a ticket into the bitmap of the status {@code currentStatus}
+     * returns and removes it from all others.
+     * <p>
+     * The status is read while holding the index lock. Stores changing the
+     * status without a lock call this after every change, the last call then
+     * always sees the latest status, no matter in which order concurrent
+     * changes reach the index.
+     */
+    public void reconcileStatus(int ticketId, Supplier<Status> currentStatus) {
+        bitmapLock.writeLock().lock();
+        try {
+            Status status = currentStatus.get();
+            byStatus.forEach((candidate, bitmap) -> {
+                if (candidate == status) {
+                    bitmap.add(ticketId);
+                } else {
+                    bitmap.remove(ticketId);
+                }
+            });
+        } finally {
+            bitmapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids matching all given criteria in ascending order, or
+     * {@code null} if no criterion is set. {@code null} criteria are ignored.
+     */
+    public int[] candidates(Type type, Status status, Priority priority, String reporter) {
+        CompressedBitmap matching;
+        bitmapLock.readLock().lock();
+        try {
+            matching = intersect(null, type == null ? null : byType.get(type));
+            matching = intersect(matching, status == null ? null : byStatus.get(status));
+            matching = intersect(matching, priority == null ? null : byPriority.get(priority));
+            if (reporter == null) {
+                return matching == null ? null : matching.toArray();
+            }
+            Set<Integer> reported = byReporter.getOrDefault(reporter, Set.of());
+            int[] ids = new int[reported.size()];
+            int count = 0;
+            for (Integer id : reported) {
+                if ((matching == null || matching.contains(id)) && count < ids.length) {
+                    ids[count++] = id;
+                }
+            }
+            int[] result = Arrays.copyOf(ids, count);
+            Arrays.sort(result);
+            return result;
+        } finally {
+            bitmapLock.readLock().unlock();
+        }
+    }
+
+    private static CompressedBitmap intersect(CompressedBitmap current, CompressedBitmap other) {
+        if (other == null) {
+            return current;
+        }
+        return current == null ? other : current.and(other);
+    }
+
+    /**
+     * Checks a ticket against the given criteria, {@code null} criteria match
+     * everything.
+     */
+    public static boolean matches(Ticket ticket, Type type, Status status, Priority priority, String reporter) {
+        return (type == null || ticket.getType() == type)
+                && (status == null || ticket.getStatus() == status)
+                && (priority == null || ticket.getPriority() == priority)
+                && (reporter == null || Objects.equals(ticket.getReporter(), reporter));
+    }
+}
@@ -0,0 +1,69 @@
+package de.uniba.rz.backend.store.index;
+
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the {@link TicketStatistics} of a store up to date as tickets are
+ * created and change their status.
+ * <p>
+ * Every combination of status, type and priority has its own
+ * {@link LongAdder}, which spreads concurrent increments over striped cells
+ * instead of letting all writers fight over one counter. Reading the
+ * statistics sums the 48 adders, independent of the number of tickets.
+ * <p>
+ * A status change first counts the new combination and then uncounts the old
+ * one, so statistics read in between may count the ticket twice, but never
+ * lose it. Tickets without a type or priority are not counted.
+ */
+public class TicketCounters {
+
+    private final LongAdder[] counters = new LongAdder[TicketStatistics.SIZE];
+
+    public TicketCounters() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public void add(Ticket ticket) {
+        if (isCounted(ticket)) {
+            counters[index(ticket)].increment();
+        }
+    }
+
+    /**
+     * Moves a ticket from the combination of its previous version to the one
+     * of its current version.
+     */
+    public void replace(Ticket previous, Ticket current) {
+        add(current);
+        if (isCounted(previous)) {
+            counters[index(previous)].decrement();
+        }
+    }
+
+    public void remove(Ticket ticket) {
+        if (isCounted(ticket)) {
+            counters[index(ticket)].decrement();
+        }
+    }
+
+    public TicketStatistics snapshot() {
+        long[] counts = new long[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            counts[i] = counters[i].sum();
+        }
+        return new TicketStatistics(counts);
+    }
+
+    private static boolean isCounted(Ticket ticket) {
+        return ticket != null && ticket.getStatus() != null && ticket.getType() != null && ticket.getPriority() != null;
+    }
+
+    private static int index(Ticket ticket) {
+        return TicketStatistics.index(ticket.getStatus(), ticket.getType(), ticket.getPriority());
+    }
+}
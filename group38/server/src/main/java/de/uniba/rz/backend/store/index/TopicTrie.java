@@ -0,0 +1,345 @@
+package de.uniba.rz.backend.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix index over ticket topics for autocompletion.
+ * <p>
+ * Topics are stored lower-cased in a radix trie: every node is reached over an
+ * edge labelled with a whole substring, so a run of characters shared by no
+ * other topic takes one node instead of one per character. Edges are split
+ * when a topic branches off in their middle. The node where a topic ends
+ * counts the tickets with that topic and keeps their ids.
+ * Every node additionally caches the {@link #CACHED_COMPLETIONS} most frequent
+ * topics below it, so completing a prefix only walks down the prefix and
+ * reads one small array, no matter how many topics share the prefix.
+ * <p>
+ * The caches are kept exact by updating the nodes on the path of a topic
+ * whenever a ticket with it is added. Removing a ticket lowers the count of
+ * its topic and rebuilds the caches on the path from the caches of their
+ * children, as every topic cached below a node is cached in one of its
+ * children. The id of a removed ticket is only marked in a tombstone set and
+ * skipped when collecting ids, the ids of a topic are compacted once most of
+ * them are removed.
+ */
+public class TopicTrie {
+
+    /** Number of completions cached per node, larger limits are capped to it. */
+    public static final int CACHED_COMPLETIONS = 10;
+
+    private final Node root = new Node("");
+    private final BitSet removed = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final int[] NO_IDS = new int[0];
+
+    private static final class Node {
+        // characters leading here from the parent, empty for the root
+        String edge;
+        // first characters of the edges of the children, sorted
+        char[] labels = NO_LABELS;
+        Node[] children = NO_NODES;
+        // set once a topic ends here
+        String topic;
+        // tickets with the topic, not counting removed ones
+        int count;
+        // ids of the tickets with the topic, including removed ones until the next compaction
+        int[] ticketIds = NO_IDS;
+        int size;
+        Node[] best = NO_NODES;
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        /**
+         * Returns the child whose edge {@code key} continues with at
+         * {@code from}, adding a child or splitting an edge as needed.
+         */
+        Node addChild(String key, int from) {
+            char label = key.charAt(from);
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                index = -index - 1;
+                Node child = new Node(key.substring(from));
+                labels = insert(labels, index, label);
+                Node[] grown = new Node[children.length + 1];
+                System.arraycopy(children, 0, grown, 0, index);
+                System.arraycopy(children, index, grown, index + 1, children.length - index);
+                grown[index] = child;
+                children = grown;
+                return child;
+            }
+            Node child = children[index];
+            int common = 1;
+            while (common < child.edge.length() && from + common < key.length()
+                    && child.edge.charAt(common) == key.charAt(from + common)) {
+                common++;
+            }
+            if (common == child.edge.length()) {
+                return child;
+            }
+            // the key leaves the edge in its middle, split it there
+            Node middle = new Node(child.edge.substring(0, common));
+            child.edge = child.edge.substring(common);
+            middle.labels = new char[]{child.edge.charAt(0)};
+            middle.children = new Node[]{child};
+            // everything below the middle node is below the child
+            middle.best = child.best.clone();
+            children[index] = middle;
+            return middle;
+        }
+
+        /**
+         * Puts {@code terminal}, whose count just grew, into the cached
+         * completions if it now belongs there.
+         */
+        void offer(Node terminal) {
+            int index = Arrays.asList(best).indexOf(terminal);
+            if (index < 0) {
+                if (best.length < CACHED_COMPLETIONS) {
+                    best = Arrays.copyOf(best, best.length + 1);
+                    index = best.length - 1;
+                } else if (terminal.count > best[best.length - 1].count) {
+                    index = best.length - 1;
+                } else {
+                    return;
+                }
+                best[index] = terminal;
+            }
+            // bubble the grown entry up to its place
+            while (index > 0 && best[index - 1].count < best[index].count) {
+                Node swap = best[index - 1];
+                best[index - 1] = best[index];
+                best[index] = swap;
+                index--;
+            }
+        }
+
+        /**
+         * Recomputes the cached completions from the node itself and the
+         * caches of its children.
+         */
+        void rebuildBest() {
+            List<Node> candidates = new ArrayList<>();
+            if (topic != null && count > 0) {
+                candidates.add(this);
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.best));
+            }
+            candidates.sort((x, y) -> Integer.compare(y.count, x.count));
+            best = candidates.subList(0, Math.min(CACHED_COMPLETIONS, candidates.size())).toArray(NO_NODES);
+        }
+
+        void compact(BitSet removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed.get(ticketIds[i])) {
+                    ticketIds[kept++] = ticketIds[i];
+                }
+            }
+            size = kept;
+        }
+
+        private static char[] insert(char[] array, int index, char value) {
+            char[] grown = new char[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, index);
+            System.arraycopy(array, index, grown, index + 1, array.length - index);
+            grown[index] = value;
+            return grown;
+        }
+    }
+
+    public void add(int ticketId, String topic) {
+        if (topic == null) {
+            return;
+        }
+        String key = topic.toLowerCase(Locale.ROOT);
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i += node.edge.length()) {
+                node = node.addChild(key, i);
+                path.add(node);
+            }
+            if (node.topic == null) {
+                node.topic = topic;
+            }
+            if (removed.get(ticketId)) {
+                // drop the id left over from before the removal
+                node.compact(removed);
+                removed.clear(ticketId);
+            }
+            if (node.size == node.ticketIds.length) {
+                node.ticketIds = Arrays.copyOf(node.ticketIds, Math.max(4, node.size * 2));
+            }
+            node.ticketIds[node.size++] = ticketId;
+            node.count++;
+            for (Node onPath : path) {
+                onPath.offer(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a ticket added with the given topic. Removing it a second time
+     * has no effect.
+     */
+    public void remove(int ticketId, String topic) {
+        if (topic == null) {
+            return;
+        }
+        String key = topic.toLowerCase(Locale.ROOT);
+        lock.writeLock().lock();
+        try {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i += node.edge.length()) {
+                node = node.child(key.charAt(i));
+                if (node == null || !key.startsWith(node.edge, i)) {
+                    return;
+                }
+                path.add(node);
+            }
+            if (node.count == 0 || removed.get(ticketId)) {
+                return;
+            }
+            removed.set(ticketId);
+            node.count--;
+            if (node.count * 2 < node.size) {
+                node.compact(removed);
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).rebuildBest();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the most frequent topics starting with {@code prefix}, ignoring
+     * case, most frequent first.
+     */
+    public List<String> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix);
+            List<String> completions = new ArrayList<>();
+            if (node != null) {
+                for (int i = 0; i < node.best.length && i < limit; i++) {
+                    completions.add(node.best[i].topic);
+                }
+            }
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} tickets whose topic starts
+     * with {@code prefix}, ignoring case. Tickets with the most frequent
+     * topics come first.
+     */
+    public int[] ticketIdsWithPrefix(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix);
+            if (node == null || limit <= 0) {
+                return new int[0];
+            }
+            IdCollector collector = new IdCollector(limit, removed);
+            List<Node> cached = Arrays.asList(node.best);
+            for (Node terminal : cached) {
+                collector.addAll(terminal);
+            }
+            // then the less frequent topics, depth first
+            List<Node> pending = new ArrayList<>();
+            pending.add(node);
+            while (!pending.isEmpty() && !collector.isFull()) {
+                Node current = pending.remove(pending.size() - 1);
+                if (current.topic != null && !cached.contains(current)) {
+                    collector.addAll(current);
+                }
+                pending.addAll(Arrays.asList(current.children));
+            }
+            return collector.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class IdCollector {
+        private final int limit;
+        private final BitSet removed;
+        private int[] ids = new int[16];
+        private int count;
+
+        IdCollector(int limit, BitSet removed) {
+            this.limit = limit;
+            this.removed = removed;
+        }
+
+        boolean isFull() {
+            return count >= limit;
+        }
+
+        void addAll(Node terminal) {
+            for (int i = 0; i < terminal.size && !isFull(); i++) {
+                if (removed.get(terminal.ticketIds[i])) {
+                    continue;
+                }
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = terminal.ticketIds[i];
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, count);
+        }
+    }
+
+    /**
+     * Returns the highest node all topics below which start with the prefix.
+     */
+    private Node find(String prefix) {
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length(); i += node.edge.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            if (key.length() - i <= node.edge.length()) {
+                // the prefix ends on this edge
+                return node.edge.startsWith(key.substring(i)) ? node : null;
+            }
+            if (!key.startsWith(node.edge, i)) {
+                return null;
+            }
+        }
+        return node;
+    }
+}
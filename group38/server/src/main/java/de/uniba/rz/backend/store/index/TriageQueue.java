@@ -0,0 +1,73 @@
+package de.uniba.rz.backend.store.index;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Status#NEW NEW} tickets in the order dispatchers work on them,
+ * most urgent priority first and oldest first within a priority.
+ * <p>
+ * Each entry packs the priority and the id of a ticket into one {@code long},
+ * priority in the upper half, so the natural order of the entries is the
+ * triage order. The set is a skip list, which keeps inserts and removals
+ * logarithmic and lets readers take the head while writers change it.
+ */
+public class TriageQueue {
+
+    private final ConcurrentSkipListSet<Long> entries = new ConcurrentSkipListSet<>();
+
+    /**
+     * Adds the ticket if it is new and removes it otherwise. Callers have to
+     * pass the latest status of a ticket last.
+     */
+    public void update(int ticketId, Priority priority, Status status) {
+        if (priority == null) {
+            return;
+        }
+        if (status == Status.NEW) {
+            entries.add(entry(ticketId, priority));
+        } else {
+            entries.remove(entry(ticketId, priority));
+        }
+    }
+
+    public void remove(int ticketId, Priority priority) {
+        if (priority != null) {
+            entries.remove(entry(ticketId, priority));
+        }
+    }
+
+    /**
+     * Brings the ticket in line with its status at the time of the call. Used
+     * by stores whose writers race on the same ticket, the status is read
+     * while holding the lock, so the last caller always sees the latest one.
+     */
+    public synchronized void reconcile(int ticketId, Priority priority, Supplier<Status> currentStatus) {
+        update(ticketId, priority, currentStatus.get());
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} tickets in triage order.
+     */
+    public int[] head(int limit) {
+        // size() walks the whole skip list, so the result grows as needed
+        int[] ids = new int[Math.max(0, Math.min(limit, 64))];
+        int count = 0;
+        for (Iterator<Long> iterator = entries.iterator(); iterator.hasNext() && count < limit; ) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, (int) Math.min(limit, ids.length * 2L));
+            }
+            ids[count++] = (int) iterator.next().longValue();
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private static long entry(int ticketId, Priority priority) {
+        return (long) priority.ordinal() << 32 | (ticketId & 0xffffffffL);
+    }
+}
@@ -0,0 +1,309 @@
+package de.uniba.rz.backend.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over ticket topics for searches that tolerate typos.
+ * <p>
+ * Every distinct topic is lower-cased, padded and split into overlapping
+ * three character grams, each gram points to the topics containing it. One
+ * edit changes at most three grams, so a topic within {@code k} edits of the
+ * query shares at least {@code grams(query) - 3k} grams with it. Counting
+ * shared grams therefore yields a small candidate set, and only those
+ * candidates are checked with a banded Levenshtein computation. Candidates
+ * are collected from the {@code 3k + 1} shortest posting lists of the query
+ * only, grams shared by many topics are merely probed for them.
+ * <p>
+ * Queries too short for the count filter to prune anything, which with two
+ * edits are all queries of up to five characters, only check the topics
+ * within {@code k} characters of their length, which are kept per length.
+ * Searches allow at most {@link #MAX_EDITS} edits, beyond that nearly every
+ * short topic would match anyway.
+ * <p>
+ * Removed tickets are marked in a tombstone set and skipped by searches, the
+ * ids of a topic are compacted once most of them are removed.
+ */
+public class TrigramIndex {
+
+    /** Largest number of edits a search may allow. */
+    public static final int MAX_EDITS = 3;
+    private static final char PADDING = '\u0000';
+
+    private final Map<String, Integer> topicNumbers = new HashMap<>();
+    private final List<Topic> topics = new ArrayList<>();
+    // gram -> ascending topic numbers
+    private final Map<String, IntList> postings = new HashMap<>();
+    // topic length -> ascending topic numbers
+    private final List<IntList> topicsByLength = new ArrayList<>();
+    private final BitSet removed = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class Topic {
+        final String key;
+        // including removed ones until the next compaction
+        final IntList ticketIds = new IntList();
+        int live;
+
+        Topic(String key) {
+            this.key = key;
+        }
+
+        void compact(BitSet removed) {
+            int kept = 0;
+            for (int i = 0; i < ticketIds.size; i++) {
+                if (!removed.get(ticketIds.values[i])) {
+                    ticketIds.values[kept++] = ticketIds.values[i];
+                }
+            }
+            ticketIds.size = kept;
+        }
+    }
+
+    public void add(int ticketId, String topic) {
+        if (topic == null) {
+            return;
+        }
+        String key = topic.toLowerCase(Locale.ROOT);
+        lock.writeLock().lock();
+        try {
+            Integer number = topicNumbers.get(key);
+            if (number == null) {
+                number = topics.size();
+                topicNumbers.put(key, number);
+                topics.add(new Topic(key));
+                for (String gram : grams(key)) {
+                    postings.computeIfAbsent(gram, g -> new IntList()).add(number);
+                }
+                while (topicsByLength.size() <= key.length()) {
+                    topicsByLength.add(new IntList());
+                }
+                topicsByLength.get(key.length()).add(number);
+            }
+            Topic entry = topics.get(number);
+            if (removed.get(ticketId)) {
+                // drop the id left over from before the removal
+                entry.compact(removed);
+                removed.clear(ticketId);
+            }
+            entry.ticketIds.add(ticketId);
+            entry.live++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a ticket added with the given topic. Removing it a second time
+     * has no effect.
+     */
+    public void remove(int ticketId, String topic) {
+        if (topic == null) {
+            return;
+        }
+        String key = topic.toLowerCase(Locale.ROOT);
+        lock.writeLock().lock();
+        try {
+            Integer number = topicNumbers.get(key);
+            if (number == null || removed.get(ticketId)) {
+                return;
+            }
+            Topic entry = topics.get(number);
+            removed.set(ticketId);
+            entry.live--;
+            if (entry.live * 2 < entry.ticketIds.size) {
+                entry.compact(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the tickets whose topic is at most {@code maxEdits}
+     * insertions, deletions or substitutions away from {@code topic},
+     * ignoring case. Tickets with closer topics come first.
+     *
+     * @throws IllegalArgumentException if {@code maxEdits} is negative or
+     *                                  larger than {@link #MAX_EDITS}
+     */
+    public int[] search(String topic, int maxEdits) {
+        checkMaxEdits(maxEdits);
+        if (topic == null) {
+            return new int[0];
+        }
+        String query = topic.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            List<List<Integer>> byDistance = new ArrayList<>();
+            for (int i = 0; i <= maxEdits; i++) {
+                byDistance.add(new ArrayList<>());
+            }
+            for (int candidate : candidates(query, maxEdits)) {
+                String key = topics.get(candidate).key;
+                if (Math.abs(key.length() - query.length()) > maxEdits) {
+                    continue;
+                }
+                int distance = editDistance(query, key, maxEdits);
+                if (distance <= maxEdits) {
+                    byDistance.get(distance).add(candidate);
+                }
+            }
+            IntList result = new IntList();
+            for (List<Integer> matches : byDistance) {
+                for (int number : matches) {
+                    IntList ids = topics.get(number).ticketIds;
+                    for (int i = 0; i < ids.size; i++) {
+                        if (!removed.get(ids.values[i])) {
+                            result.add(ids.values[i]);
+                        }
+                    }
+                }
+            }
+            return Arrays.copyOf(result.values, result.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the numbers of all topics sharing enough grams with the query
+     * to be within {@code maxEdits} edits.
+     */
+    private int[] candidates(String query, int maxEdits) {
+        Set<String> queryGrams = grams(query);
+        int required = queryGrams.size() - 3 * maxEdits;
+        if (required <= 0) {
+            // every topic might match, only the length filter helps
+            IntList sameLength = new IntList();
+            int from = Math.max(0, query.length() - maxEdits);
+            int to = Math.min(topicsByLength.size() - 1, query.length() + maxEdits);
+            for (int length = from; length <= to; length++) {
+                IntList numbers = topicsByLength.get(length);
+                for (int i = 0; i < numbers.size; i++) {
+                    sameLength.add(numbers.values[i]);
+                }
+            }
+            int[] candidates = Arrays.copyOf(sameLength.values, sameLength.size);
+            // topics in the order they were added, like the count filter yields them
+            Arrays.sort(candidates);
+            return candidates;
+        }
+        List<IntList> lists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            lists.add(postings.getOrDefault(gram, new IntList()));
+        }
+        lists.sort((x, y) -> Integer.compare(x.size, y.size));
+        // a candidate misses at most 3k grams, so it appears in at least one of
+        // the 3k + 1 shortest lists; the long lists are only probed
+        int probed = lists.size() - required + 1;
+        IntList hitList = new IntList();
+        for (IntList posting : lists.subList(0, probed)) {
+            for (int i = 0; i < posting.size; i++) {
+                hitList.add(posting.values[i]);
+            }
+        }
+        int[] hits = Arrays.copyOf(hitList.values, hitList.size);
+        Arrays.sort(hits);
+        IntList candidates = new IntList();
+        for (int start = 0; start < hits.length; ) {
+            int end = start;
+            while (end < hits.length && hits[end] == hits[start]) {
+                end++;
+            }
+            int shared = end - start;
+            for (int i = probed; i < lists.size() && shared < required; i++) {
+                IntList posting = lists.get(i);
+                if (Arrays.binarySearch(posting.values, 0, posting.size, hits[start]) >= 0) {
+                    shared++;
+                }
+            }
+            if (shared >= required) {
+                candidates.add(hits[start]);
+            }
+            start = end;
+        }
+        return Arrays.copyOf(candidates.values, candidates.size);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code maxEdits} is negative or
+     *                                  larger than {@link #MAX_EDITS}
+     */
+    public static void checkMaxEdits(int maxEdits) {
+        if (maxEdits < 0 || maxEdits > MAX_EDITS) {
+            throw new IllegalArgumentException("Number of edits must be between 0 and " + MAX_EDITS + ", but was " + maxEdits);
+        }
+    }
+
+    private static Set<String> grams(String key) {
+        String padded = "" + PADDING + PADDING + key + PADDING;
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Computes the Levenshtein distance of two strings, but only within a
+     * band of {@code maxEdits} around the diagonal.
+     *
+     * @return the distance, or {@code maxEdits + 1} if it exceeds
+     * {@code maxEdits}
+     */
+    public static int editDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        // no distance exceeds the longer length, which keeps maxEdits + 1 from overflowing
+        maxEdits = Math.min(maxEdits, Math.max(a.length(), b.length()));
+        int outside = maxEdits + 1;
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j <= maxEdits ? j : outside;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(b.length(), i + maxEdits);
+            Arrays.fill(current, outside);
+            current[0] = i <= maxEdits ? i : outside;
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, outside);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                return outside;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], outside);
+    }
+}
@@ -0,0 +1,39 @@
+package de.uniba.rz.backend.udp;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of direct buffers of one size, shared by the receiver and worker
+ * threads of {@link UdpRemoteAccess}.
+ * <p>
+ * Buffers are allocated on demand when the pool is empty, and at most
+ * {@code maxPooled} released buffers are kept for reuse. Direct buffers let
+ * the channel read and write datagrams without copying them through a heap
+ * array, but are expensive to allocate, hence the pool.
+ */
+final class DirectBufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<ByteBuffer> buffers;
+
+    DirectBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * @return a cleared buffer of {@code bufferSize} bytes
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Hands the buffer back, it must not be used by the caller afterwards.
+     */
+    void release(ByteBuffer buffer) {
+        buffers.offer(buffer);
+    }
+}
@@ -1,33 +1,104 @@
 package de.uniba.rz.backend.udp;
 
 import de.uniba.rz.backend.RemoteAccess;
+import de.uniba.rz.backend.UnknownTicketException;
 import de.uniba.rz.backend.store.TicketStore;
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketException;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 import de.uniba.rz.entities.ticket.Type;
+import de.uniba.rz.entities.udp.Fragmenter;
 import de.uniba.rz.entities.udp.Packet;
+import de.uniba.rz.entities.udp.PacketCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.*;
-import java.net.*;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Serves the ticket store over UDP.
+ * <p>
+ * Requests have to fit into one datagram of {@code byteSize} bytes. Replies
+ * of any size are cut into fragments of at most {@code byteSize} bytes by a
+ * {@link Fragmenter}, which the client puts back together. Large replies are
+ * sent in bursts of {@code PACED_BURST_BYTES} with a short pause in between,
+ * so they do not overrun the receive buffer of the client at once. A lost
+ * fragment still loses the whole reply, the client times out.
+ * <p>
+ * Receiver threads only read datagrams into pooled direct buffers and hand
+ * them to a pool of worker threads, which decode the request, query the
+ * store and send the reply, so a slow request only occupies one worker.
+ * The receivers share one channel, or with {@code reusePort} each get their
+ * own channel bound to the same port and the OS spreads clients across them.
+ * Requests arriving while all workers are busy and the queue is full are
+ * dropped, the client times out as if the datagram was lost.
+ * <p>
+ * A datagram that does not decode is dropped as well, as it has no request
+ * id to answer to. A request that fails once decoded, e.g. because the store
+ * rejects its data, is answered with a {@link TicketException}.
+ */
 public class UdpRemoteAccess implements RemoteAccess {
 
     private static final Logger logger = LoggerFactory.getLogger(UdpRemoteAccess.class);
+    private static final int SEARCH_LIMIT = 20;
+    private static final int COMPLETION_LIMIT = 10;
+    public static final int DEFAULT_BYTE_SIZE = 1024;
+    // requests waiting for a worker, each holds a pooled buffer
+    private static final int QUEUE_SIZE = 4096;
+    // absorbs bursts of requests, the OS caps this at its own limit
+    private static final int RECEIVE_BUFFER_SIZE = 4 * 1024 * 1024;
+    // fragments of a reply sent back to back, below the default receive buffer of most systems
+    private static final int PACED_BURST_BYTES = 64 * 1024;
+    // lets the client drain its receive buffer between two bursts
+    private static final long BURST_PAUSE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
     private final String host;
     private final int port;
-    private DatagramSocket serverSocket;
+    private final int receiverThreads;
+    private final int workerThreads;
+    private final boolean reusePort;
+    private final Fragmenter fragmenter;
+    private final DirectBufferPool bufferPool;
+    private final AtomicInteger messageId = new AtomicInteger();
+    private final List<DatagramChannel> channels = new ArrayList<>();
+    private ThreadPoolExecutor workers;
     private TicketStore ticketStore;
-    private boolean active = false;
+    private volatile boolean active = false;
 
     public UdpRemoteAccess(String host, int port) {
-        logger.info("UDP --> Initialization Successful {}:{}", host, port);
+        this(host, port, DEFAULT_BYTE_SIZE);
+    }
+
+    public UdpRemoteAccess(String host, int port, int byteSize) {
+        this(host, port, byteSize, 1, Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    public UdpRemoteAccess(String host, int port, int byteSize, int receiverThreads, int workerThreads, boolean reusePort) {
+        logger.info("UDP --> Initialization Successful {}:{} with datagrams of {} bytes", host, port, byteSize);
         this.host = host;
         this.port = port;
+        this.receiverThreads = receiverThreads;
+        this.workerThreads = workerThreads;
+        this.reusePort = reusePort;
+        this.fragmenter = new Fragmenter(byteSize);
+        this.bufferPool = new DirectBufferPool(byteSize, QUEUE_SIZE + receiverThreads + 2 * workerThreads);
     }
 
     @Override
@@ -38,167 +109,386 @@ public class UdpRemoteAccess implements RemoteAccess {
     @Override
     public void shutdown() {
         active = false;
-        serverSocket.close();
+        synchronized (channels) {
+            for (DatagramChannel channel : channels) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    logger.warn("UDP --> Failed to close channel: {}", e.getMessage());
+                }
+            }
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         logger.info("UDP --> Connection closed");
     }
 
+    /**
+     * Starts the workers and the other receivers and receives on the calling
+     * thread until the server is shut down.
+     */
     @Override
     public void run() {
-        try (DatagramSocket socket = new DatagramSocket(port, InetAddress.getByName(host))) {
-            active = true;
-            serverSocket = socket;
-            logger.info("UDP --> Server ready to receive packets on {}", port);
-            receivePackets();
-        } catch (SocketException | UnknownHostException e) {
+        try {
+            openChannels(new InetSocketAddress(InetAddress.getByName(host), port));
+        } catch (IOException e) {
             logger.error("UDP --> Unable to start the server: {}", e.getLocalizedMessage());
+            shutdown();
+            return;
+        }
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "udp-worker-" + workerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        active = true;
+        for (int i = 1; i < receiverThreads; i++) {
+            DatagramChannel channel = channels.get(i % channels.size());
+            Thread receiver = new Thread(() -> receivePackets(channel), "udp-receiver-" + i);
+            receiver.setDaemon(true);
+            receiver.start();
+        }
+        logger.info("UDP --> Server ready to receive packets on {} with {} receivers on {} channels and {} workers",
+                port, receiverThreads, channels.size(), workerThreads);
+        receivePackets(channels.get(0));
+    }
+
+    // Opens one channel per receiver if the port can be shared, otherwise one channel for all receivers
+    private void openChannels(InetSocketAddress address) throws IOException {
+        int count = 1;
+        if (reusePort && receiverThreads > 1) {
+            try (DatagramChannel probe = DatagramChannel.open()) {
+                if (probe.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+                    count = receiverThreads;
+                } else {
+                    logger.warn("UDP --> SO_REUSEPORT is not supported, all receivers share one channel");
+                }
+            }
+        }
+        synchronized (channels) {
+            for (int i = 0; i < count; i++) {
+                DatagramChannel channel = DatagramChannel.open();
+                channels.add(channel);
+                if (count > 1) {
+                    channel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                }
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, RECEIVE_BUFFER_SIZE);
+                channel.bind(address);
+            }
         }
     }
 
-    // Receives packets
-    public void receivePackets() {
-        byte[] receivedData = new byte[1024];
-        DatagramPacket receivePacket = new DatagramPacket(receivedData, receivedData.length);
+    // Receives packets and hands them to the workers, which release the buffer once it is decoded
+    private void receivePackets(DatagramChannel channel) {
         while (active) {
+            ByteBuffer buffer = bufferPool.acquire();
+            SocketAddress address;
             try {
-                serverSocket.receive(receivePacket);
-                Packet receivedPacket = deserializePacket(receivePacket.getData());
-                switch (receivedPacket.getType()) {
-                    case "createNewTicket":
-                        createNewTicket(receivePacket, receivedPacket);
-                        break;
-                    case "getAllTickets":
-                        getAllTickets(receivePacket);
-                        break;
-                    case "getTicketById":
-                        getTicketByID(receivePacket, receivedPacket);
-                        break;
-                    case "getTicketsByName":
-                        getTicketByName(receivePacket, receivedPacket);
-                        break;
-                    case "getTicketsByNameAndType":
-                        getTicketsByNameAndType(receivePacket, receivedPacket);
-                        break;
-                    case "acceptTicket":
-                    case "rejectTicket":
-                    case "closeTicket":
-                        updateTicketStatus(receivePacket, receivedPacket);
-                        break;
-                }
+                address = channel.receive(buffer);
+            } catch (ClosedChannelException e) {
+                bufferPool.release(buffer);
+                break;
             } catch (IOException e) {
+                bufferPool.release(buffer);
                 logger.error("UDP --> Exception: {}", e.getLocalizedMessage(), e);
+                continue;
+            }
+            buffer.flip();
+            Client client = new Client(channel, address);
+            try {
+                workers.execute(() -> handlePacket(client, buffer));
+            } catch (RejectedExecutionException e) {
+                bufferPool.release(buffer);
+                if (active) {
+                    logger.warn("UDP --> Dropped packet from {}, all workers are busy", address);
+                }
+            }
+        }
+    }
+
+    // Decodes the request and answers it on a worker thread
+    private void handlePacket(Client client, ByteBuffer buffer) {
+        Packet receivedPacket;
+        try {
+            receivedPacket = PacketCodec.decode(buffer);
+        } catch (IllegalArgumentException e) {
+            logger.warn("UDP --> Dropped malformed packet from {}: {}", client.address, e.getMessage());
+            return;
+        } finally {
+            bufferPool.release(buffer);
+        }
+        try {
+            switch (receivedPacket.getType()) {
+                case "createNewTicket":
+                    createNewTicket(client, receivedPacket);
+                    break;
+                case "createNewTickets":
+                    createNewTickets(client, receivedPacket);
+                    break;
+                case "getAllTickets":
+                    getAllTickets(client, receivedPacket);
+                    break;
+                case "getTicketPage":
+                    getTicketPage(client, receivedPacket);
+                    break;
+                case "getStatistics":
+                    getStatistics(client, receivedPacket);
+                    break;
+                case "getTicketById":
+                    getTicketByID(client, receivedPacket);
+                    break;
+                case "getTicketsByName":
+                    getTicketByName(client, receivedPacket);
+                    break;
+                case "getTicketsByNameAndType":
+                    getTicketsByNameAndType(client, receivedPacket);
+                    break;
+                case "getTicketsByNamePrefix":
+                    getTicketsByNamePrefix(client, receivedPacket);
+                    break;
+                case "getTicketsBySimilarName":
+                    getTicketsBySimilarName(client, receivedPacket);
+                    break;
+                case "completeTopic":
+                    completeTopic(client, receivedPacket);
+                    break;
+                case "acceptTicket":
+                case "rejectTicket":
+                case "closeTicket":
+                    updateTicketStatus(client, receivedPacket);
+                    break;
+                case "acceptTickets":
+                case "rejectTickets":
+                case "closeTickets":
+                    updateTicketStatuses(client, receivedPacket);
+                    break;
             }
+        } catch (IOException e) {
+            logger.error("UDP --> Exception: {}", e.getLocalizedMessage(), e);
+        } catch (RuntimeException e) {
+            // e.g. data of the wrong type or a ticket the store rejects, the client would time out otherwise
+            logger.warn("{} --> Failed for {}: {}", receivedPacket.getType(), client.address, e.toString());
+            sendError(client, receivedPacket, e.getMessage() != null ? e.getMessage() : e.toString());
         }
     }
 
-    // Updates the status of a ticket
-    private void updateTicketStatus(DatagramPacket receivePacket, Packet receivedPacket) throws IOException {
+    // Answers a request which failed with a TicketException
+    private void sendError(Client client, Packet receivedPacket, String message) {
+        try {
+            sendResponse(client, receivedPacket, new TicketException(message));
+        } catch (IOException | RuntimeException e) {
+            logger.error("UDP --> Failed to send error reply: {}", e.getLocalizedMessage(), e);
+        }
+    }
+
+    // Updates the status of a ticket, a rejected transition is answered with a TicketException
+    private void updateTicketStatus(Client client, Packet receivedPacket) throws IOException {
         int ticketId = (int) receivedPacket.getData();
         logger.info("{} --> TicketID: {}", receivedPacket.getType(), ticketId);
-        for (Ticket t : ticketStore.getAllTickets()) {
-            if (t.getId() == ticketId) {
-                switch (receivedPacket.getType()) {
-                    case "acceptTicket":
-                        t.setStatus(Status.ACCEPTED);
-                        break;
-                    case "rejectTicket":
-                        t.setStatus(Status.REJECTED);
-                        break;
-                    case "closeTicket":
-                        t.setStatus(Status.CLOSED);
-                        break;
-                }
-                sendTicketResponse(receivePacket, t);
-                logger.info("{} --> Updated Ticket: {}", receivedPacket.getType(), t);
-            }
+        Status newStatus;
+        switch (receivedPacket.getType()) {
+            case "acceptTicket":
+                newStatus = Status.ACCEPTED;
+                break;
+            case "rejectTicket":
+                newStatus = Status.REJECTED;
+                break;
+            default:
+                newStatus = Status.CLOSED;
+                break;
+        }
+        try {
+            Ticket t = ticketStore.updateTicketStatus(ticketId, newStatus);
+            sendTicketResponse(client, receivedPacket, t);
+            logger.info("{} --> Updated Ticket: {}", receivedPacket.getType(), t);
+        } catch (UnknownTicketException | IllegalStateException e) {
+            logger.info("{} --> Rejected: {}", receivedPacket.getType(), e.getMessage());
+            sendResponse(client, receivedPacket, new TicketException(e.getMessage()));
+        }
+    }
+
+    // Updates the status of several tickets and sends the outcome per ticket
+    private void updateTicketStatuses(Client client, Packet receivedPacket) throws IOException {
+        int[] ticketIds = (int[]) receivedPacket.getData();
+        logger.info("{} --> {} tickets", receivedPacket.getType(), ticketIds.length);
+        Status newStatus;
+        switch (receivedPacket.getType()) {
+            case "acceptTickets":
+                newStatus = Status.ACCEPTED;
+                break;
+            case "rejectTickets":
+                newStatus = Status.REJECTED;
+                break;
+            default:
+                newStatus = Status.CLOSED;
+                break;
         }
+        TransitionResult result = ticketStore.updateTicketStatuses(ticketIds, newStatus);
+        sendResponse(client, receivedPacket, result);
+        logger.info("{} --> {}", receivedPacket.getType(), result);
     }
 
-    // Retrieves tickets by name and type and sends the response
-    private void getTicketsByNameAndType(DatagramPacket receivePacket, Packet receivedPacket) throws IOException {
+    // Retrieves tickets by type and sends them as one list
+    private void getTicketsByNameAndType(Client client, Packet receivedPacket) throws IOException {
         Type receivedType = (Type) receivedPacket.getData();
         logger.info("getTicketsByNameAndType --> {}", receivedType);
-        for (Ticket t : ticketStore.getAllTickets()) {
-            if (t.getType() == receivedType) {
-                sendTicketResponse(receivePacket, t);
-                logger.info("getTicketsByNameAndType --> Response: {}", t);
-            }
-        }
+        List<Ticket> tickets = ticketStore.findTickets(receivedType, null, null, null);
+        sendTicketListResponse(client, receivedPacket, tickets);
+        logger.info("getTicketsByNameAndType --> Ticket Size: {}", tickets.size());
     }
 
-    // Retrieves a ticket by name and sends the response
-    private void getTicketByName(DatagramPacket receivePacket, Packet receivedPacket) throws IOException {
+    // Searches the topics and descriptions for the given words and sends the best matches as one list
+    private void getTicketByName(Client client, Packet receivedPacket) throws IOException {
         String receivedName = (String) receivedPacket.getData();
         logger.info("getTicketsByName --> {}", receivedName);
-        for (Ticket t : ticketStore.getAllTickets()) {
-            if (Objects.equals(t.getTopic(), receivedName)) {
-                sendTicketResponse(receivePacket, t);
-                logger.info("getTicketsByName --> Response: {}", t);
-            }
-        }
+        List<Ticket> tickets = ticketStore.searchTickets(receivedName, SEARCH_LIMIT);
+        sendTicketListResponse(client, receivedPacket, tickets);
+        logger.info("getTicketsByName --> Ticket Size: {}", tickets.size());
+    }
+
+    // Sends the tickets whose topic starts with the given prefix as one list
+    private void getTicketsByNamePrefix(Client client, Packet receivedPacket) throws IOException {
+        String prefix = (String) receivedPacket.getData();
+        logger.info("getTicketsByNamePrefix --> {}", prefix);
+        List<Ticket> tickets = ticketStore.getTicketsByTopicPrefix(prefix, SEARCH_LIMIT);
+        sendTicketListResponse(client, receivedPacket, tickets);
+        logger.info("getTicketsByNamePrefix --> Ticket Size: {}", tickets.size());
+    }
+
+    // Sends the tickets whose topic is a few typos away from the given name as one list
+    private void getTicketsBySimilarName(Client client, Packet receivedPacket) throws IOException {
+        String name = (String) receivedPacket.getData();
+        logger.info("getTicketsBySimilarName --> {}", name);
+        // short names allow fewer typos, otherwise almost everything matches
+        int maxEdits = name.length() < 5 ? 1 : 2;
+        List<Ticket> tickets = ticketStore.findTicketsByFuzzyTopic(name, maxEdits);
+        sendTicketListResponse(client, receivedPacket, tickets.size() > SEARCH_LIMIT ? new ArrayList<>(tickets.subList(0, SEARCH_LIMIT)) : tickets);
+        logger.info("getTicketsBySimilarName --> Ticket Size: {}", tickets.size());
+    }
+
+    // Sends the most frequent topics starting with the given prefix
+    private void completeTopic(Client client, Packet receivedPacket) throws IOException {
+        String prefix = (String) receivedPacket.getData();
+        List<String> completions = new ArrayList<>(ticketStore.completeTopic(prefix, COMPLETION_LIMIT));
+        sendResponse(client, receivedPacket, completions);
     }
 
-    // Retrieves a ticket by ID and sends the response
-    private void getTicketByID(DatagramPacket receivePacket, Packet receivedPacket) throws IOException {
+    // Retrieves a ticket by ID and sends the response, an unknown ID is answered with a TicketException
+    private void getTicketByID(Client client, Packet receivedPacket) throws IOException {
         int receivedTicketId = (Integer) receivedPacket.getData();
         logger.info("getTicketById --> {}", receivedTicketId);
-        for (Ticket t : ticketStore.getAllTickets()) {
-            if (t.getId() == receivedTicketId) {
-                sendTicketResponse(receivePacket, t);
-                logger.info("getTicketById --> Response: {}", t);
-            }
+        Ticket t = ticketStore.getTicketById(receivedTicketId);
+        if (t == null) {
+            sendResponse(client, receivedPacket, new TicketException("Ticket ID " + receivedTicketId + " is unknown"));
+            return;
         }
+        sendTicketResponse(client, receivedPacket, t);
+        logger.info("getTicketById --> Response: {}", t);
     }
 
     // Retrieves all tickets and sends the response
-    private void getAllTickets(DatagramPacket receivePacket) throws IOException {
+    private void getAllTickets(Client client, Packet receivedPacket) throws IOException {
         List<Ticket> allTickets = ticketStore.getAllTickets();
         logger.info("getAllTickets --> Fetching all tickets from ticketStore");
-        sendTicketListResponse(receivePacket, allTickets);
+        sendTicketListResponse(client, receivedPacket, allTickets);
         logger.info("getAllTickets --> Ticket Size: {}", allTickets.size());
     }
 
+    // Sends the ticket counts per status, type and priority
+    private void getStatistics(Client client, Packet receivedPacket) throws IOException {
+        TicketStatistics statistics = ticketStore.getStatistics();
+        sendResponse(client, receivedPacket, statistics);
+        logger.info("getStatistics --> {}", statistics);
+    }
+
+    // Sends one page of tickets
+    private void getTicketPage(Client client, Packet receivedPacket) throws IOException {
+        int[] cursor = (int[]) receivedPacket.getData();
+        int afterId = cursor[0];
+        int pageSize = cursor[1];
+        logger.info("getTicketPage --> after {} size {}", afterId, pageSize);
+        try {
+            TicketPage page = ticketStore.getTickets(afterId, pageSize);
+            sendResponse(client, receivedPacket, page);
+            logger.info("getTicketPage --> {}", page);
+        } catch (IllegalArgumentException e) {
+            sendResponse(client, receivedPacket, new TicketException(e.getMessage()));
+        }
+    }
+
     // Creates a new ticket and sends the response
-    private void createNewTicket(DatagramPacket receivePacket, Packet receivedPacket) throws IOException {
+    private void createNewTicket(Client client, Packet receivedPacket) throws IOException {
         Ticket receivedTicket = (Ticket) receivedPacket.getData();
         logger.info("createNewTicket --> {}", receivedTicket);
         Ticket savedTicket = ticketStore.storeNewTicket(receivedTicket.getReporter(), receivedTicket.getTopic(), receivedTicket.getDescription(), receivedTicket.getType(), receivedTicket.getPriority());
-        byte[] ack = serializeObject("Ticket ID: " + savedTicket.getId());
-        sendPacket(receivePacket.getAddress(), receivePacket.getPort(), ack);
+        sendResponse(client, receivedPacket, "Ticket ID: " + savedTicket.getId());
         logger.info("createNewTicket --> response sent successfully");
     }
 
-    // Sends a ticket as a response to the client
-    private void sendTicketResponse(DatagramPacket receivePacket, Ticket ticket) throws IOException {
-        byte[] response = serializeObject(ticket);
-        sendPacket(receivePacket.getAddress(), receivePacket.getPort(), response);
+    // Creates a batch of tickets and sends their ids in batch order
+    @SuppressWarnings("unchecked")
+    private void createNewTickets(Client client, Packet receivedPacket) throws IOException {
+        List<Ticket> receivedTickets = (List<Ticket>) receivedPacket.getData();
+        logger.info("createNewTickets --> {} tickets", receivedTickets.size());
+        List<Ticket> savedTickets = ticketStore.storeNewTickets(receivedTickets);
+        int[] ids = new int[savedTickets.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = savedTickets.get(i).getId();
+        }
+        sendResponse(client, receivedPacket, ids);
+        logger.info("createNewTickets --> response sent successfully");
     }
 
-    // Sends a list of tickets as a response to the client
-    private void sendTicketListResponse(DatagramPacket receivePacket, List<Ticket> ticketList) throws IOException {
-        byte[] response = serializeObject(ticketList);
-        sendPacket(receivePacket.getAddress(), receivePacket.getPort(), response);
+    // Sends a ticket as a response to the client
+    private void sendTicketResponse(Client client, Packet receivedPacket, Ticket ticket) throws IOException {
+        sendResponse(client, receivedPacket, ticket);
     }
 
-    // Sends a packet to the client
-    private void sendPacket(InetAddress address, int port, byte[] data) throws IOException {
-        DatagramPacket sendPacket = new DatagramPacket(data, data.length, address, port);
-        serverSocket.send(sendPacket);
+    // Sends a list of tickets as a response to the client
+    private void sendTicketListResponse(Client client, Packet receivedPacket, List<Ticket> ticketList) throws IOException {
+        sendResponse(client, receivedPacket, ticketList);
     }
 
-    private byte[] serializeObject(Object object) throws IOException {
-        try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-             ObjectOutputStream objectStream = new ObjectOutputStream(byteStream)) {
-            objectStream.writeObject(object);
-            return byteStream.toByteArray();
+    // Sends the data to the client in a packet of the same type and request id as the request, cut into as many fragments as needed and paced in bursts
+    private void sendResponse(Client client, Packet receivedPacket, Object data) throws IOException {
+        ByteBuffer response = PacketCodec.encode(new Packet(receivedPacket.getType(), receivedPacket.getRequestId(), data));
+        int fragments = fragmenter.fragmentCount(response.limit());
+        int id = messageId.getAndIncrement();
+        int burst = Math.max(1, PACED_BURST_BYTES / fragmenter.getMtu());
+        ByteBuffer fragment = bufferPool.acquire();
+        try {
+            for (int i = 0; i < fragments; i++) {
+                if (i > 0 && i % burst == 0) {
+                    LockSupport.parkNanos(BURST_PAUSE_NANOS);
+                }
+                fragmenter.fragment(id, response, i, fragment);
+                client.channel.send(fragment, client.address);
+            }
+        } finally {
+            bufferPool.release(fragment);
+        }
+        if (fragments > 1) {
+            logger.info("{} --> Sent {} bytes in {} fragments", receivedPacket.getType(), response.limit(), fragments);
         }
     }
 
-    private Packet deserializePacket(byte[] data) throws IOException {
-        try (ByteArrayInputStream byteStream = new ByteArrayInputStream(data);
-             ObjectInputStream objectStream = new ObjectInputStream(byteStream)) {
-            return (Packet) objectStream.readObject();
-        } catch (ClassNotFoundException e) {
-            throw new IOException("Failed to deserialize packet", e);
+    // Where to send the reply to, the channel the request arrived on
+    private static final class Client {
+
+        private final DatagramChannel channel;
+        private final SocketAddress address;
+
+        private Client(DatagramChannel channel, SocketAddress address) {
+            this.channel = channel;
+            this.address = address;
         }
     }
 }
@@ -0,0 +1,79 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class ColdSegmentTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void cutsOffATornBlock() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("archive.seg");
+        try (ColdSegment segment = new ColdSegment(file)) {
+            segment.append(tickets(1, 10));
+        }
+        long intact = Files.size(file);
+        // the header of a block whose bytes never made it to disk
+        Files.write(file, new byte[]{0, 0, 1, 0, 0, 0, 2, 0, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        try (ColdSegment segment = new ColdSegment(file)) {
+            assertEquals(10, segment.size());
+            assertEquals(intact, Files.size(file));
+            segment.append(tickets(11, 1));
+            assertNotNull(segment.get(11));
+        }
+    }
+
+    @Test
+    public void refusesToOpenADamagedBlockFollowedByOthers() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("archive.seg");
+        try (ColdSegment segment = new ColdSegment(file)) {
+            segment.append(tickets(1, 10));
+            segment.append(tickets(11, 10));
+        }
+        long length = Files.size(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            // flip a bit in the compressed bytes of the first block
+            raf.seek(20);
+            int value = raf.read();
+            raf.seek(20);
+            raf.write(value ^ 0x10);
+        }
+
+        try {
+            new ColdSegment(file).close();
+            fail("Opened a damaged archive");
+        } catch (IOException expected) {
+            // the tickets of the second block are still on disk
+        }
+        assertEquals(length, Files.size(file));
+    }
+
+    private static List<Ticket> tickets(int firstId, int count) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int id = firstId; id < firstId + count; id++) {
+            tickets.add(new Ticket(id, "reporter " + id, "topic " + id, "description " + id, Type.TASK, Priority.MINOR,
+                    Status.CLOSED));
+        }
+        return tickets;
+    }
+}
@@ -0,0 +1,92 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DurableTicketStoreSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replaysTheLogWrittenAfterASnapshot() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<Ticket> expected;
+        try (DurableTicketStore store = open(directory)) {
+            for (int i = 0; i < 10; i++) {
+                store.storeNewTicket("r" + i, "topic " + i, "description " + i, Type.TASK, Priority.MAJOR);
+            }
+            store.updateTicketStatus(2, Status.ACCEPTED);
+            store.takeSnapshot();
+            // changes after the snapshot, including tickets it already holds
+            store.updateTicketStatus(2, Status.CLOSED);
+            store.updateTicketStatus(3, Status.REJECTED);
+            store.storeNewTicket("r10", "topic 10", "description 10", Type.BUG, Priority.CRITICAL);
+            expected = sorted(store.getAllTickets());
+        }
+
+        try (DurableTicketStore store = open(directory)) {
+            assertTicketsEqual(expected, sorted(store.getAllTickets()));
+            assertEquals(Status.CLOSED, store.getTicketById(2).getStatus());
+            assertEquals(Status.REJECTED, store.getTicketById(3).getStatus());
+            assertEquals(12, store.storeNewTicket("r11", "topic 11", "description 11", Type.TASK, Priority.MINOR).getId());
+        }
+    }
+
+    @Test
+    public void replaysRemovalsWithoutReusingTheirIds() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (DurableTicketStore store = open(directory)) {
+            store.storeNewTicket("alice", "printer", "paper jam", Type.BUG, Priority.MAJOR);
+            store.storeNewTicket("bob", "network", "no wifi", Type.TASK, Priority.CRITICAL);
+            store.takeSnapshot();
+            store.removeTicket(1);
+            store.removeTicket(2);
+        }
+
+        try (DurableTicketStore store = open(directory)) {
+            assertNull(store.getTicketById(1));
+            assertNull(store.getTicketById(2));
+            assertTrue(store.getAllTickets().isEmpty());
+            assertEquals(3, store.storeNewTicket("carol", "mail", "quota", Type.QUESTION, Priority.MINOR).getId());
+        }
+    }
+
+    private static DurableTicketStore open(Path directory) throws IOException {
+        return new DurableTicketStore(new ConcurrentTicketStore(), directory, SyncPolicy.ALWAYS, 10);
+    }
+
+    private static List<Ticket> sorted(List<Ticket> tickets) {
+        return tickets.stream().sorted(Comparator.comparingInt(Ticket::getId)).collect(Collectors.toList());
+    }
+
+    private static void assertTicketsEqual(List<Ticket> expected, List<Ticket> actual) {
+        List<String> expectedFields = new ArrayList<>();
+        expected.forEach(ticket -> expectedFields.add(fields(ticket)));
+        List<String> actualFields = new ArrayList<>();
+        actual.forEach(ticket -> actualFields.add(fields(ticket)));
+        assertEquals(expectedFields, actualFields);
+    }
+
+    private static String fields(Ticket ticket) {
+        return ticket.getId() + "|" + ticket.getReporter() + "|" + ticket.getTopic() + "|" + ticket.getDescription()
+                + "|" + ticket.getType() + "|" + ticket.getPriority() + "|" + ticket.getStatus();
+    }
+}
@@ -0,0 +1,123 @@
+package de.uniba.rz.backend.store.durable;
+
+import de.uniba.rz.backend.store.ConcurrentTicketStore;
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class DurableTicketStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replaysTheLog() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<Ticket> expected;
+        try (DurableTicketStore store = open(directory)) {
+            store.storeNewTicket("alice", "printer", "paper jam", Type.BUG, Priority.MAJOR);
+            store.storeNewTickets(List.of(
+                    new Ticket(0, "bob", "network", "no wifi", Type.TASK, Priority.CRITICAL),
+                    new Ticket(0, "carol", "mail", "quota", Type.QUESTION, Priority.MINOR)));
+            store.updateTicketStatus(1, Status.ACCEPTED);
+            store.updateTicketStatus(1, Status.CLOSED);
+            store.updateTicketStatuses(new int[]{2, 3}, Status.REJECTED);
+            expected = sorted(store.getAllTickets());
+        }
+
+        try (DurableTicketStore store = open(directory)) {
+            assertTicketsEqual(expected, sorted(store.getAllTickets()));
+            assertEquals(Status.CLOSED, store.getTicketById(1).getStatus());
+            assertEquals(4, store.storeNewTicket("dave", "printer", "toner", Type.BUG, Priority.MINOR).getId());
+        }
+    }
+
+    @Test
+    public void cutsOffATornRecord() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<Ticket> expected;
+        try (DurableTicketStore store = open(directory)) {
+            store.storeNewTicket("alice", "printer", "paper jam", Type.BUG, Priority.MAJOR);
+            store.updateTicketStatus(1, Status.ACCEPTED);
+            expected = sorted(store.getAllTickets());
+        }
+        // a record whose write was interrupted by a crash
+        Files.write(lastSegment(directory), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableTicketStore store = open(directory)) {
+            assertTicketsEqual(expected, sorted(store.getAllTickets()));
+            assertEquals(2, store.storeNewTicket("bob", "network", "no wifi", Type.TASK, Priority.CRITICAL).getId());
+        }
+        try (DurableTicketStore store = open(directory)) {
+            assertEquals(2, store.getAllTickets().size());
+        }
+    }
+
+    @Test
+    public void doesNotLogRejectedChanges() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        try (DurableTicketStore store = open(directory)) {
+            store.storeNewTicket("alice", "printer", "paper jam", Type.BUG, Priority.MAJOR);
+            store.updateTicketStatus(1, Status.ACCEPTED);
+            store.updateTicketStatus(1, Status.CLOSED);
+            try {
+                store.updateTicketStatus(1, Status.ACCEPTED);
+                fail("Reopened a closed ticket");
+            } catch (IllegalStateException expected) {
+                // closed tickets stay closed
+            }
+            assertFalse(store.updateTicketStatuses(new int[]{1}, Status.REJECTED).succeeded(0));
+        }
+
+        try (DurableTicketStore store = open(directory)) {
+            assertEquals(Status.CLOSED, store.getTicketById(1).getStatus());
+        }
+    }
+
+    private static DurableTicketStore open(Path directory) throws IOException {
+        return new DurableTicketStore(new ConcurrentTicketStore(), directory, SyncPolicy.ALWAYS, 10);
+    }
+
+    private static Path lastSegment(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal"))
+                    .max(Comparator.comparing(Path::toString))
+                    .orElseThrow();
+        }
+    }
+
+    private static List<Ticket> sorted(List<Ticket> tickets) {
+        return tickets.stream().sorted(Comparator.comparingInt(Ticket::getId)).collect(Collectors.toList());
+    }
+
+    private static void assertTicketsEqual(List<Ticket> expected, List<Ticket> actual) {
+        List<String> expectedFields = new ArrayList<>();
+        expected.forEach(ticket -> expectedFields.add(fields(ticket)));
+        List<String> actualFields = new ArrayList<>();
+        actual.forEach(ticket -> actualFields.add(fields(ticket)));
+        assertEquals(expectedFields, actualFields);
+    }
+
+    private static String fields(Ticket ticket) {
+        return ticket.getId() + "|" + ticket.getReporter() + "|" + ticket.getTopic() + "|" + ticket.getDescription()
+                + "|" + ticket.getType() + "|" + ticket.getPriority() + "|" + ticket.getStatus();
+    }
+}
@@ -0,0 +1,1091 @@
+package de.uniba.rz.io.rpc;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@jakarta.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.57.2)",
+    comments = "Source: ticketManagement.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class TicketServiceGrpc {
+
+  private TicketServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "TicketService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketRequest,
+      de.uniba.rz.io.rpc.TicketResponse> getCreateTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "createTicket",
+      requestType = de.uniba.rz.io.rpc.TicketRequest.class,
+      responseType = de.uniba.rz.io.rpc.TicketResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketRequest,
+      de.uniba.rz.io.rpc.TicketResponse> getCreateTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketRequest, de.uniba.rz.io.rpc.TicketResponse> getCreateTicketMethod;
+    if ((getCreateTicketMethod = TicketServiceGrpc.getCreateTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getCreateTicketMethod = TicketServiceGrpc.getCreateTicketMethod) == null) {
+          TicketServiceGrpc.getCreateTicketMethod = getCreateTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketRequest, de.uniba.rz.io.rpc.TicketResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "createTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("createTicket"))
+              .build();
+        }
+      }
+    }
+    return getCreateTicketMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketBatchRequest,
+      de.uniba.rz.io.rpc.TicketBatchResponse> getCreateTicketsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "createTickets",
+      requestType = de.uniba.rz.io.rpc.TicketBatchRequest.class,
+      responseType = de.uniba.rz.io.rpc.TicketBatchResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketBatchRequest,
+      de.uniba.rz.io.rpc.TicketBatchResponse> getCreateTicketsMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketBatchRequest, de.uniba.rz.io.rpc.TicketBatchResponse> getCreateTicketsMethod;
+    if ((getCreateTicketsMethod = TicketServiceGrpc.getCreateTicketsMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getCreateTicketsMethod = TicketServiceGrpc.getCreateTicketsMethod) == null) {
+          TicketServiceGrpc.getCreateTicketsMethod = getCreateTicketsMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketBatchRequest, de.uniba.rz.io.rpc.TicketBatchResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "createTickets"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketBatchResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("createTickets"))
+              .build();
+        }
+      }
+    }
+    return getCreateTicketsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty,
+      de.uniba.rz.io.rpc.TicketList> getGetAllTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getAllTicket",
+      requestType = de.uniba.rz.io.rpc.Empty.class,
+      responseType = de.uniba.rz.io.rpc.TicketList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty,
+      de.uniba.rz.io.rpc.TicketList> getGetAllTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty, de.uniba.rz.io.rpc.TicketList> getGetAllTicketMethod;
+    if ((getGetAllTicketMethod = TicketServiceGrpc.getGetAllTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getGetAllTicketMethod = TicketServiceGrpc.getGetAllTicketMethod) == null) {
+          TicketServiceGrpc.getGetAllTicketMethod = getGetAllTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.Empty, de.uniba.rz.io.rpc.TicketList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getAllTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketList.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("getAllTicket"))
+              .build();
+        }
+      }
+    }
+    return getGetAllTicketMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketPageRequest,
+      de.uniba.rz.io.rpc.TicketPageResponse> getGetTicketPageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTicketPage",
+      requestType = de.uniba.rz.io.rpc.TicketPageRequest.class,
+      responseType = de.uniba.rz.io.rpc.TicketPageResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketPageRequest,
+      de.uniba.rz.io.rpc.TicketPageResponse> getGetTicketPageMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketPageRequest, de.uniba.rz.io.rpc.TicketPageResponse> getGetTicketPageMethod;
+    if ((getGetTicketPageMethod = TicketServiceGrpc.getGetTicketPageMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getGetTicketPageMethod = TicketServiceGrpc.getGetTicketPageMethod) == null) {
+          TicketServiceGrpc.getGetTicketPageMethod = getGetTicketPageMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketPageRequest, de.uniba.rz.io.rpc.TicketPageResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTicketPage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketPageRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketPageResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("getTicketPage"))
+              .build();
+        }
+      }
+    }
+    return getGetTicketPageMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TriageRequest,
+      de.uniba.rz.io.rpc.TriageResponse> getGetTicketsToTriageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTicketsToTriage",
+      requestType = de.uniba.rz.io.rpc.TriageRequest.class,
+      responseType = de.uniba.rz.io.rpc.TriageResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TriageRequest,
+      de.uniba.rz.io.rpc.TriageResponse> getGetTicketsToTriageMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TriageRequest, de.uniba.rz.io.rpc.TriageResponse> getGetTicketsToTriageMethod;
+    if ((getGetTicketsToTriageMethod = TicketServiceGrpc.getGetTicketsToTriageMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getGetTicketsToTriageMethod = TicketServiceGrpc.getGetTicketsToTriageMethod) == null) {
+          TicketServiceGrpc.getGetTicketsToTriageMethod = getGetTicketsToTriageMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TriageRequest, de.uniba.rz.io.rpc.TriageResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTicketsToTriage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TriageRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TriageResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("getTicketsToTriage"))
+              .build();
+        }
+      }
+    }
+    return getGetTicketsToTriageMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty,
+      de.uniba.rz.io.rpc.StatisticsResponse> getGetStatisticsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getStatistics",
+      requestType = de.uniba.rz.io.rpc.Empty.class,
+      responseType = de.uniba.rz.io.rpc.StatisticsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty,
+      de.uniba.rz.io.rpc.StatisticsResponse> getGetStatisticsMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.Empty, de.uniba.rz.io.rpc.StatisticsResponse> getGetStatisticsMethod;
+    if ((getGetStatisticsMethod = TicketServiceGrpc.getGetStatisticsMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getGetStatisticsMethod = TicketServiceGrpc.getGetStatisticsMethod) == null) {
+          TicketServiceGrpc.getGetStatisticsMethod = getGetStatisticsMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.Empty, de.uniba.rz.io.rpc.StatisticsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getStatistics"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.StatisticsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("getStatistics"))
+              .build();
+        }
+      }
+    }
+    return getGetStatisticsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getGetTicketByIdMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTicketById",
+      requestType = de.uniba.rz.io.rpc.TicketId.class,
+      responseType = de.uniba.rz.io.rpc.TicketResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getGetTicketByIdMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse> getGetTicketByIdMethod;
+    if ((getGetTicketByIdMethod = TicketServiceGrpc.getGetTicketByIdMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getGetTicketByIdMethod = TicketServiceGrpc.getGetTicketByIdMethod) == null) {
+          TicketServiceGrpc.getGetTicketByIdMethod = getGetTicketByIdMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTicketById"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("getTicketById"))
+              .build();
+        }
+      }
+    }
+    return getGetTicketByIdMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getAcceptTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "acceptTicket",
+      requestType = de.uniba.rz.io.rpc.TicketId.class,
+      responseType = de.uniba.rz.io.rpc.TicketResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getAcceptTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse> getAcceptTicketMethod;
+    if ((getAcceptTicketMethod = TicketServiceGrpc.getAcceptTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getAcceptTicketMethod = TicketServiceGrpc.getAcceptTicketMethod) == null) {
+          TicketServiceGrpc.getAcceptTicketMethod = getAcceptTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "acceptTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("acceptTicket"))
+              .build();
+        }
+      }
+    }
+    return getAcceptTicketMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getRejectTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "rejectTicket",
+      requestType = de.uniba.rz.io.rpc.TicketId.class,
+      responseType = de.uniba.rz.io.rpc.TicketResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getRejectTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse> getRejectTicketMethod;
+    if ((getRejectTicketMethod = TicketServiceGrpc.getRejectTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getRejectTicketMethod = TicketServiceGrpc.getRejectTicketMethod) == null) {
+          TicketServiceGrpc.getRejectTicketMethod = getRejectTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "rejectTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("rejectTicket"))
+              .build();
+        }
+      }
+    }
+    return getRejectTicketMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getCloseTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "closeTicket",
+      requestType = de.uniba.rz.io.rpc.TicketId.class,
+      responseType = de.uniba.rz.io.rpc.TicketResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId,
+      de.uniba.rz.io.rpc.TicketResponse> getCloseTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse> getCloseTicketMethod;
+    if ((getCloseTicketMethod = TicketServiceGrpc.getCloseTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getCloseTicketMethod = TicketServiceGrpc.getCloseTicketMethod) == null) {
+          TicketServiceGrpc.getCloseTicketMethod = getCloseTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.TicketId, de.uniba.rz.io.rpc.TicketResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "closeTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketId.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("closeTicket"))
+              .build();
+        }
+      }
+    }
+    return getCloseTicketMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.StatusBatchRequest,
+      de.uniba.rz.io.rpc.StatusBatchResponse> getUpdateTicketStatusesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "updateTicketStatuses",
+      requestType = de.uniba.rz.io.rpc.StatusBatchRequest.class,
+      responseType = de.uniba.rz.io.rpc.StatusBatchResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.StatusBatchRequest,
+      de.uniba.rz.io.rpc.StatusBatchResponse> getUpdateTicketStatusesMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.StatusBatchRequest, de.uniba.rz.io.rpc.StatusBatchResponse> getUpdateTicketStatusesMethod;
+    if ((getUpdateTicketStatusesMethod = TicketServiceGrpc.getUpdateTicketStatusesMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getUpdateTicketStatusesMethod = TicketServiceGrpc.getUpdateTicketStatusesMethod) == null) {
+          TicketServiceGrpc.getUpdateTicketStatusesMethod = getUpdateTicketStatusesMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.StatusBatchRequest, de.uniba.rz.io.rpc.StatusBatchResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "updateTicketStatuses"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.StatusBatchRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.StatusBatchResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("updateTicketStatuses"))
+              .build();
+        }
+      }
+    }
+    return getUpdateTicketStatusesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.AutoNewTicketRequest,
+      de.uniba.rz.io.rpc.TicketList> getStreamNewTicketMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamNewTicket",
+      requestType = de.uniba.rz.io.rpc.AutoNewTicketRequest.class,
+      responseType = de.uniba.rz.io.rpc.TicketList.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.AutoNewTicketRequest,
+      de.uniba.rz.io.rpc.TicketList> getStreamNewTicketMethod() {
+    io.grpc.MethodDescriptor<de.uniba.rz.io.rpc.AutoNewTicketRequest, de.uniba.rz.io.rpc.TicketList> getStreamNewTicketMethod;
+    if ((getStreamNewTicketMethod = TicketServiceGrpc.getStreamNewTicketMethod) == null) {
+      synchronized (TicketServiceGrpc.class) {
+        if ((getStreamNewTicketMethod = TicketServiceGrpc.getStreamNewTicketMethod) == null) {
+          TicketServiceGrpc.getStreamNewTicketMethod = getStreamNewTicketMethod =
+              io.grpc.MethodDescriptor.<de.uniba.rz.io.rpc.AutoNewTicketRequest, de.uniba.rz.io.rpc.TicketList>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamNewTicket"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.AutoNewTicketRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  de.uniba.rz.io.rpc.TicketList.getDefaultInstance()))
+              .setSchemaDescriptor(new TicketServiceMethodDescriptorSupplier("StreamNewTicket"))
+              .build();
+        }
+      }
+    }
+    return getStreamNewTicketMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static TicketServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TicketServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TicketServiceStub>() {
+        @java.lang.Override
+        public TicketServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TicketServiceStub(channel, callOptions);
+        }
+      };
+    return TicketServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static TicketServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TicketServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TicketServiceBlockingStub>() {
+        @java.lang.Override
+        public TicketServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TicketServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return TicketServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static TicketServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TicketServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TicketServiceFutureStub>() {
+        @java.lang.Override
+        public TicketServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TicketServiceFutureStub(channel, callOptions);
+        }
+      };
+    return TicketServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public interface AsyncService {
+
+    /**
+     */
+    default void createTicket(de.uniba.rz.io.rpc.TicketRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateTicketMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void createTickets(de.uniba.rz.io.rpc.TicketBatchRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketBatchResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateTicketsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getAllTicket(de.uniba.rz.io.rpc.Empty request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetAllTicketMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getTicketPage(de.uniba.rz.io.rpc.TicketPageRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketPageResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTicketPageMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getTicketsToTriage(de.uniba.rz.io.rpc.TriageRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TriageResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTicketsToTriageMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getStatistics(de.uniba.rz.io.rpc.Empty request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatisticsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetStatisticsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getTicketById(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTicketByIdMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void acceptTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAcceptTicketMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void rejectTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRejectTicketMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void closeTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCloseTicketMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void updateTicketStatuses(de.uniba.rz.io.rpc.StatusBatchRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatusBatchResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUpdateTicketStatusesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.AutoNewTicketRequest> streamNewTicket(
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getStreamNewTicketMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service TicketService.
+   */
+  public static abstract class TicketServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return TicketServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service TicketService.
+   */
+  public static final class TicketServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<TicketServiceStub> {
+    private TicketServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TicketServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TicketServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void createTicket(de.uniba.rz.io.rpc.TicketRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateTicketMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void createTickets(de.uniba.rz.io.rpc.TicketBatchRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketBatchResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateTicketsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getAllTicket(de.uniba.rz.io.rpc.Empty request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetAllTicketMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getTicketPage(de.uniba.rz.io.rpc.TicketPageRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketPageResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTicketPageMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getTicketsToTriage(de.uniba.rz.io.rpc.TriageRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TriageResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTicketsToTriageMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getStatistics(de.uniba.rz.io.rpc.Empty request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatisticsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetStatisticsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getTicketById(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTicketByIdMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void acceptTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAcceptTicketMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void rejectTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getRejectTicketMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void closeTicket(de.uniba.rz.io.rpc.TicketId request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCloseTicketMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void updateTicketStatuses(de.uniba.rz.io.rpc.StatusBatchRequest request,
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatusBatchResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getUpdateTicketStatusesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.AutoNewTicketRequest> streamNewTicket(
+        io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getStreamNewTicketMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service TicketService.
+   */
+  public static final class TicketServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<TicketServiceBlockingStub> {
+    private TicketServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TicketServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TicketServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketResponse createTicket(de.uniba.rz.io.rpc.TicketRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateTicketMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketBatchResponse createTickets(de.uniba.rz.io.rpc.TicketBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateTicketsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketList getAllTicket(de.uniba.rz.io.rpc.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetAllTicketMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketPageResponse getTicketPage(de.uniba.rz.io.rpc.TicketPageRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTicketPageMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TriageResponse getTicketsToTriage(de.uniba.rz.io.rpc.TriageRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTicketsToTriageMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.StatisticsResponse getStatistics(de.uniba.rz.io.rpc.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetStatisticsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketResponse getTicketById(de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTicketByIdMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketResponse acceptTicket(de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAcceptTicketMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketResponse rejectTicket(de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getRejectTicketMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.TicketResponse closeTicket(de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCloseTicketMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public de.uniba.rz.io.rpc.StatusBatchResponse updateTicketStatuses(de.uniba.rz.io.rpc.StatusBatchRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateTicketStatusesMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service TicketService.
+   */
+  public static final class TicketServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<TicketServiceFutureStub> {
+    private TicketServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TicketServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TicketServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketResponse> createTicket(
+        de.uniba.rz.io.rpc.TicketRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateTicketMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketBatchResponse> createTickets(
+        de.uniba.rz.io.rpc.TicketBatchRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateTicketsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketList> getAllTicket(
+        de.uniba.rz.io.rpc.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetAllTicketMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketPageResponse> getTicketPage(
+        de.uniba.rz.io.rpc.TicketPageRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTicketPageMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TriageResponse> getTicketsToTriage(
+        de.uniba.rz.io.rpc.TriageRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTicketsToTriageMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.StatisticsResponse> getStatistics(
+        de.uniba.rz.io.rpc.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetStatisticsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketResponse> getTicketById(
+        de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTicketByIdMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketResponse> acceptTicket(
+        de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAcceptTicketMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketResponse> rejectTicket(
+        de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getRejectTicketMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.TicketResponse> closeTicket(
+        de.uniba.rz.io.rpc.TicketId request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCloseTicketMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<de.uniba.rz.io.rpc.StatusBatchResponse> updateTicketStatuses(
+        de.uniba.rz.io.rpc.StatusBatchRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getUpdateTicketStatusesMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_CREATE_TICKET = 0;
+  private static final int METHODID_CREATE_TICKETS = 1;
+  private static final int METHODID_GET_ALL_TICKET = 2;
+  private static final int METHODID_GET_TICKET_PAGE = 3;
+  private static final int METHODID_GET_TICKETS_TO_TRIAGE = 4;
+  private static final int METHODID_GET_STATISTICS = 5;
+  private static final int METHODID_GET_TICKET_BY_ID = 6;
+  private static final int METHODID_ACCEPT_TICKET = 7;
+  private static final int METHODID_REJECT_TICKET = 8;
+  private static final int METHODID_CLOSE_TICKET = 9;
+  private static final int METHODID_UPDATE_TICKET_STATUSES = 10;
+  private static final int METHODID_STREAM_NEW_TICKET = 11;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_CREATE_TICKET:
+          serviceImpl.createTicket((de.uniba.rz.io.rpc.TicketRequest) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse>) responseObserver);
+          break;
+        case METHODID_CREATE_TICKETS:
+          serviceImpl.createTickets((de.uniba.rz.io.rpc.TicketBatchRequest) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketBatchResponse>) responseObserver);
+          break;
+        case METHODID_GET_ALL_TICKET:
+          serviceImpl.getAllTicket((de.uniba.rz.io.rpc.Empty) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList>) responseObserver);
+          break;
+        case METHODID_GET_TICKET_PAGE:
+          serviceImpl.getTicketPage((de.uniba.rz.io.rpc.TicketPageRequest) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketPageResponse>) responseObserver);
+          break;
+        case METHODID_GET_TICKETS_TO_TRIAGE:
+          serviceImpl.getTicketsToTriage((de.uniba.rz.io.rpc.TriageRequest) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TriageResponse>) responseObserver);
+          break;
+        case METHODID_GET_STATISTICS:
+          serviceImpl.getStatistics((de.uniba.rz.io.rpc.Empty) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatisticsResponse>) responseObserver);
+          break;
+        case METHODID_GET_TICKET_BY_ID:
+          serviceImpl.getTicketById((de.uniba.rz.io.rpc.TicketId) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse>) responseObserver);
+          break;
+        case METHODID_ACCEPT_TICKET:
+          serviceImpl.acceptTicket((de.uniba.rz.io.rpc.TicketId) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse>) responseObserver);
+          break;
+        case METHODID_REJECT_TICKET:
+          serviceImpl.rejectTicket((de.uniba.rz.io.rpc.TicketId) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse>) responseObserver);
+          break;
+        case METHODID_CLOSE_TICKET:
+          serviceImpl.closeTicket((de.uniba.rz.io.rpc.TicketId) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketResponse>) responseObserver);
+          break;
+        case METHODID_UPDATE_TICKET_STATUSES:
+          serviceImpl.updateTicketStatuses((de.uniba.rz.io.rpc.StatusBatchRequest) request,
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.StatusBatchResponse>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_STREAM_NEW_TICKET:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.streamNewTicket(
+              (io.grpc.stub.StreamObserver<de.uniba.rz.io.rpc.TicketList>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getCreateTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketRequest,
+              de.uniba.rz.io.rpc.TicketResponse>(
+                service, METHODID_CREATE_TICKET)))
+        .addMethod(
+          getCreateTicketsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketBatchRequest,
+              de.uniba.rz.io.rpc.TicketBatchResponse>(
+                service, METHODID_CREATE_TICKETS)))
+        .addMethod(
+          getGetAllTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.Empty,
+              de.uniba.rz.io.rpc.TicketList>(
+                service, METHODID_GET_ALL_TICKET)))
+        .addMethod(
+          getGetTicketPageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketPageRequest,
+              de.uniba.rz.io.rpc.TicketPageResponse>(
+                service, METHODID_GET_TICKET_PAGE)))
+        .addMethod(
+          getGetTicketsToTriageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TriageRequest,
+              de.uniba.rz.io.rpc.TriageResponse>(
+                service, METHODID_GET_TICKETS_TO_TRIAGE)))
+        .addMethod(
+          getGetStatisticsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.Empty,
+              de.uniba.rz.io.rpc.StatisticsResponse>(
+                service, METHODID_GET_STATISTICS)))
+        .addMethod(
+          getGetTicketByIdMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketId,
+              de.uniba.rz.io.rpc.TicketResponse>(
+                service, METHODID_GET_TICKET_BY_ID)))
+        .addMethod(
+          getAcceptTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketId,
+              de.uniba.rz.io.rpc.TicketResponse>(
+                service, METHODID_ACCEPT_TICKET)))
+        .addMethod(
+          getRejectTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketId,
+              de.uniba.rz.io.rpc.TicketResponse>(
+                service, METHODID_REJECT_TICKET)))
+        .addMethod(
+          getCloseTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.TicketId,
+              de.uniba.rz.io.rpc.TicketResponse>(
+                service, METHODID_CLOSE_TICKET)))
+        .addMethod(
+          getUpdateTicketStatusesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.StatusBatchRequest,
+              de.uniba.rz.io.rpc.StatusBatchResponse>(
+                service, METHODID_UPDATE_TICKET_STATUSES)))
+        .addMethod(
+          getStreamNewTicketMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              de.uniba.rz.io.rpc.AutoNewTicketRequest,
+              de.uniba.rz.io.rpc.TicketList>(
+                service, METHODID_STREAM_NEW_TICKET)))
+        .build();
+  }
+
+  private static abstract class TicketServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    TicketServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return de.uniba.rz.io.rpc.TicketManagement.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("TicketService");
+    }
+  }
+
+  private static final class TicketServiceFileDescriptorSupplier
+      extends TicketServiceBaseDescriptorSupplier {
+    TicketServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class TicketServiceMethodDescriptorSupplier
+      extends TicketServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    TicketServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (TicketServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new TicketServiceFileDescriptorSupplier())
+              .addMethod(getCreateTicketMethod())
+              .addMethod(getCreateTicketsMethod())
+              .addMethod(getGetAllTicketMethod())
+              .addMethod(getGetTicketPageMethod())
+              .addMethod(getGetTicketsToTriageMethod())
+              .addMethod(getGetStatisticsMethod())
+              .addMethod(getGetTicketByIdMethod())
+              .addMethod(getAcceptTicketMethod())
+              .addMethod(getRejectTicketMethod())
+              .addMethod(getCloseTicketMethod())
+              .addMethod(getUpdateTicketStatusesMethod())
+              .addMethod(getStreamNewTicketMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,588 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+/**
+ * <pre>
+ * counts per status, type and priority, laid out as in TicketStatistics
+ * </pre>
+ *
+ * Protobuf type {@code StatisticsResponse}
+ */
+public final class StatisticsResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StatisticsResponse)
+    StatisticsResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StatisticsResponse.newBuilder() to construct.
+  private StatisticsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StatisticsResponse() {
+    counts_ = emptyLongList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StatisticsResponse();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatisticsResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatisticsResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            de.uniba.rz.io.rpc.StatisticsResponse.class, de.uniba.rz.io.rpc.StatisticsResponse.Builder.class);
+  }
+
+  public static final int COUNTS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.LongList counts_ =
+      emptyLongList();
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @return A list containing the counts.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Long>
+      getCountsList() {
+    return counts_;
+  }
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @return The count of counts.
+   */
+  public int getCountsCount() {
+    return counts_.size();
+  }
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @param index The index of the element to return.
+   * @return The counts at the given index.
+   */
+  public long getCounts(int index) {
+    return counts_.getLong(index);
+  }
+  private int countsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getCountsList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(countsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < counts_.size(); i++) {
+      output.writeInt64NoTag(counts_.getLong(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < counts_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(counts_.getLong(i));
+      }
+      size += dataSize;
+      if (!getCountsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      countsMemoizedSerializedSize = dataSize;
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof de.uniba.rz.io.rpc.StatisticsResponse)) {
+      return super.equals(obj);
+    }
+    de.uniba.rz.io.rpc.StatisticsResponse other = (de.uniba.rz.io.rpc.StatisticsResponse) obj;
+
+    if (!getCountsList()
+        .equals(other.getCountsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getCountsCount() > 0) {
+      hash = (37 * hash) + COUNTS_FIELD_NUMBER;
+      hash = (53 * hash) + getCountsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.StatisticsResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(de.uniba.rz.io.rpc.StatisticsResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * counts per status, type and priority, laid out as in TicketStatistics
+   * </pre>
+   *
+   * Protobuf type {@code StatisticsResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StatisticsResponse)
+      de.uniba.rz.io.rpc.StatisticsResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatisticsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatisticsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.uniba.rz.io.rpc.StatisticsResponse.class, de.uniba.rz.io.rpc.StatisticsResponse.Builder.class);
+    }
+
+    // Construct using de.uniba.rz.io.rpc.StatisticsResponse.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      counts_ = emptyLongList();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatisticsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatisticsResponse getDefaultInstanceForType() {
+      return de.uniba.rz.io.rpc.StatisticsResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatisticsResponse build() {
+      de.uniba.rz.io.rpc.StatisticsResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatisticsResponse buildPartial() {
+      de.uniba.rz.io.rpc.StatisticsResponse result = new de.uniba.rz.io.rpc.StatisticsResponse(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(de.uniba.rz.io.rpc.StatisticsResponse result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        counts_.makeImmutable();
+        result.counts_ = counts_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof de.uniba.rz.io.rpc.StatisticsResponse) {
+        return mergeFrom((de.uniba.rz.io.rpc.StatisticsResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(de.uniba.rz.io.rpc.StatisticsResponse other) {
+      if (other == de.uniba.rz.io.rpc.StatisticsResponse.getDefaultInstance()) return this;
+      if (!other.counts_.isEmpty()) {
+        if (counts_.isEmpty()) {
+          counts_ = other.counts_;
+          counts_.makeImmutable();
+          bitField0_ |= 0x00000001;
+        } else {
+          ensureCountsIsMutable();
+          counts_.addAll(other.counts_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              long v = input.readInt64();
+              ensureCountsIsMutable();
+              counts_.addLong(v);
+              break;
+            } // case 8
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              ensureCountsIsMutable();
+              while (input.getBytesUntilLimit() > 0) {
+                counts_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.LongList counts_ = emptyLongList();
+    private void ensureCountsIsMutable() {
+      if (!counts_.isModifiable()) {
+        counts_ = makeMutableCopy(counts_);
+      }
+      bitField0_ |= 0x00000001;
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @return A list containing the counts.
+     */
+    public java.util.List<java.lang.Long>
+        getCountsList() {
+      counts_.makeImmutable();
+      return counts_;
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @return The count of counts.
+     */
+    public int getCountsCount() {
+      return counts_.size();
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @param index The index of the element to return.
+     * @return The counts at the given index.
+     */
+    public long getCounts(int index) {
+      return counts_.getLong(index);
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The counts to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCounts(
+        int index, long value) {
+
+      ensureCountsIsMutable();
+      counts_.setLong(index, value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @param value The counts to add.
+     * @return This builder for chaining.
+     */
+    public Builder addCounts(long value) {
+
+      ensureCountsIsMutable();
+      counts_.addLong(value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @param values The counts to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllCounts(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureCountsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, counts_);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 counts = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCounts() {
+      counts_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StatisticsResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:StatisticsResponse)
+  private static final de.uniba.rz.io.rpc.StatisticsResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new de.uniba.rz.io.rpc.StatisticsResponse();
+  }
+
+  public static de.uniba.rz.io.rpc.StatisticsResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StatisticsResponse>
+      PARSER = new com.google.protobuf.AbstractParser<StatisticsResponse>() {
+    @java.lang.Override
+    public StatisticsResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<StatisticsResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StatisticsResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public de.uniba.rz.io.rpc.StatisticsResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface StatisticsResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StatisticsResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @return A list containing the counts.
+   */
+  java.util.List<java.lang.Long> getCountsList();
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @return The count of counts.
+   */
+  int getCountsCount();
+  /**
+   * <code>repeated int64 counts = 1;</code>
+   * @param index The index of the element to return.
+   * @return The counts at the given index.
+   */
+  long getCounts(int index);
+}
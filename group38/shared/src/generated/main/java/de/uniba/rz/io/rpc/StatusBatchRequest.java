@@ -0,0 +1,716 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+/**
+ * Protobuf type {@code StatusBatchRequest}
+ */
+public final class StatusBatchRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:StatusBatchRequest)
+    StatusBatchRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use StatusBatchRequest.newBuilder() to construct.
+  private StatusBatchRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private StatusBatchRequest() {
+    ticketIds_ = emptyIntList();
+    status_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new StatusBatchRequest();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatusBatchRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatusBatchRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            de.uniba.rz.io.rpc.StatusBatchRequest.class, de.uniba.rz.io.rpc.StatusBatchRequest.Builder.class);
+  }
+
+  public static final int TICKETIDS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.IntList ticketIds_ =
+      emptyIntList();
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return A list containing the ticketIds.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getTicketIdsList() {
+    return ticketIds_;
+  }
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return The count of ticketIds.
+   */
+  public int getTicketIdsCount() {
+    return ticketIds_.size();
+  }
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @param index The index of the element to return.
+   * @return The ticketIds at the given index.
+   */
+  public int getTicketIds(int index) {
+    return ticketIds_.getInt(index);
+  }
+  private int ticketIdsMemoizedSerializedSize = -1;
+
+  public static final int STATUS_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object status_ = "";
+  /**
+   * <code>string status = 2;</code>
+   * @return The status.
+   */
+  @java.lang.Override
+  public java.lang.String getStatus() {
+    java.lang.Object ref = status_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      status_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string status = 2;</code>
+   * @return The bytes for status.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getStatusBytes() {
+    java.lang.Object ref = status_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      status_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getTicketIdsList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(ticketIdsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < ticketIds_.size(); i++) {
+      output.writeInt32NoTag(ticketIds_.getInt(i));
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, status_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < ticketIds_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt32SizeNoTag(ticketIds_.getInt(i));
+      }
+      size += dataSize;
+      if (!getTicketIdsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      ticketIdsMemoizedSerializedSize = dataSize;
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, status_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof de.uniba.rz.io.rpc.StatusBatchRequest)) {
+      return super.equals(obj);
+    }
+    de.uniba.rz.io.rpc.StatusBatchRequest other = (de.uniba.rz.io.rpc.StatusBatchRequest) obj;
+
+    if (!getTicketIdsList()
+        .equals(other.getTicketIdsList())) return false;
+    if (!getStatus()
+        .equals(other.getStatus())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getTicketIdsCount() > 0) {
+      hash = (37 * hash) + TICKETIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getTicketIdsList().hashCode();
+    }
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + getStatus().hashCode();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.StatusBatchRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(de.uniba.rz.io.rpc.StatusBatchRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code StatusBatchRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:StatusBatchRequest)
+      de.uniba.rz.io.rpc.StatusBatchRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatusBatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatusBatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.uniba.rz.io.rpc.StatusBatchRequest.class, de.uniba.rz.io.rpc.StatusBatchRequest.Builder.class);
+    }
+
+    // Construct using de.uniba.rz.io.rpc.StatusBatchRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      ticketIds_ = emptyIntList();
+      status_ = "";
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_StatusBatchRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatusBatchRequest getDefaultInstanceForType() {
+      return de.uniba.rz.io.rpc.StatusBatchRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatusBatchRequest build() {
+      de.uniba.rz.io.rpc.StatusBatchRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.StatusBatchRequest buildPartial() {
+      de.uniba.rz.io.rpc.StatusBatchRequest result = new de.uniba.rz.io.rpc.StatusBatchRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(de.uniba.rz.io.rpc.StatusBatchRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        ticketIds_.makeImmutable();
+        result.ticketIds_ = ticketIds_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.status_ = status_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof de.uniba.rz.io.rpc.StatusBatchRequest) {
+        return mergeFrom((de.uniba.rz.io.rpc.StatusBatchRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(de.uniba.rz.io.rpc.StatusBatchRequest other) {
+      if (other == de.uniba.rz.io.rpc.StatusBatchRequest.getDefaultInstance()) return this;
+      if (!other.ticketIds_.isEmpty()) {
+        if (ticketIds_.isEmpty()) {
+          ticketIds_ = other.ticketIds_;
+          ticketIds_.makeImmutable();
+          bitField0_ |= 0x00000001;
+        } else {
+          ensureTicketIdsIsMutable();
+          ticketIds_.addAll(other.ticketIds_);
+        }
+        onChanged();
+      }
+      if (!other.getStatus().isEmpty()) {
+        status_ = other.status_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int v = input.readInt32();
+              ensureTicketIdsIsMutable();
+              ticketIds_.addInt(v);
+              break;
+            } // case 8
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              ensureTicketIdsIsMutable();
+              while (input.getBytesUntilLimit() > 0) {
+                ticketIds_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            } // case 10
+            case 18: {
+              status_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.IntList ticketIds_ = emptyIntList();
+    private void ensureTicketIdsIsMutable() {
+      if (!ticketIds_.isModifiable()) {
+        ticketIds_ = makeMutableCopy(ticketIds_);
+      }
+      bitField0_ |= 0x00000001;
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @return A list containing the ticketIds.
+     */
+    public java.util.List<java.lang.Integer>
+        getTicketIdsList() {
+      ticketIds_.makeImmutable();
+      return ticketIds_;
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @return The count of ticketIds.
+     */
+    public int getTicketIdsCount() {
+      return ticketIds_.size();
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ticketIds at the given index.
+     */
+    public int getTicketIds(int index) {
+      return ticketIds_.getInt(index);
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The ticketIds to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTicketIds(
+        int index, int value) {
+
+      ensureTicketIdsIsMutable();
+      ticketIds_.setInt(index, value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @param value The ticketIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTicketIds(int value) {
+
+      ensureTicketIdsIsMutable();
+      ticketIds_.addInt(value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @param values The ticketIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTicketIds(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureTicketIdsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, ticketIds_);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int32 ticketIds = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTicketIds() {
+      ticketIds_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object status_ = "";
+    /**
+     * <code>string status = 2;</code>
+     * @return The status.
+     */
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string status = 2;</code>
+     * @return The bytes for status.
+     */
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string status = 2;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      status_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string status = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      status_ = getDefaultInstance().getStatus();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string status = 2;</code>
+     * @param value The bytes for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      status_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:StatusBatchRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:StatusBatchRequest)
+  private static final de.uniba.rz.io.rpc.StatusBatchRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new de.uniba.rz.io.rpc.StatusBatchRequest();
+  }
+
+  public static de.uniba.rz.io.rpc.StatusBatchRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StatusBatchRequest>
+      PARSER = new com.google.protobuf.AbstractParser<StatusBatchRequest>() {
+    @java.lang.Override
+    public StatusBatchRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<StatusBatchRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StatusBatchRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public de.uniba.rz.io.rpc.StatusBatchRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,38 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface StatusBatchRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StatusBatchRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return A list containing the ticketIds.
+   */
+  java.util.List<java.lang.Integer> getTicketIdsList();
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return The count of ticketIds.
+   */
+  int getTicketIdsCount();
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @param index The index of the element to return.
+   * @return The ticketIds at the given index.
+   */
+  int getTicketIds(int index);
+
+  /**
+   * <code>string status = 2;</code>
+   * @return The status.
+   */
+  java.lang.String getStatus();
+  /**
+   * <code>string status = 2;</code>
+   * @return The bytes for status.
+   */
+  com.google.protobuf.ByteString
+      getStatusBytes();
+}
@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface StatusBatchResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StatusBatchResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return A list containing the ticketIds.
+   */
+  java.util.List<java.lang.Integer> getTicketIdsList();
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @return The count of ticketIds.
+   */
+  int getTicketIdsCount();
+  /**
+   * <code>repeated int32 ticketIds = 1;</code>
+   * @param index The index of the element to return.
+   * @return The ticketIds at the given index.
+   */
+  int getTicketIds(int index);
+
+  /**
+   * <code>repeated string errors = 2;</code>
+   * @return A list containing the errors.
+   */
+  java.util.List<java.lang.String>
+      getErrorsList();
+  /**
+   * <code>repeated string errors = 2;</code>
+   * @return The count of errors.
+   */
+  int getErrorsCount();
+  /**
+   * <code>repeated string errors = 2;</code>
+   * @param index The index of the element to return.
+   * @return The errors at the given index.
+   */
+  java.lang.String getErrors(int index);
+  /**
+   * <code>repeated string errors = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the errors at the given index.
+   */
+  com.google.protobuf.ByteString
+      getErrorsBytes(int index);
+
+  /**
+   * <code>repeated .TicketResponse tickets = 3;</code>
+   */
+  java.util.List<de.uniba.rz.io.rpc.TicketResponse> 
+      getTicketsList();
+  /**
+   * <code>repeated .TicketResponse tickets = 3;</code>
+   */
+  de.uniba.rz.io.rpc.TicketResponse getTickets(int index);
+  /**
+   * <code>repeated .TicketResponse tickets = 3;</code>
+   */
+  int getTicketsCount();
+  /**
+   * <code>repeated .TicketResponse tickets = 3;</code>
+   */
+  java.util.List<? extends de.uniba.rz.io.rpc.TicketResponseOrBuilder> 
+      getTicketsOrBuilderList();
+  /**
+   * <code>repeated .TicketResponse tickets = 3;</code>
+   */
+  de.uniba.rz.io.rpc.TicketResponseOrBuilder getTicketsOrBuilder(
+      int index);
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface TicketBatchRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TicketBatchRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .TicketRequest tickets = 1;</code>
+   */
+  java.util.List<de.uniba.rz.io.rpc.TicketRequest> 
+      getTicketsList();
+  /**
+   * <code>repeated .TicketRequest tickets = 1;</code>
+   */
+  de.uniba.rz.io.rpc.TicketRequest getTickets(int index);
+  /**
+   * <code>repeated .TicketRequest tickets = 1;</code>
+   */
+  int getTicketsCount();
+  /**
+   * <code>repeated .TicketRequest tickets = 1;</code>
+   */
+  java.util.List<? extends de.uniba.rz.io.rpc.TicketRequestOrBuilder> 
+      getTicketsOrBuilderList();
+  /**
+   * <code>repeated .TicketRequest tickets = 1;</code>
+   */
+  de.uniba.rz.io.rpc.TicketRequestOrBuilder getTicketsOrBuilder(
+      int index);
+}
@@ -0,0 +1,759 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+/**
+ * Protobuf type {@code TicketBatchResponse}
+ */
+public final class TicketBatchResponse extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:TicketBatchResponse)
+    TicketBatchResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use TicketBatchResponse.newBuilder() to construct.
+  private TicketBatchResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private TicketBatchResponse() {
+    tickets_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new TicketBatchResponse();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_TicketBatchResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return de.uniba.rz.io.rpc.TicketManagement.internal_static_TicketBatchResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            de.uniba.rz.io.rpc.TicketBatchResponse.class, de.uniba.rz.io.rpc.TicketBatchResponse.Builder.class);
+  }
+
+  public static final int TICKETS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<de.uniba.rz.io.rpc.TicketResponse> tickets_;
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<de.uniba.rz.io.rpc.TicketResponse> getTicketsList() {
+    return tickets_;
+  }
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends de.uniba.rz.io.rpc.TicketResponseOrBuilder> 
+      getTicketsOrBuilderList() {
+    return tickets_;
+  }
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  @java.lang.Override
+  public int getTicketsCount() {
+    return tickets_.size();
+  }
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  @java.lang.Override
+  public de.uniba.rz.io.rpc.TicketResponse getTickets(int index) {
+    return tickets_.get(index);
+  }
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  @java.lang.Override
+  public de.uniba.rz.io.rpc.TicketResponseOrBuilder getTicketsOrBuilder(
+      int index) {
+    return tickets_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < tickets_.size(); i++) {
+      output.writeMessage(1, tickets_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < tickets_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, tickets_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof de.uniba.rz.io.rpc.TicketBatchResponse)) {
+      return super.equals(obj);
+    }
+    de.uniba.rz.io.rpc.TicketBatchResponse other = (de.uniba.rz.io.rpc.TicketBatchResponse) obj;
+
+    if (!getTicketsList()
+        .equals(other.getTicketsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getTicketsCount() > 0) {
+      hash = (37 * hash) + TICKETS_FIELD_NUMBER;
+      hash = (53 * hash) + getTicketsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static de.uniba.rz.io.rpc.TicketBatchResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(de.uniba.rz.io.rpc.TicketBatchResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code TicketBatchResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:TicketBatchResponse)
+      de.uniba.rz.io.rpc.TicketBatchResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_TicketBatchResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_TicketBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.uniba.rz.io.rpc.TicketBatchResponse.class, de.uniba.rz.io.rpc.TicketBatchResponse.Builder.class);
+    }
+
+    // Construct using de.uniba.rz.io.rpc.TicketBatchResponse.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (ticketsBuilder_ == null) {
+        tickets_ = java.util.Collections.emptyList();
+      } else {
+        tickets_ = null;
+        ticketsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return de.uniba.rz.io.rpc.TicketManagement.internal_static_TicketBatchResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.TicketBatchResponse getDefaultInstanceForType() {
+      return de.uniba.rz.io.rpc.TicketBatchResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.TicketBatchResponse build() {
+      de.uniba.rz.io.rpc.TicketBatchResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public de.uniba.rz.io.rpc.TicketBatchResponse buildPartial() {
+      de.uniba.rz.io.rpc.TicketBatchResponse result = new de.uniba.rz.io.rpc.TicketBatchResponse(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(de.uniba.rz.io.rpc.TicketBatchResponse result) {
+      if (ticketsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          tickets_ = java.util.Collections.unmodifiableList(tickets_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.tickets_ = tickets_;
+      } else {
+        result.tickets_ = ticketsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(de.uniba.rz.io.rpc.TicketBatchResponse result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof de.uniba.rz.io.rpc.TicketBatchResponse) {
+        return mergeFrom((de.uniba.rz.io.rpc.TicketBatchResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(de.uniba.rz.io.rpc.TicketBatchResponse other) {
+      if (other == de.uniba.rz.io.rpc.TicketBatchResponse.getDefaultInstance()) return this;
+      if (ticketsBuilder_ == null) {
+        if (!other.tickets_.isEmpty()) {
+          if (tickets_.isEmpty()) {
+            tickets_ = other.tickets_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTicketsIsMutable();
+            tickets_.addAll(other.tickets_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.tickets_.isEmpty()) {
+          if (ticketsBuilder_.isEmpty()) {
+            ticketsBuilder_.dispose();
+            ticketsBuilder_ = null;
+            tickets_ = other.tickets_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            ticketsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getTicketsFieldBuilder() : null;
+          } else {
+            ticketsBuilder_.addAllMessages(other.tickets_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              de.uniba.rz.io.rpc.TicketResponse m =
+                  input.readMessage(
+                      de.uniba.rz.io.rpc.TicketResponse.parser(),
+                      extensionRegistry);
+              if (ticketsBuilder_ == null) {
+                ensureTicketsIsMutable();
+                tickets_.add(m);
+              } else {
+                ticketsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<de.uniba.rz.io.rpc.TicketResponse> tickets_ =
+      java.util.Collections.emptyList();
+    private void ensureTicketsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        tickets_ = new java.util.ArrayList<de.uniba.rz.io.rpc.TicketResponse>(tickets_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        de.uniba.rz.io.rpc.TicketResponse, de.uniba.rz.io.rpc.TicketResponse.Builder, de.uniba.rz.io.rpc.TicketResponseOrBuilder> ticketsBuilder_;
+
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public java.util.List<de.uniba.rz.io.rpc.TicketResponse> getTicketsList() {
+      if (ticketsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(tickets_);
+      } else {
+        return ticketsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public int getTicketsCount() {
+      if (ticketsBuilder_ == null) {
+        return tickets_.size();
+      } else {
+        return ticketsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public de.uniba.rz.io.rpc.TicketResponse getTickets(int index) {
+      if (ticketsBuilder_ == null) {
+        return tickets_.get(index);
+      } else {
+        return ticketsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder setTickets(
+        int index, de.uniba.rz.io.rpc.TicketResponse value) {
+      if (ticketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTicketsIsMutable();
+        tickets_.set(index, value);
+        onChanged();
+      } else {
+        ticketsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder setTickets(
+        int index, de.uniba.rz.io.rpc.TicketResponse.Builder builderForValue) {
+      if (ticketsBuilder_ == null) {
+        ensureTicketsIsMutable();
+        tickets_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        ticketsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder addTickets(de.uniba.rz.io.rpc.TicketResponse value) {
+      if (ticketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTicketsIsMutable();
+        tickets_.add(value);
+        onChanged();
+      } else {
+        ticketsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder addTickets(
+        int index, de.uniba.rz.io.rpc.TicketResponse value) {
+      if (ticketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTicketsIsMutable();
+        tickets_.add(index, value);
+        onChanged();
+      } else {
+        ticketsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder addTickets(
+        de.uniba.rz.io.rpc.TicketResponse.Builder builderForValue) {
+      if (ticketsBuilder_ == null) {
+        ensureTicketsIsMutable();
+        tickets_.add(builderForValue.build());
+        onChanged();
+      } else {
+        ticketsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder addTickets(
+        int index, de.uniba.rz.io.rpc.TicketResponse.Builder builderForValue) {
+      if (ticketsBuilder_ == null) {
+        ensureTicketsIsMutable();
+        tickets_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        ticketsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder addAllTickets(
+        java.lang.Iterable<? extends de.uniba.rz.io.rpc.TicketResponse> values) {
+      if (ticketsBuilder_ == null) {
+        ensureTicketsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, tickets_);
+        onChanged();
+      } else {
+        ticketsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder clearTickets() {
+      if (ticketsBuilder_ == null) {
+        tickets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        ticketsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public Builder removeTickets(int index) {
+      if (ticketsBuilder_ == null) {
+        ensureTicketsIsMutable();
+        tickets_.remove(index);
+        onChanged();
+      } else {
+        ticketsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public de.uniba.rz.io.rpc.TicketResponse.Builder getTicketsBuilder(
+        int index) {
+      return getTicketsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public de.uniba.rz.io.rpc.TicketResponseOrBuilder getTicketsOrBuilder(
+        int index) {
+      if (ticketsBuilder_ == null) {
+        return tickets_.get(index);  } else {
+        return ticketsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public java.util.List<? extends de.uniba.rz.io.rpc.TicketResponseOrBuilder> 
+         getTicketsOrBuilderList() {
+      if (ticketsBuilder_ != null) {
+        return ticketsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(tickets_);
+      }
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public de.uniba.rz.io.rpc.TicketResponse.Builder addTicketsBuilder() {
+      return getTicketsFieldBuilder().addBuilder(
+          de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public de.uniba.rz.io.rpc.TicketResponse.Builder addTicketsBuilder(
+        int index) {
+      return getTicketsFieldBuilder().addBuilder(
+          index, de.uniba.rz.io.rpc.TicketResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .TicketResponse tickets = 1;</code>
+     */
+    public java.util.List<de.uniba.rz.io.rpc.TicketResponse.Builder> 
+         getTicketsBuilderList() {
+      return getTicketsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        de.uniba.rz.io.rpc.TicketResponse, de.uniba.rz.io.rpc.TicketResponse.Builder, de.uniba.rz.io.rpc.TicketResponseOrBuilder> 
+        getTicketsFieldBuilder() {
+      if (ticketsBuilder_ == null) {
+        ticketsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            de.uniba.rz.io.rpc.TicketResponse, de.uniba.rz.io.rpc.TicketResponse.Builder, de.uniba.rz.io.rpc.TicketResponseOrBuilder>(
+                tickets_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        tickets_ = null;
+      }
+      return ticketsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:TicketBatchResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:TicketBatchResponse)
+  private static final de.uniba.rz.io.rpc.TicketBatchResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new de.uniba.rz.io.rpc.TicketBatchResponse();
+  }
+
+  public static de.uniba.rz.io.rpc.TicketBatchResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<TicketBatchResponse>
+      PARSER = new com.google.protobuf.AbstractParser<TicketBatchResponse>() {
+    @java.lang.Override
+    public TicketBatchResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<TicketBatchResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<TicketBatchResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public de.uniba.rz.io.rpc.TicketBatchResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -29,11 +29,56 @@ public final class TicketManagement {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_TicketList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TicketPageRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TicketPageRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TicketPageResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TicketPageResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TriageRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TriageRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TriageResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TriageResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StatisticsResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StatisticsResponse_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_TicketRequest_descriptor;
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_TicketRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StatusBatchRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StatusBatchRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StatusBatchResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StatusBatchResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TicketBatchRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TicketBatchRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TicketBatchResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TicketBatchResponse_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_TicketResponse_descriptor;
   static final 
@@ -55,24 +100,45 @@ public final class TicketManagement {
     java.lang.String[] descriptorData = {
       "\n\026ticketManagement.proto\"\007\n\005Empty\"\034\n\010Tic" +
       "ketId\022\020\n\010ticketId\030\001 \001(\005\" \n\nTicketList\022\022\n" +
-      "\nallTickets\030\001 \001(\014\"u\n\rTicketRequest\022\020\n\010re" +
-      "porter\030\001 \001(\t\022\r\n\005topic\030\002 \001(\t\022\023\n\013descripti" +
-      "on\030\003 \001(\t\022\014\n\004type\030\004 \001(\t\022\020\n\010priority\030\005 \001(\t" +
-      "\022\016\n\006status\030\006 \001(\t\"\202\001\n\016TicketResponse\022\n\n\002i" +
-      "d\030\001 \001(\005\022\020\n\010reporter\030\002 \001(\t\022\r\n\005topic\030\003 \001(\t" +
-      "\022\023\n\013description\030\004 \001(\t\022\014\n\004type\030\005 \001(\t\022\020\n\010p" +
-      "riority\030\006 \001(\t\022\016\n\006status\030\007 \001(\t\"(\n\024AutoNew" +
-      "TicketRequest\022\020\n\010ticketId\030\001 \001(\0052\336\002\n\rTick" +
-      "etService\0221\n\014createTicket\022\016.TicketReques" +
-      "t\032\017.TicketResponse\"\000\022%\n\014getAllTicket\022\006.E" +
-      "mpty\032\013.TicketList\"\000\022-\n\rgetTicketById\022\t.T" +
-      "icketId\032\017.TicketResponse\"\000\022,\n\014acceptTick" +
-      "et\022\t.TicketId\032\017.TicketResponse\"\000\022,\n\014reje" +
-      "ctTicket\022\t.TicketId\032\017.TicketResponse\"\000\022+" +
-      "\n\013closeTicket\022\t.TicketId\032\017.TicketRespons" +
-      "e\"\000\022;\n\017StreamNewTicket\022\025.AutoNewTicketRe" +
-      "quest\032\013.TicketList\"\000(\0010\001B.\n\022de.uniba.rz." +
-      "io.rpcB\020TicketManagementP\001\242\002\003RTGb\006proto3"
+      "\nallTickets\030\001 \001(\014\"6\n\021TicketPageRequest\022\017" +
+      "\n\007afterId\030\001 \001(\005\022\020\n\010pageSize\030\002 \001(\005\"Y\n\022Tic" +
+      "ketPageResponse\022 \n\007tickets\030\001 \003(\0132\017.Ticke" +
+      "tResponse\022\023\n\013nextAfterId\030\002 \001(\005\022\014\n\004last\030\003" +
+      " \001(\010\"\036\n\rTriageRequest\022\r\n\005limit\030\001 \001(\005\"2\n\016" +
+      "TriageResponse\022 \n\007tickets\030\001 \003(\0132\017.Ticket" +
+      "Response\"$\n\022StatisticsResponse\022\016\n\006counts" +
+      "\030\001 \003(\003\"u\n\rTicketRequest\022\020\n\010reporter\030\001 \001(" +
+      "\t\022\r\n\005topic\030\002 \001(\t\022\023\n\013description\030\003 \001(\t\022\014\n" +
+      "\004type\030\004 \001(\t\022\020\n\010priority\030\005 \001(\t\022\016\n\006status\030" +
+      "\006 \001(\t\"7\n\022StatusBatchRequest\022\021\n\tticketIds" +
+      "\030\001 \003(\005\022\016\n\006status\030\002 \001(\t\"Z\n\023StatusBatchRes" +
+      "ponse\022\021\n\tticketIds\030\001 \003(\005\022\016\n\006errors\030\002 \003(\t" +
+      "\022 \n\007tickets\030\003 \003(\0132\017.TicketResponse\"5\n\022Ti" +
+      "cketBatchRequest\022\037\n\007tickets\030\001 \003(\0132\016.Tick" +
+      "etRequest\"7\n\023TicketBatchResponse\022 \n\007tick" +
+      "ets\030\001 \003(\0132\017.TicketResponse\"\202\001\n\016TicketRes" +
+      "ponse\022\n\n\002id\030\001 \001(\005\022\020\n\010reporter\030\002 \001(\t\022\r\n\005t" +
+      "opic\030\003 \001(\t\022\023\n\013description\030\004 \001(\t\022\014\n\004type\030" +
+      "\005 \001(\t\022\020\n\010priority\030\006 \001(\t\022\016\n\006status\030\007 \001(\t\"" +
+      "(\n\024AutoNewTicketRequest\022\020\n\010ticketId\030\001 \001(" +
+      "\0052\206\005\n\rTicketService\0221\n\014createTicket\022\016.Ti" +
+      "cketRequest\032\017.TicketResponse\"\000\022<\n\rcreate" +
+      "Tickets\022\023.TicketBatchRequest\032\024.TicketBat" +
+      "chResponse\"\000\022%\n\014getAllTicket\022\006.Empty\032\013.T" +
+      "icketList\"\000\022:\n\rgetTicketPage\022\022.TicketPag" +
+      "eRequest\032\023.TicketPageResponse\"\000\0227\n\022getTi" +
+      "cketsToTriage\022\016.TriageRequest\032\017.TriageRe" +
+      "sponse\"\000\022.\n\rgetStatistics\022\006.Empty\032\023.Stat" +
+      "isticsResponse\"\000\022-\n\rgetTicketById\022\t.Tick" +
+      "etId\032\017.TicketResponse\"\000\022,\n\014acceptTicket\022" +
+      "\t.TicketId\032\017.TicketResponse\"\000\022,\n\014rejectT" +
+      "icket\022\t.TicketId\032\017.TicketResponse\"\000\022+\n\013c" +
+      "loseTicket\022\t.TicketId\032\017.TicketResponse\"\000" +
+      "\022C\n\024updateTicketStatuses\022\023.StatusBatchRe" +
+      "quest\032\024.StatusBatchResponse\"\000\022;\n\017StreamN" +
+      "ewTicket\022\025.AutoNewTicketRequest\032\013.Ticket" +
+      "List\"\000(\0010\001B.\n\022de.uniba.rz.io.rpcB\020Ticket" +
+      "ManagementP\001\242\002\003RTGb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -96,20 +162,74 @@ public final class TicketManagement {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TicketList_descriptor,
         new java.lang.String[] { "AllTickets", });
-    internal_static_TicketRequest_descriptor =
+    internal_static_TicketPageRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_TicketPageRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TicketPageRequest_descriptor,
+        new java.lang.String[] { "AfterId", "PageSize", });
+    internal_static_TicketPageResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_TicketPageResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TicketPageResponse_descriptor,
+        new java.lang.String[] { "Tickets", "NextAfterId", "Last", });
+    internal_static_TriageRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_TriageRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TriageRequest_descriptor,
+        new java.lang.String[] { "Limit", });
+    internal_static_TriageResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_TriageResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TriageResponse_descriptor,
+        new java.lang.String[] { "Tickets", });
+    internal_static_StatisticsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_StatisticsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StatisticsResponse_descriptor,
+        new java.lang.String[] { "Counts", });
+    internal_static_TicketRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
     internal_static_TicketRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TicketRequest_descriptor,
         new java.lang.String[] { "Reporter", "Topic", "Description", "Type", "Priority", "Status", });
+    internal_static_StatusBatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_StatusBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StatusBatchRequest_descriptor,
+        new java.lang.String[] { "TicketIds", "Status", });
+    internal_static_StatusBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_StatusBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StatusBatchResponse_descriptor,
+        new java.lang.String[] { "TicketIds", "Errors", "Tickets", });
+    internal_static_TicketBatchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_TicketBatchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TicketBatchRequest_descriptor,
+        new java.lang.String[] { "Tickets", });
+    internal_static_TicketBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_TicketBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TicketBatchResponse_descriptor,
+        new java.lang.String[] { "Tickets", });
     internal_static_TicketResponse_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_TicketResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TicketResponse_descriptor,
         new java.lang.String[] { "Id", "Reporter", "Topic", "Description", "Type", "Priority", "Status", });
     internal_static_AutoNewTicketRequest_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_AutoNewTicketRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AutoNewTicketRequest_descriptor,
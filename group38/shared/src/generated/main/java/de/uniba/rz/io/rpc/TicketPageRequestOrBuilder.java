@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface TicketPageRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TicketPageRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 afterId = 1;</code>
+   * @return The afterId.
+   */
+  int getAfterId();
+
+  /**
+   * <code>int32 pageSize = 2;</code>
+   * @return The pageSize.
+   */
+  int getPageSize();
+}
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface TicketPageResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TicketPageResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  java.util.List<de.uniba.rz.io.rpc.TicketResponse> 
+      getTicketsList();
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  de.uniba.rz.io.rpc.TicketResponse getTickets(int index);
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  int getTicketsCount();
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  java.util.List<? extends de.uniba.rz.io.rpc.TicketResponseOrBuilder> 
+      getTicketsOrBuilderList();
+  /**
+   * <code>repeated .TicketResponse tickets = 1;</code>
+   */
+  de.uniba.rz.io.rpc.TicketResponseOrBuilder getTicketsOrBuilder(
+      int index);
+
+  /**
+   * <code>int32 nextAfterId = 2;</code>
+   * @return The nextAfterId.
+   */
+  int getNextAfterId();
+
+  /**
+   * <code>bool last = 3;</code>
+   * @return The last.
+   */
+  boolean getLast();
+}
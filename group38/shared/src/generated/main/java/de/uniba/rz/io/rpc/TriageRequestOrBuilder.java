@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ticketManagement.proto
+
+package de.uniba.rz.io.rpc;
+
+public interface TriageRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:TriageRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 limit = 1;</code>
+   * @return The limit.
+   */
+  int getLimit();
+}
@@ -3,5 +3,5 @@ package de.uniba.rz.entities.amqp;
 import java.io.Serializable;
 
 public enum MessageType implements Serializable {
-    CREATE,UPDATE,GET_ALL,GET_ONE
+    CREATE,UPDATE,GET_ALL,GET_ONE,GET_PAGE,GET_STATISTICS,CREATE_BATCH,UPDATE_BATCH,SEARCH
 }
@@ -2,15 +2,22 @@ package de.uniba.rz.entities.amqp;
 
 import de.uniba.rz.entities.ticket.Status;
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.Type;
 
 import java.io.Serializable;
+import java.util.List;
 
 public class Request implements Serializable {
 
     private Ticket ticket;
+    private List<Ticket> tickets;
     private int ticketId;
+    private int[] ticketIds;
     private Status status;
     private MessageType messageType;
+    private int pageSize;
+    private String query;
+    private Type type;
 
     public Request() {
     }
@@ -29,12 +36,50 @@ public class Request implements Serializable {
         this.messageType = messageType;
     }
 
+    /**
+     * Creates a {@link MessageType#CREATE_BATCH} request.
+     */
+    public Request(List<Ticket> tickets) {
+        this.messageType = MessageType.CREATE_BATCH;
+        this.tickets = tickets;
+    }
+
+    /**
+     * Creates a {@link MessageType#UPDATE_BATCH} request.
+     */
+    public Request(int[] ticketIds, Status status) {
+        this.messageType = MessageType.UPDATE_BATCH;
+        this.ticketIds = ticketIds;
+        this.status = status;
+    }
+
     public Request(MessageType messageType, int ticketId, Status status) {
         this.messageType = messageType;
         this.ticketId = ticketId;
         this.status = status;
     }
 
+    /**
+     * Creates a {@link MessageType#GET_PAGE} request, the ticket id holds the
+     * cursor of the page.
+     */
+    public Request(int afterId, int pageSize) {
+        this.messageType = MessageType.GET_PAGE;
+        this.ticketId = afterId;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Creates a {@link MessageType#SEARCH} request for the tickets matching
+     * the words of the query, only of the given type unless it is
+     * {@code null}.
+     */
+    public Request(String query, Type type) {
+        this.messageType = MessageType.SEARCH;
+        this.query = query;
+        this.type = type;
+    }
+
     public Ticket getTicket() {
         return ticket;
     }
@@ -43,6 +88,14 @@ public class Request implements Serializable {
         this.ticket = ticket;
     }
 
+    public List<Ticket> getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(List<Ticket> tickets) {
+        this.tickets = tickets;
+    }
+
     public int getTicketId() {
         return ticketId;
     }
@@ -51,6 +104,14 @@ public class Request implements Serializable {
         this.ticketId = ticketId;
     }
 
+    public int[] getTicketIds() {
+        return ticketIds;
+    }
+
+    public void setTicketIds(int[] ticketIds) {
+        this.ticketIds = ticketIds;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -67,13 +128,42 @@ public class Request implements Serializable {
         this.messageType = messageType;
     }
 
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
     @Override
     public String toString() {
         return "Request{" +
                 "ticket=" + ticket +
+                ", tickets=" + (tickets == null ? null : tickets.size()) +
                 ", ticketId=" + ticketId +
+                ", ticketIds=" + (ticketIds == null ? null : ticketIds.length) +
                 ", status=" + status +
                 ", messageType=" + messageType +
+                ", pageSize=" + pageSize +
+                ", query=" + query +
+                ", type=" + type +
                 '}';
     }
 }
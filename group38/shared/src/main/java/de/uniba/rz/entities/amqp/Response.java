@@ -1,12 +1,20 @@
 package de.uniba.rz.entities.amqp;
 
 import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
 
 import java.io.Serializable;
 import java.util.List;
 
 public class Response implements Serializable {
     List<Ticket> tickets;
+    TicketPage page;
+    TicketStatistics statistics;
+    TransitionResult transitionResult;
+    // set instead of the payload when the server rejected the request
+    String error;
 
     public Response() {
     }
@@ -23,10 +31,46 @@ public class Response implements Serializable {
         this.tickets = tickets;
     }
 
+    public TicketPage getPage() {
+        return page;
+    }
+
+    public void setPage(TicketPage page) {
+        this.page = page;
+    }
+
+    public TicketStatistics getStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(TicketStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public TransitionResult getTransitionResult() {
+        return transitionResult;
+    }
+
+    public void setTransitionResult(TransitionResult transitionResult) {
+        this.transitionResult = transitionResult;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
     @Override
     public String toString() {
         return "Response{" +
                 "tickets=" + tickets +
+                ", page=" + page +
+                ", statistics=" + statistics +
+                ", transitionResult=" + transitionResult +
+                ", error='" + error + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,73 @@
+package de.uniba.rz.entities.ticket;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of {@link Ticket}s ordered by id.
+ *
+ * The next page is requested with {@code nextAfterId} as cursor, i.e., it
+ * starts with the first ticket whose id is greater than it. Tickets created
+ * while paging do not shift the pages already read.
+ */
+public class TicketPage implements Serializable {
+
+	private static final long serialVersionUID = 4630218245173364701L;
+
+	private List<Ticket> tickets = new ArrayList<>();
+	private int nextAfterId;
+	private boolean last;
+
+	public TicketPage() {}
+
+	public TicketPage(List<Ticket> tickets, int nextAfterId, boolean last) {
+		this.tickets = tickets;
+		this.nextAfterId = nextAfterId;
+		this.last = last;
+	}
+
+	/**
+	 * Builds the page following {@code afterId} from tickets sorted by id
+	 * which all have a greater id. One ticket more than {@code pageSize} may
+	 * be passed to tell whether there is a next page.
+	 */
+	public static TicketPage of(List<Ticket> sortedTickets, int afterId, int pageSize) {
+		boolean hasMore = sortedTickets.size() > pageSize;
+		List<Ticket> tickets = new ArrayList<>(hasMore ? sortedTickets.subList(0, pageSize) : sortedTickets);
+		int nextAfterId = tickets.isEmpty() ? afterId : tickets.get(tickets.size() - 1).getId();
+		return new TicketPage(tickets, nextAfterId, !hasMore);
+	}
+
+	public List<Ticket> getTickets() {
+		return tickets;
+	}
+
+	public void setTickets(List<Ticket> tickets) {
+		this.tickets = tickets;
+	}
+
+	public int getNextAfterId() {
+		return nextAfterId;
+	}
+
+	public void setNextAfterId(int nextAfterId) {
+		this.nextAfterId = nextAfterId;
+	}
+
+	/**
+	 * @return {@code true} if no tickets follow this page
+	 */
+	public boolean isLast() {
+		return last;
+	}
+
+	public void setLast(boolean last) {
+		this.last = last;
+	}
+
+	@Override
+	public String toString() {
+		return "TicketPage [tickets=" + tickets.size() + ", nextAfterId=" + nextAfterId + ", last=" + last + "]";
+	}
+}
@@ -0,0 +1,81 @@
+package de.uniba.rz.entities.ticket;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Number of {@link Ticket}s per combination of {@link Status}, {@link Type}
+ * and {@link Priority}.
+ *
+ * The counts are laid out by status, then type, then priority, as computed by
+ * {@link #index(Status, Type, Priority)}, so the whole table is a single array
+ * of 48 numbers no matter how many tickets there are.
+ */
+public class TicketStatistics implements Serializable {
+
+	private static final long serialVersionUID = -2754172383304956179L;
+
+	public static final int SIZE = Status.values().length * Type.values().length * Priority.values().length;
+
+	private long[] counts = new long[SIZE];
+
+	public TicketStatistics() {}
+
+	public TicketStatistics(long[] counts) {
+		if (counts.length != SIZE) {
+			throw new IllegalArgumentException("Expected " + SIZE + " counts, but got " + counts.length);
+		}
+		this.counts = counts;
+	}
+
+	/**
+	 * @return the position of the count for the given combination
+	 */
+	public static int index(Status status, Type type, Priority priority) {
+		return (status.ordinal() * Type.values().length + type.ordinal()) * Priority.values().length
+				+ priority.ordinal();
+	}
+
+	/**
+	 * Sums the counts of all combinations matching the given values,
+	 * {@code null} matches every value.
+	 */
+	public long count(Status status, Type type, Priority priority) {
+		long sum = 0;
+		for (Status s : Status.values()) {
+			for (Type t : Type.values()) {
+				for (Priority p : Priority.values()) {
+					if ((status == null || status == s) && (type == null || type == t)
+							&& (priority == null || priority == p)) {
+						sum += counts[index(s, t, p)];
+					}
+				}
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * @return the number of all tickets
+	 */
+	public long total() {
+		return Arrays.stream(counts).sum();
+	}
+
+	public long[] getCounts() {
+		return counts;
+	}
+
+	public void setCounts(long[] counts) {
+		this.counts = counts;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("TicketStatistics [total=" + total());
+		for (Status status : Status.values()) {
+			builder.append(", ").append(status).append('=').append(count(status, null, null));
+		}
+		return builder.append(']').toString();
+	}
+}
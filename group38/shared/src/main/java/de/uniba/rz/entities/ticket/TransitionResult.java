@@ -0,0 +1,98 @@
+package de.uniba.rz.entities.ticket;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of changing the {@link Status} of several {@link Ticket}s at once.
+ *
+ * Every requested id has an entry in {@code errors} and in {@code tickets} at
+ * the same position. If the ticket changed its status, the error is
+ * {@code null} and the ticket holds it after the change, otherwise the error
+ * holds the reason and the ticket is {@code null}.
+ */
+public class TransitionResult implements Serializable {
+
+	private static final long serialVersionUID = -6348197450672831825L;
+
+	private int[] ticketIds = new int[0];
+	private String[] errors = new String[0];
+	private List<Ticket> tickets = new ArrayList<>();
+
+	public TransitionResult() {}
+
+	public TransitionResult(int[] ticketIds) {
+		this.ticketIds = ticketIds;
+		this.errors = new String[ticketIds.length];
+		this.tickets = new ArrayList<>(Collections.nCopies(ticketIds.length, null));
+	}
+
+	/**
+	 * Records the ticket at {@code index} of the request after it changed its
+	 * status.
+	 */
+	public void succeed(int index, Ticket ticket) {
+		tickets.set(index, ticket);
+	}
+
+	/**
+	 * Records why the ticket at {@code index} of the request did not change
+	 * its status.
+	 */
+	public void fail(int index, String reason) {
+		errors[index] = reason;
+		tickets.set(index, null);
+	}
+
+	public boolean succeeded(int index) {
+		return errors[index] == null;
+	}
+
+	/**
+	 * @return the number of tickets which did not change their status
+	 */
+	public int failureCount() {
+		return (int) Arrays.stream(errors).filter(error -> error != null).count();
+	}
+
+	public int[] getTicketIds() {
+		return ticketIds;
+	}
+
+	public void setTicketIds(int[] ticketIds) {
+		this.ticketIds = ticketIds;
+	}
+
+	public String[] getErrors() {
+		return errors;
+	}
+
+	public void setErrors(String[] errors) {
+		this.errors = errors;
+	}
+
+	public List<Ticket> getTickets() {
+		return tickets;
+	}
+
+	/**
+	 * @return the tickets which changed their status, in request order
+	 */
+	public List<Ticket> changedTickets() {
+		return tickets.stream().filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	public void setTickets(List<Ticket> tickets) {
+		this.tickets = tickets;
+	}
+
+	@Override
+	public String toString() {
+		return "TransitionResult [requested=" + ticketIds.length + ", failed=" + failureCount() + "]";
+	}
+}
@@ -0,0 +1,111 @@
+package de.uniba.rz.entities.udp;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Puts messages cut by {@link Fragmenter} back together.
+ * <p>
+ * Fragments may arrive in any order and more than once. A message that is
+ * still incomplete {@code timeoutMillis} after its first fragment arrived is
+ * dropped. Missing fragments are not requested again, the sender paces large
+ * messages instead so they are rarely lost to a full receive buffer. Not
+ * thread-safe, each receiving socket uses its own assembler.
+ */
+public final class FragmentAssembler {
+
+    private final long timeoutMillis;
+    // message id -> fragments received so far
+    private final Map<Integer, PartialMessage> partials = new HashMap<>();
+
+    public FragmentAssembler(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Adds a received datagram, which is consumed.
+     * <p>
+     * A message of a single fragment is returned as a slice of
+     * {@code datagram} without copying, so it has to be decoded before the
+     * receive buffer is reused.
+     *
+     * @return the complete message, or {@code null} while fragments are missing
+     * @throws IllegalArgumentException if the datagram is not a fragment
+     */
+    public ByteBuffer add(ByteBuffer datagram, long now) {
+        expire(now);
+        if (datagram.remaining() < Fragmenter.HEADER_SIZE) {
+            throw new IllegalArgumentException("Datagram of " + datagram.remaining() + " bytes is shorter than the fragment header");
+        }
+        int messageId = datagram.getInt();
+        int index = Short.toUnsignedInt(datagram.getShort());
+        int count = Short.toUnsignedInt(datagram.getShort());
+        if (index >= count) {
+            throw new IllegalArgumentException("Fragment " + index + " of " + count);
+        }
+        if (count == 1) {
+            return datagram.slice();
+        }
+        PartialMessage partial = partials.computeIfAbsent(messageId, id -> new PartialMessage(count, now));
+        if (partial.fragments.length != count) {
+            partials.remove(messageId);
+            throw new IllegalArgumentException("Message " + messageId + " changed from " + partial.fragments.length
+                    + " to " + count + " fragments");
+        }
+        if (partial.fragments[index] == null) {
+            byte[] payload = new byte[datagram.remaining()];
+            datagram.get(payload);
+            partial.fragments[index] = payload;
+            partial.received++;
+            partial.length += payload.length;
+        }
+        if (partial.received < count) {
+            return null;
+        }
+        partials.remove(messageId);
+        ByteBuffer message = ByteBuffer.allocate(partial.length);
+        for (byte[] payload : partial.fragments) {
+            message.put(payload);
+        }
+        return message.flip();
+    }
+
+    /**
+     * Drops incomplete messages whose first fragment arrived more than the
+     * timeout before {@code now}.
+     *
+     * @return the number of dropped messages
+     */
+    public int expire(long now) {
+        int expired = 0;
+        for (Iterator<PartialMessage> it = partials.values().iterator(); it.hasNext(); ) {
+            if (now - it.next().firstArrival > timeoutMillis) {
+                it.remove();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return the number of incomplete messages
+     */
+    public int pendingMessages() {
+        return partials.size();
+    }
+
+    private static final class PartialMessage {
+
+        private final byte[][] fragments;
+        private final long firstArrival;
+        private int received;
+        private int length;
+
+        private PartialMessage(int count, long firstArrival) {
+            this.fragments = new byte[count][];
+            this.firstArrival = firstArrival;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package de.uniba.rz.entities.udp;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Cuts an encoded message into datagrams of at most {@code mtu} bytes.
+ * <p>
+ * Every fragment starts with a header of the int message id, the unsigned
+ * short index of the fragment and the unsigned short number of fragments,
+ * followed by the next slice of the message. A message always has at least
+ * one fragment, so the receiver can treat every datagram the same way.
+ * {@link FragmentAssembler} puts the message back together.
+ */
+public final class Fragmenter {
+
+    public static final int HEADER_SIZE = Integer.BYTES + 2 * Short.BYTES;
+    public static final int MAX_FRAGMENTS = 0xFFFF;
+
+    private final int mtu;
+
+    public Fragmenter(int mtu) {
+        if (mtu <= HEADER_SIZE) {
+            throw new IllegalArgumentException("MTU must be larger than the fragment header of " + HEADER_SIZE + " bytes");
+        }
+        this.mtu = mtu;
+    }
+
+    public int getMtu() {
+        return mtu;
+    }
+
+    /**
+     * @return the number of fragments a message of {@code length} bytes is cut into
+     * @throws IllegalArgumentException if the message needs more than {@link #MAX_FRAGMENTS}
+     */
+    public int fragmentCount(int length) {
+        int payload = mtu - HEADER_SIZE;
+        int count = Math.max(1, (length + payload - 1) / payload);
+        if (count > MAX_FRAGMENTS) {
+            throw new IllegalArgumentException("Message of " + length + " bytes needs more than " + MAX_FRAGMENTS
+                    + " fragments of " + mtu + " bytes");
+        }
+        return count;
+    }
+
+    /**
+     * Writes fragment {@code index} of the message between position and limit
+     * of {@code message} into {@code fragment}, which is cleared first and
+     * flipped afterwards. Neither position nor limit of {@code message} change.
+     *
+     * @param fragment a buffer of at least {@link #getMtu()} bytes, reused for
+     *                 all fragments of a message
+     */
+    public void fragment(int messageId, ByteBuffer message, int index, ByteBuffer fragment) {
+        int count = fragmentCount(message.remaining());
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Fragment " + index + " of " + count);
+        }
+        int payload = mtu - HEADER_SIZE;
+        int from = message.position() + index * payload;
+        int length = Math.min(payload, message.limit() - from);
+        fragment.clear();
+        fragment.putInt(messageId);
+        fragment.putShort((short) index);
+        fragment.putShort((short) count);
+        fragment.put(fragment.position(), message, from, length);
+        fragment.position(fragment.position() + length);
+        fragment.flip();
+    }
+}
@@ -5,6 +5,8 @@ import java.io.Serializable;
 public class Packet implements Serializable {
 
     private String type;
+    // set by the client and echoed in the reply, so replies can be matched to requests
+    private int requestId;
     private Object data;
 
     public Packet(String type, Object data) {
@@ -12,6 +14,12 @@ public class Packet implements Serializable {
         this.data = data;
     }
 
+    public Packet(String type, int requestId, Object data) {
+        this.type = type;
+        this.requestId = requestId;
+        this.data = data;
+    }
+
     public String getType() {
         return type;
     }
@@ -20,6 +28,14 @@ public class Packet implements Serializable {
         this.type = type;
     }
 
+    public int getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(int requestId) {
+        this.requestId = requestId;
+    }
+
     public Object getData() {
         return data;
     }
@@ -32,6 +48,7 @@ public class Packet implements Serializable {
     public String toString() {
         return "Packet{" +
                 "type='" + type + '\'' +
+                ", requestId=" + requestId +
                 ", data=" + data +
                 '}';
     }
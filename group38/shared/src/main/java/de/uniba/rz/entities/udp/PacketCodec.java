@@ -0,0 +1,564 @@
+package de.uniba.rz.entities.udp;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketException;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
+import de.uniba.rz.entities.ticket.Type;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary wire format of the {@link Packet}s exchanged over UDP.
+ * <p>
+ * A packet starts with the format {@link #VERSION}, the opcode of its type
+ * and its request id, followed by its data as one tagged value. Replies
+ * carry the type and request id of the request they answer. Ids and lengths are varints, signed numbers
+ * zigzag encoded, enums their ordinal plus one, and strings their UTF-8
+ * length plus one followed by the bytes, so zero stands for {@code null}.
+ * <p>
+ * Only the types listed here can be decoded, and every length is checked
+ * against the bytes left, so a malformed datagram fails with an
+ * {@link IllegalArgumentException} instead of allocating or instantiating
+ * anything else.
+ */
+public final class PacketCodec {
+
+    public static final byte VERSION = 2;
+
+    // the position of a type is its opcode, new types go to the end
+    private static final String[] TYPES = {
+            "createNewTicket", "createNewTickets", "getAllTickets", "getTicketPage", "getStatistics",
+            "getTicketById", "getTicketsByName", "getTicketsByNameAndType", "getTicketsByNamePrefix",
+            "getTicketsBySimilarName", "completeTopic", "acceptTicket", "rejectTicket", "closeTicket",
+            "acceptTickets", "rejectTickets", "closeTickets"
+    };
+    private static final Map<String, Integer> OPCODES = new HashMap<>();
+
+    private static final byte NULL = 0;
+    private static final byte INT = 1;
+    private static final byte STRING = 2;
+    private static final byte TICKET = 3;
+    private static final byte TICKET_LIST = 4;
+    private static final byte INT_ARRAY = 5;
+    private static final byte TYPE = 6;
+    private static final byte STRING_LIST = 7;
+    private static final byte TICKET_PAGE = 8;
+    private static final byte STATISTICS = 9;
+    private static final byte ERROR = 10;
+    private static final byte TRANSITION_RESULT = 11;
+
+    private static final Type[] TICKET_TYPES = Type.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    static {
+        for (int i = 0; i < TYPES.length; i++) {
+            OPCODES.put(TYPES[i], i);
+        }
+    }
+
+    private PacketCodec() {
+    }
+
+    /**
+     * @return the number of bytes {@link #encode(Packet, ByteBuffer)} writes
+     */
+    public static int encodedSize(Packet packet) {
+        opcodeOf(packet.getType());
+        return 2 + varIntSize(packet.getRequestId()) + valueSize(packet.getData());
+    }
+
+    /**
+     * Writes the packet at the position of the buffer.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    public static void encode(Packet packet, ByteBuffer buffer) {
+        buffer.put(VERSION);
+        buffer.put((byte) opcodeOf(packet.getType()));
+        putVarInt(buffer, packet.getRequestId());
+        putValue(buffer, packet.getData());
+    }
+
+    /**
+     * Encodes the packet into a new buffer of exactly its size, ready to be
+     * read.
+     */
+    public static ByteBuffer encode(Packet packet) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(packet));
+        encode(packet, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Reads a packet from the position to the limit of the buffer.
+     *
+     * @throws IllegalArgumentException if the bytes are no valid packet
+     */
+    public static Packet decode(ByteBuffer buffer) {
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported packet version " + version);
+            }
+            int opcode = buffer.get() & 0xff;
+            if (opcode >= TYPES.length) {
+                throw new IllegalArgumentException("Unknown opcode " + opcode);
+            }
+            int requestId = getVarInt(buffer);
+            Packet packet = new Packet(TYPES[opcode], requestId, getValue(buffer));
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException(buffer.remaining() + " bytes left after the packet");
+            }
+            return packet;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated packet", e);
+        }
+    }
+
+    private static int opcodeOf(String type) {
+        Integer opcode = OPCODES.get(type);
+        if (opcode == null) {
+            throw new IllegalArgumentException("Unknown packet type " + type);
+        }
+        return opcode;
+    }
+
+    // values
+
+    private static int valueSize(Object value) {
+        if (value == null) {
+            return 1;
+        } else if (value instanceof Integer) {
+            return 1 + varIntSize(zigZag((Integer) value));
+        } else if (value instanceof String) {
+            return 1 + stringSize((String) value);
+        } else if (value instanceof Ticket) {
+            return 1 + ticketSize((Ticket) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            return 1 + (isStringList(list) ? stringListSize(list) : ticketListSize(list));
+        } else if (value instanceof int[]) {
+            return 1 + intArraySize((int[]) value);
+        } else if (value instanceof Type) {
+            return 2;
+        } else if (value instanceof TicketPage) {
+            TicketPage page = (TicketPage) value;
+            return 1 + ticketListSize(page.getTickets()) + varIntSize(zigZag(page.getNextAfterId())) + 1;
+        } else if (value instanceof TicketStatistics) {
+            long[] counts = ((TicketStatistics) value).getCounts();
+            int size = 1 + varIntSize(counts.length);
+            for (long count : counts) {
+                size += varLongSize(count);
+            }
+            return size;
+        } else if (value instanceof TicketException) {
+            return 1 + stringSize(((TicketException) value).getMessage());
+        } else if (value instanceof TransitionResult) {
+            TransitionResult result = (TransitionResult) value;
+            int size = 1 + intArraySize(result.getTicketIds());
+            for (String error : result.getErrors()) {
+                size += stringSize(error);
+            }
+            return size + ticketListSize(result.changedTickets());
+        }
+        throw new IllegalArgumentException("Can not encode " + value.getClass().getName());
+    }
+
+    private static void putValue(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer.put(NULL);
+        } else if (value instanceof Integer) {
+            buffer.put(INT);
+            putVarInt(buffer, zigZag((Integer) value));
+        } else if (value instanceof String) {
+            buffer.put(STRING);
+            putString(buffer, (String) value);
+        } else if (value instanceof Ticket) {
+            buffer.put(TICKET);
+            putTicket(buffer, (Ticket) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            if (isStringList(list)) {
+                buffer.put(STRING_LIST);
+                putStringList(buffer, list);
+            } else {
+                buffer.put(TICKET_LIST);
+                putTicketList(buffer, list);
+            }
+        } else if (value instanceof int[]) {
+            buffer.put(INT_ARRAY);
+            putIntArray(buffer, (int[]) value);
+        } else if (value instanceof Type) {
+            buffer.put(TYPE);
+            putEnum(buffer, (Type) value);
+        } else if (value instanceof TicketPage) {
+            TicketPage page = (TicketPage) value;
+            buffer.put(TICKET_PAGE);
+            putTicketList(buffer, page.getTickets());
+            putVarInt(buffer, zigZag(page.getNextAfterId()));
+            buffer.put((byte) (page.isLast() ? 1 : 0));
+        } else if (value instanceof TicketStatistics) {
+            long[] counts = ((TicketStatistics) value).getCounts();
+            buffer.put(STATISTICS);
+            putVarInt(buffer, counts.length);
+            for (long count : counts) {
+                putVarLong(buffer, count);
+            }
+        } else if (value instanceof TicketException) {
+            buffer.put(ERROR);
+            putString(buffer, ((TicketException) value).getMessage());
+        } else if (value instanceof TransitionResult) {
+            TransitionResult result = (TransitionResult) value;
+            buffer.put(TRANSITION_RESULT);
+            putIntArray(buffer, result.getTicketIds());
+            for (String error : result.getErrors()) {
+                putString(buffer, error);
+            }
+            putTicketList(buffer, result.changedTickets());
+        } else {
+            throw new IllegalArgumentException("Can not encode " + value.getClass().getName());
+        }
+    }
+
+    private static Object getValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return unZigZag(getVarInt(buffer));
+            case STRING:
+                return getString(buffer);
+            case TICKET:
+                return getTicket(buffer);
+            case TICKET_LIST:
+                return getTicketList(buffer);
+            case INT_ARRAY:
+                return getIntArray(buffer);
+            case TYPE:
+                return getEnum(buffer, TICKET_TYPES);
+            case STRING_LIST: {
+                int count = getCount(buffer);
+                List<String> strings = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    strings.add(getString(buffer));
+                }
+                return strings;
+            }
+            case TICKET_PAGE: {
+                List<Ticket> tickets = getTicketList(buffer);
+                int nextAfterId = unZigZag(getVarInt(buffer));
+                return new TicketPage(tickets, nextAfterId, buffer.get() != 0);
+            }
+            case STATISTICS: {
+                int count = getCount(buffer);
+                if (count != TicketStatistics.SIZE) {
+                    throw new IllegalArgumentException("Expected " + TicketStatistics.SIZE + " counts, but got " + count);
+                }
+                long[] counts = new long[count];
+                for (int i = 0; i < count; i++) {
+                    counts[i] = getVarLong(buffer);
+                }
+                return new TicketStatistics(counts);
+            }
+            case ERROR:
+                return new TicketException(getString(buffer));
+            case TRANSITION_RESULT: {
+                TransitionResult result = new TransitionResult(getIntArray(buffer));
+                for (int i = 0; i < result.getTicketIds().length; i++) {
+                    String error = getString(buffer);
+                    if (error != null) {
+                        result.fail(i, error);
+                    }
+                }
+                // the changed tickets follow in request order
+                List<Ticket> changed = getTicketList(buffer);
+                if (changed.size() != result.getTicketIds().length - result.failureCount()) {
+                    throw new IllegalArgumentException("Expected " + (result.getTicketIds().length - result.failureCount())
+                            + " changed tickets, but got " + changed.size());
+                }
+                int next = 0;
+                for (int i = 0; i < result.getTicketIds().length; i++) {
+                    if (result.succeeded(i)) {
+                        result.succeed(i, changed.get(next++));
+                    }
+                }
+                return result;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Lists are told apart by their first element, an empty list decodes as
+     * an empty ticket list.
+     */
+    private static boolean isStringList(List<?> list) {
+        return !list.isEmpty() && list.get(0) instanceof String;
+    }
+
+    private static int stringListSize(List<?> strings) {
+        int size = varIntSize(strings.size());
+        for (Object string : strings) {
+            size += stringSize((String) string);
+        }
+        return size;
+    }
+
+    private static void putStringList(ByteBuffer buffer, List<?> strings) {
+        putVarInt(buffer, strings.size());
+        for (Object string : strings) {
+            putString(buffer, (String) string);
+        }
+    }
+
+    // tickets
+
+    private static int ticketSize(Ticket ticket) {
+        return varIntSize(zigZag(ticket.getId())) + stringSize(ticket.getReporter()) + stringSize(ticket.getTopic())
+                + stringSize(ticket.getDescription()) + 3;
+    }
+
+    private static void putTicket(ByteBuffer buffer, Ticket ticket) {
+        putVarInt(buffer, zigZag(ticket.getId()));
+        putString(buffer, ticket.getReporter());
+        putString(buffer, ticket.getTopic());
+        putString(buffer, ticket.getDescription());
+        putEnum(buffer, ticket.getType());
+        putEnum(buffer, ticket.getPriority());
+        putEnum(buffer, ticket.getStatus());
+    }
+
+    private static Ticket getTicket(ByteBuffer buffer) {
+        int id = unZigZag(getVarInt(buffer));
+        String reporter = getString(buffer);
+        String topic = getString(buffer);
+        String description = getString(buffer);
+        Type type = getEnum(buffer, TICKET_TYPES);
+        Priority priority = getEnum(buffer, PRIORITIES);
+        Status status = getEnum(buffer, STATUSES);
+        return new Ticket(id, reporter, topic, description, type, priority, status);
+    }
+
+    private static int ticketListSize(List<?> tickets) {
+        int size = varIntSize(tickets.size());
+        for (Object ticket : tickets) {
+            size += ticketSize((Ticket) ticket);
+        }
+        return size;
+    }
+
+    private static void putTicketList(ByteBuffer buffer, List<?> tickets) {
+        putVarInt(buffer, tickets.size());
+        for (Object ticket : tickets) {
+            putTicket(buffer, (Ticket) ticket);
+        }
+    }
+
+    private static List<Ticket> getTicketList(ByteBuffer buffer) {
+        int count = getCount(buffer);
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tickets.add(getTicket(buffer));
+        }
+        return tickets;
+    }
+
+    // primitives
+
+    private static int intArraySize(int[] values) {
+        int size = varIntSize(values.length);
+        for (int value : values) {
+            size += varIntSize(zigZag(value));
+        }
+        return size;
+    }
+
+    private static void putIntArray(ByteBuffer buffer, int[] values) {
+        putVarInt(buffer, values.length);
+        for (int value : values) {
+            putVarInt(buffer, zigZag(value));
+        }
+    }
+
+    private static int[] getIntArray(ByteBuffer buffer) {
+        int[] values = new int[getCount(buffer)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unZigZag(getVarInt(buffer));
+        }
+        return values;
+    }
+
+    private static void putEnum(ByteBuffer buffer, Enum<?> value) {
+        buffer.put((byte) (value == null ? 0 : value.ordinal() + 1));
+    }
+
+    private static <E extends Enum<E>> E getEnum(ByteBuffer buffer, E[] values) {
+        int ordinal = (buffer.get() & 0xff) - 1;
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown " + values[0].getDeclaringClass().getSimpleName() + " " + ordinal);
+        }
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Reads the number of elements that follow, each of them takes at least
+     * one byte.
+     */
+    private static int getCount(ByteBuffer buffer) {
+        int count = getVarInt(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Count " + count + " exceeds the packet");
+        }
+        return count;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varIntSize(int value) {
+        return varLongSize(value & 0xffffffffL);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7fL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        putVarLong(buffer, value & 0xffffffffL);
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7fL) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        long value = getVarLong(buffer);
+        if ((value & ~0xffffffffL) != 0) {
+            throw new IllegalArgumentException("Varint exceeds 32 bits");
+        }
+        return (int) value;
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint exceeds 64 bits");
+    }
+
+    // strings, encoded by hand to skip the intermediate byte array of getBytes
+
+    private static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return varIntSize(length + 1) + length;
+    }
+
+    /**
+     * @return the number of bytes {@code value.getBytes(UTF_8)} returns,
+     * without encoding the string
+     */
+    public static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates become '?', like String.getBytes does
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        putVarInt(buffer, utf8Length(value) + 1);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xc0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xf0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xe0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | c & 0x3f));
+            }
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = getVarInt(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("String of " + length + " bytes exceeds the packet");
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
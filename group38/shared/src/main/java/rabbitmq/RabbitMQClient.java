@@ -21,9 +21,14 @@ public class RabbitMQClient {
 
     public static final String EXCHANGE = "ticket_exchange";
     public static final String NEW_TICKET_QUEUE = "create_new_ticket";
+    public static final String NEW_TICKETS_QUEUE = "create_new_tickets";
     public static final String STATUS_QUEUE ="update_status";
+    public static final String STATUSES_QUEUE = "update_statuses";
     public static final String GET_ALL_TICKETS_QUEUE = "get_all_tickets";
     public static final String GET_TICKET_BY_ID_QUEUE = "get_ticket_by_id";
+    public static final String GET_TICKET_PAGE_QUEUE = "get_ticket_page";
+    public static final String GET_STATISTICS_QUEUE = "get_statistics";
+    public static final String SEARCH_TICKETS_QUEUE = "search_tickets";
     public static final String BINDING_QUEUE = "binding_queue";
 
     private final String queueName;
@@ -105,16 +110,41 @@ public class RabbitMQClient {
         return consume(NEW_TICKET_QUEUE);
     }
 
+    public Response sendCreateNewTicketsQueue(Request payload) {
+        send(payload, queueName, NEW_TICKETS_QUEUE);
+        return consume(NEW_TICKETS_QUEUE);
+    }
+
     public Response sendGetAllTicketsQueue(Request payload) {
         send(payload, queueName, GET_ALL_TICKETS_QUEUE);
         return consume(GET_ALL_TICKETS_QUEUE);
     }
 
+    public Response sendGetTicketPageQueue(Request payload) {
+        send(payload, queueName, GET_TICKET_PAGE_QUEUE);
+        return consume(GET_TICKET_PAGE_QUEUE);
+    }
+
+    public Response sendGetStatisticsQueue(Request payload) {
+        send(payload, queueName, GET_STATISTICS_QUEUE);
+        return consume(GET_STATISTICS_QUEUE);
+    }
+
+    public Response sendSearchTicketsQueue(Request payload) {
+        send(payload, queueName, SEARCH_TICKETS_QUEUE);
+        return consume(SEARCH_TICKETS_QUEUE);
+    }
+
     public Response sendStatusUpdateQueue(Request payload) {
         send(payload, queueName, STATUS_QUEUE);
         return consume(STATUS_QUEUE);
     }
 
+    public Response sendStatusesUpdateQueue(Request payload) {
+        send(payload, queueName, STATUSES_QUEUE);
+        return consume(STATUSES_QUEUE);
+    }
+
     public Response sendGetTicketByIdQueue(Request payload) {
         send(payload, queueName, GET_TICKET_BY_ID_QUEUE);
         return consume(GET_TICKET_BY_ID_QUEUE);
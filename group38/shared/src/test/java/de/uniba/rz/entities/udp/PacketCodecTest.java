@@ -0,0 +1,247 @@
+package de.uniba.rz.entities.udp;
+
+import de.uniba.rz.entities.ticket.Priority;
+import de.uniba.rz.entities.ticket.Status;
+import de.uniba.rz.entities.ticket.Ticket;
+import de.uniba.rz.entities.ticket.TicketException;
+import de.uniba.rz.entities.ticket.TicketPage;
+import de.uniba.rz.entities.ticket.TicketStatistics;
+import de.uniba.rz.entities.ticket.TransitionResult;
+import de.uniba.rz.entities.ticket.Type;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PacketCodecTest {
+
+    private static final Ticket TICKET = new Ticket(42, "reporter", "printer", "paper jam", Type.BUG, Priority.CRITICAL,
+            Status.ACCEPTED);
+
+    @Test
+    public void roundTripsNull() {
+        assertNull(roundTrip("getAllTickets", null));
+    }
+
+    @Test
+    public void roundTripsIntegers() {
+        for (int value : new int[]{0, 1, -1, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(value, roundTrip("getTicketById", value));
+        }
+    }
+
+    @Test
+    public void roundTripsStrings() {
+        assertEquals("", roundTrip("getTicketsByName", ""));
+        assertEquals("printer", roundTrip("getTicketsByName", "printer"));
+        assertEquals("Drucker über Büro €", roundTrip("getTicketsByName", "Drucker über Büro €"));
+    }
+
+    @Test
+    public void roundTripsSurrogatePairs() {
+        String emoji = "paper 📄 jam 😀";
+        assertEquals(emoji, roundTrip("getTicketsByName", emoji));
+    }
+
+    @Test
+    public void replacesUnpairedSurrogates() {
+        assertEquals("a?b?", roundTrip("getTicketsByName", "a\uD83Db\uDE00"));
+    }
+
+    @Test
+    public void roundTripsTickets() {
+        assertTicketEquals(TICKET, (Ticket) roundTrip("createNewTicket", TICKET));
+    }
+
+    @Test
+    public void roundTripsTicketsWithNullFields() {
+        Ticket empty = new Ticket(7, null, null, null, null, null, null);
+        assertTicketEquals(empty, (Ticket) roundTrip("createNewTicket", empty));
+    }
+
+    @Test
+    public void roundTripsTicketLists() {
+        List<Ticket> tickets = Arrays.asList(TICKET, new Ticket(43, "r", "t", "d", Type.TASK, Priority.MINOR));
+        assertTicketsEqual(tickets, list(roundTrip("createNewTickets", tickets)));
+        assertTrue(list(roundTrip("createNewTickets", new ArrayList<Ticket>())).isEmpty());
+    }
+
+    @Test
+    public void roundTripsIntArrays() {
+        int[] ids = {1, -5, 300, Integer.MAX_VALUE};
+        assertArrayEquals(ids, (int[]) roundTrip("acceptTickets", ids));
+        assertArrayEquals(new int[0], (int[]) roundTrip("acceptTickets", new int[0]));
+    }
+
+    @Test
+    public void roundTripsTypes() {
+        for (Type type : Type.values()) {
+            assertEquals(type, roundTrip("getTicketsByNameAndType", type));
+        }
+    }
+
+    @Test
+    public void roundTripsStringLists() {
+        List<String> topics = Arrays.asList("printer", null, "pr🖨nter");
+        assertEquals(topics, roundTrip("completeTopic", topics));
+    }
+
+    @Test
+    public void roundTripsTicketPages() {
+        TicketPage page = (TicketPage) roundTrip("getTicketPage", new TicketPage(Arrays.asList(TICKET), 42, false));
+        assertTicketsEqual(Arrays.asList(TICKET), page.getTickets());
+        assertEquals(42, page.getNextAfterId());
+        assertFalse(page.isLast());
+        assertTrue(((TicketPage) roundTrip("getTicketPage", new TicketPage(new ArrayList<>(), -1, true))).isLast());
+    }
+
+    @Test
+    public void roundTripsStatistics() {
+        long[] counts = new long[TicketStatistics.SIZE];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = i * 1_000_000_007L;
+        }
+        TicketStatistics statistics = (TicketStatistics) roundTrip("getStatistics", new TicketStatistics(counts));
+        assertArrayEquals(counts, statistics.getCounts());
+    }
+
+    @Test
+    public void roundTripsErrors() {
+        TicketException error = (TicketException) roundTrip("acceptTicket", new TicketException("Ticket ID 3 is unknown"));
+        assertEquals("Ticket ID 3 is unknown", error.getMessage());
+    }
+
+    @Test
+    public void roundTripsTransitionResults() {
+        TransitionResult result = new TransitionResult(new int[]{42, 3, 43});
+        result.succeed(0, TICKET);
+        result.fail(1, "Ticket ID 3 is unknown");
+        Ticket other = new Ticket(43, "r", "t", "d", Type.TASK, Priority.MINOR, Status.ACCEPTED);
+        result.succeed(2, other);
+
+        TransitionResult decoded = (TransitionResult) roundTrip("acceptTickets", result);
+
+        assertArrayEquals(result.getTicketIds(), decoded.getTicketIds());
+        assertArrayEquals(result.getErrors(), decoded.getErrors());
+        assertTicketEquals(TICKET, decoded.getTickets().get(0));
+        assertNull(decoded.getTickets().get(1));
+        assertTicketEquals(other, decoded.getTickets().get(2));
+    }
+
+    @Test
+    public void keepsTheRequestId() {
+        Packet decoded = PacketCodec.decode(PacketCodec.encode(new Packet("getTicketById", 300_000, 5)));
+        assertEquals("getTicketById", decoded.getType());
+        assertEquals(300_000, decoded.getRequestId());
+    }
+
+    @Test
+    public void encodedSizeMatchesTheEncoding() {
+        Packet packet = new Packet("createNewTicket", 9, TICKET);
+        assertEquals(PacketCodec.encodedSize(packet), PacketCodec.encode(packet).remaining());
+    }
+
+    @Test
+    public void rejectsTruncatedPackets() {
+        byte[] bytes = bytes(new Packet("createNewTicket", TICKET));
+        for (int length = 0; length < bytes.length; length++) {
+            assertRejected(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    public void rejectsTrailingBytes() {
+        byte[] bytes = bytes(new Packet("getTicketById", 5));
+        assertRejected(Arrays.copyOf(bytes, bytes.length + 1));
+    }
+
+    @Test
+    public void rejectsCountsBeyondThePacket() {
+        // a ticket list claiming a million tickets in a few bytes
+        byte[] header = Arrays.copyOf(bytes(new Packet("createNewTickets", null)), 3);
+        assertRejected(concat(header, new byte[]{4, (byte) 0xc0, (byte) 0x84, 0x3d, 0, 0}));
+        // a string longer than the packet
+        assertRejected(concat(header, new byte[]{2, 100, 'a', 'b'}));
+    }
+
+    @Test
+    public void rejectsUnknownTags() {
+        byte[] header = Arrays.copyOf(bytes(new Packet("getTicketById", null)), 3);
+        assertRejected(concat(header, new byte[]{99}));
+        assertRejected(concat(header, new byte[]{-1}));
+    }
+
+    @Test
+    public void rejectsUnknownEnumOrdinals() {
+        byte[] header = Arrays.copyOf(bytes(new Packet("getTicketsByNameAndType", null)), 3);
+        assertRejected(concat(header, new byte[]{6, (byte) (Type.values().length + 1)}));
+    }
+
+    @Test
+    public void rejectsUnknownVersionsAndOpcodes() {
+        byte[] bytes = bytes(new Packet("getAllTickets", null));
+        byte[] version = bytes.clone();
+        version[0] = PacketCodec.VERSION + 1;
+        assertRejected(version);
+        byte[] opcode = bytes.clone();
+        opcode[1] = (byte) 200;
+        assertRejected(opcode);
+    }
+
+    private static Object roundTrip(String type, Object data) {
+        return PacketCodec.decode(PacketCodec.encode(new Packet(type, data))).getData();
+    }
+
+    private static byte[] bytes(Packet packet) {
+        ByteBuffer buffer = PacketCodec.encode(packet);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+
+    private static void assertRejected(byte[] bytes) {
+        try {
+            PacketCodec.decode(ByteBuffer.wrap(bytes));
+            fail("Decoded " + Arrays.toString(bytes));
+        } catch (IllegalArgumentException expected) {
+            // malformed packets fail with exactly this exception
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Ticket> list(Object data) {
+        return (List<Ticket>) data;
+    }
+
+    private static void assertTicketsEqual(List<Ticket> expected, List<Ticket> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTicketEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private static void assertTicketEquals(Ticket expected, Ticket actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getReporter(), actual.getReporter());
+        assertEquals(expected.getTopic(), actual.getTopic());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getPriority(), actual.getPriority());
+        assertEquals(expected.getStatus(), actual.getStatus());
+    }
+}